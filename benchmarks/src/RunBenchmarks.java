@@ -0,0 +1,56 @@
+import java.io.IOException;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks, measuring throughput and profiling the allocation rate with the GC
+ * profiler. Any other JMH options given on the command line are kept, including a benchmark mode
+ * given with -bm in place of throughput.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class RunBenchmarks {
+	
+	/**
+	 * RunBenchmarks is a utility class and cannot be instantiated.
+	 */
+	private RunBenchmarks() {}
+	
+	/**
+	 * Runs the benchmarks.
+	 * 
+	 * @param args
+	 *            JMH command-line options.
+	 * @throws CommandLineOptionException
+	 *             If the options can't be understood.
+	 * @throws RunnerException
+	 *             If the benchmarks fail to run.
+	 * @throws IOException
+	 *             If the list of benchmarks can't be read.
+	 */
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException,
+			IOException {
+		final CommandLineOptions options = new CommandLineOptions(args);
+		// Listing and help are left to the usual JMH entry point.
+		if(options.shouldHelp() || options.shouldList() || options.shouldListProfilers()
+				|| options.shouldListResultFormats()) {
+			Main.main(args);
+			return;
+		}
+		
+		final OptionsBuilder builder = new OptionsBuilder();
+		builder.parent(options).addProfiler(GCProfiler.class);
+		if(options.getBenchModes().isEmpty()) {
+			builder.mode(Mode.Throughput);
+		}
+		new Runner(builder.build()).run();
+	}
+	
+}
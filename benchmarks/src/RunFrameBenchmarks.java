@@ -0,0 +1,102 @@
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the frame benchmarks and reports how long each frame took to draw, how many frames that
+ * makes each second, and for the frames with blocks, the share of blocks drawn from tiles that
+ * were already made. Any other JMH options given on the command line are kept, such as
+ * -p imageType=INT_RGB to only draw on one kind of image, or a pattern naming which frames to
+ * draw.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class RunFrameBenchmarks {
+	
+	/** How many nanoseconds are in a second. */
+	private static final double NANOS_PER_SECOND = 1e9;
+	
+	/** Turns a share into a percentage. */
+	private static final double PERCENT = 100;
+	
+	/**
+	 * RunFrameBenchmarks is a utility class and cannot be instantiated.
+	 */
+	private RunFrameBenchmarks() {}
+	
+	/**
+	 * Runs the frame benchmarks and prints the report.
+	 * 
+	 * @param args
+	 *            JMH command-line options.
+	 * @throws CommandLineOptionException
+	 *             If the options can't be understood.
+	 * @throws RunnerException
+	 *             If the benchmarks fail to run.
+	 */
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+		final CommandLineOptions options = new CommandLineOptions(args);
+		final OptionsBuilder builder = new OptionsBuilder();
+		builder.parent(options).mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS);
+		if(options.getIncludes().isEmpty()) {
+			builder.include("game.FrameBenchmarks");
+		}
+		final Collection<RunResult> results = new Runner(builder.build()).run();
+		
+		System.out.println();
+		System.out.printf("%-14s %-40s %14s %12s %10s%n", "Frame", "Scene", "ns/frame",
+				"frames/s", "tile hits");
+		for(final RunResult result : results) {
+			final double nanos = result.getPrimaryResult().getScore();
+			System.out.printf("%-14s %-40s %14.0f %12.1f %10s%n", result.getParams()
+					.getBenchmark().replaceFirst(".*\\.", ""), describe(result), nanos,
+					NANOS_PER_SECOND / nanos, describeHitRate(result));
+		}
+	}
+	
+	/**
+	 * Describes the scene a frame was drawn from.
+	 * 
+	 * @param result
+	 *            The result of the benchmark.
+	 * @return The values of the parameters, apart from the source if it was seeded.
+	 */
+	private static String describe(RunResult result) {
+		final StringBuilder scene = new StringBuilder();
+		for(final String key : result.getParams().getParamsKeys()) {
+			final String value = result.getParams().getParam(key);
+			if(!"source".equals(key) || !"seeded".equals(value)) {
+				scene.append(key).append('=').append(value).append(' ');
+			}
+		}
+		return scene.toString().trim();
+	}
+	
+	/**
+	 * Describes the share of blocks drawn from tiles that were already made, as counted by
+	 * {@link game.objects.BlockTiles} while the frames were drawn.
+	 * 
+	 * @param result
+	 *            The result of the benchmark.
+	 * @return The hit rate as a percentage, or a dash if the frame has no blocks.
+	 */
+	private static String describeHitRate(RunResult result) {
+		final Map<String, Result> counters = result.getSecondaryResults();
+		if(!counters.containsKey("tileHits") || !counters.containsKey("tileMisses")) {
+			return "-";
+		}
+		final double hits = counters.get("tileHits").getScore();
+		final double draws = hits + counters.get("tileMisses").getScore();
+		return draws == 0 ? "-" : String.format("%.1f%%", hits * PERCENT / draws);
+	}
+	
+}
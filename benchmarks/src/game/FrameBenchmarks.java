@@ -0,0 +1,314 @@
+package game;
+
+import game.generators.BackgroundGenerator;
+import game.objects.BlockTiles;
+import game.objects.Player;
+import game.objects.RisingWater;
+import gui.PausedScreen;
+import gui.title.CreditScreen;
+import gui.title.InstructionScreen;
+import java.awt.Color;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for drawing frames into offscreen images: each whole screen, and each part of a game
+ * frame on its own. Each benchmark draws one frame, so the throughput is in frames per second.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class FrameBenchmarks {
+	
+	/** How far between the last two steps frames are drawn. */
+	private static final double ALPHA = 0.5;
+	
+	/** The background of the title screen, behind the instructions. */
+	private static final Color TITLE_BACKGROUND = Color.DARK_GRAY;
+	
+	/**
+	 * Counts the blocks drawn from tiles during each iteration, reported alongside the frame times
+	 * of the benchmarks that draw blocks.
+	 * 
+	 * @author Jesse Brent
+	 * @version 1.0, 10/17/26
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class TileCounters {
+		
+		/** How many blocks were drawn from a tile that was already made. */
+		public long tileHits;
+		
+		/** How many blocks needed a tile to be made. */
+		public long tileMisses;
+		
+		/** The counts of the tiles when the iteration started. */
+		private long startHits, startMisses;
+		
+		/**
+		 * Starts counting from the tiles as they are.
+		 */
+		@Setup(Level.Iteration)
+		public void start() {
+			final BlockTiles tiles = BlockTiles.forThread();
+			startHits = tiles.getHits();
+			startMisses = tiles.getMisses();
+			tileHits = 0;
+			tileMisses = 0;
+		}
+		
+		/**
+		 * Counts the blocks drawn during the iteration.
+		 */
+		@TearDown(Level.Iteration)
+		public void stop() {
+			final BlockTiles tiles = BlockTiles.forThread();
+			tileHits = tiles.getHits() - startHits;
+			tileMisses = tiles.getMisses() - startMisses;
+		}
+		
+	}
+	
+	/**
+	 * Benchmark for {@link game.GameSnapshot#paint(java.awt.Graphics, double)}, the whole game
+	 * frame.
+	 * 
+	 * @param scene
+	 *            The scene.
+	 * @param tiles
+	 *            Counts the blocks drawn from tiles.
+	 */
+	@Benchmark
+	public void game(SceneState scene, TileCounters tiles) {
+		scene.game.paint(scene.g, ALPHA);
+	}
+	
+	/**
+	 * Benchmark for drawing the game frame after frame as it plays on from the tick, each frame
+	 * drawn whole.
+	 * 
+	 * @param scene
+	 *            The scene.
+	 * @param tiles
+	 *            Counts the blocks drawn from tiles.
+	 */
+	@Benchmark
+	public void playing(SceneState scene, TileCounters tiles) {
+		scene.getStep().paint(scene.g, scene.getAlpha());
+		scene.nextFrame();
+	}
+	
+	/**
+	 * Benchmark for {@link game.DirtyRectangleRenderer#paint(java.awt.Graphics, GameSnapshot,
+	 * double, GradientSky, gui.GameoverScreen, boolean)}, drawing the game frame after frame as it
+	 * plays on from the tick, drawing only what changed since the last frame onto the image.
+	 * 
+	 * @param scene
+	 *            The scene.
+	 * @param tiles
+	 *            Counts the blocks drawn from tiles.
+	 */
+	@Benchmark
+	public void playingDirty(SceneState scene, TileCounters tiles) {
+		scene.dirtyRectangles.paint(scene.g, scene.getStep(), scene.getAlpha(), null, null, true);
+		scene.nextFrame();
+	}
+	
+	/**
+	 * Benchmark for {@link game.DirtyRectangleRenderer#paint(java.awt.Graphics, GameSnapshot,
+	 * double, GradientSky, gui.GameoverScreen, boolean)}, drawing the game frame after frame as it
+	 * plays on from the tick, drawing only what changed since the last frame into an image of the
+	 * renderer's own and copying it onto the image.
+	 * 
+	 * @param scene
+	 *            The scene.
+	 * @param tiles
+	 *            Counts the blocks drawn from tiles.
+	 */
+	@Benchmark
+	public void playingDirtyCopied(SceneState scene, TileCounters tiles) {
+		scene.dirtyRectangles.paint(scene.g, scene.getStep(), scene.getAlpha(), null, null, false);
+		scene.nextFrame();
+	}
+	
+	/**
+	 * Benchmark for {@link gui.title.TitleScreen#paint(java.awt.Graphics,
+	 * game.objects.RubbleSnapshot, boolean, double)}.
+	 * 
+	 * @param scene
+	 *            The scene.
+	 * @param tiles
+	 *            Counts the blocks drawn from tiles.
+	 */
+	@Benchmark
+	public void title(SceneState scene, TileCounters tiles) {
+		scene.title.paint(scene.g, scene.titleBlocks, true, ALPHA);
+	}
+	
+	/**
+	 * Benchmark for {@link gui.title.InstructionScreen#paint(java.awt.Graphics, Color)}, drawn
+	 * over the title screen.
+	 * 
+	 * @param scene
+	 *            The scene.
+	 */
+	@Benchmark
+	public void instructions(SceneState scene) {
+		InstructionScreen.paint(scene.g, TITLE_BACKGROUND);
+	}
+	
+	/**
+	 * Benchmark for {@link gui.title.CreditScreen#paint(java.awt.Graphics)}, drawn over the title
+	 * screen.
+	 * 
+	 * @param scene
+	 *            The scene.
+	 */
+	@Benchmark
+	public void credits(SceneState scene) {
+		CreditScreen.paint(scene.g);
+	}
+	
+	/**
+	 * Benchmark for {@link gui.PausedScreen#paint(java.awt.Graphics)}.
+	 * 
+	 * @param scene
+	 *            The scene.
+	 */
+	@Benchmark
+	public void paused(SceneState scene) {
+		PausedScreen.paint(scene.g);
+	}
+	
+	/**
+	 * Benchmark for {@link gui.GameoverScreen#paint(java.awt.Graphics)}, drawn over the game
+	 * frame.
+	 * 
+	 * @param scene
+	 *            The scene.
+	 */
+	@Benchmark
+	public void gameover(SceneState scene) {
+		scene.gameover.paint(scene.g);
+	}
+	
+	/**
+	 * Benchmark for the background of a game frame.
+	 * 
+	 * @param scene
+	 *            The scene.
+	 */
+	@Benchmark
+	public void background(SceneState scene) {
+		scene.g.setColor(BackgroundGenerator.generateBackgroundColor(scene.game.playerY));
+		scene.g.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
+	}
+	
+	/**
+	 * Benchmark for the gradient sky behind a game frame, with the screen climbing a row each
+	 * frame.
+	 * 
+	 * @param scene
+	 *            The scene.
+	 */
+	@Benchmark
+	public void gradientSky(SceneState scene) {
+		scene.sky.paint(scene.g, getScreenTop(scene.game) + scene.scroll++);
+	}
+	
+	/**
+	 * Benchmark for the blocks of a game frame.
+	 * 
+	 * @param scene
+	 *            The scene.
+	 * @param tiles
+	 *            Counts the blocks drawn from tiles.
+	 */
+	@Benchmark
+	public void blocks(SceneState scene, TileCounters tiles) {
+		scene.game.blocks.paint(scene.g, getScreenTop(scene.game), ALPHA);
+	}
+	
+	/**
+	 * Benchmark for the body of the water of a game frame, darkening with depth.
+	 * 
+	 * @param scene
+	 *            The scene.
+	 */
+	@Benchmark
+	public void waterDepth(SceneState scene) {
+		RisingWater.paintDepth(scene.g, getWaterTop(scene.game));
+	}
+	
+	/**
+	 * Benchmark for the waves of a game frame.
+	 * 
+	 * @param scene
+	 *            The scene.
+	 */
+	@Benchmark
+	public void waves(SceneState scene) {
+		RisingWater.paintWaves(scene.g, scene.game.waterAltitude, getWaterTop(scene.game));
+	}
+	
+	/**
+	 * Benchmark for the sprite of the player in a game frame.
+	 * 
+	 * @param scene
+	 *            The scene.
+	 */
+	@Benchmark
+	public void sprite(SceneState scene) {
+		final GameSnapshot game = scene.game;
+		Player.paint(scene.g, game.playerSprite, game.playerX, game.playerY, getScreenTop(game));
+	}
+	
+	/**
+	 * Benchmark for the score text of a game frame.
+	 * 
+	 * @param scene
+	 *            The scene.
+	 */
+	@Benchmark
+	public void score(SceneState scene) {
+		final GameSnapshot game = scene.game;
+		ScoreDisplay.paint(scene.g, game.highScore, game.highestAltitude, game.playerY,
+				game.spaceBelowPlayer);
+	}
+	
+	/**
+	 * Returns the altitude of the top of the screen in a game frame.
+	 * 
+	 * @param game
+	 *            The game.
+	 * @return The altitude.
+	 */
+	private static int getScreenTop(GameSnapshot game) {
+		return game.playerY + (Game.GAME_HEIGHT - game.spaceBelowPlayer);
+	}
+	
+	/**
+	 * Returns where the surface of the water is drawn in a game frame.
+	 * 
+	 * @param game
+	 *            The game.
+	 * @return The y coordinate of the surface of the water on the image.
+	 */
+	private static int getWaterTop(GameSnapshot game) {
+		return getScreenTop(game) - (int)game.waterAltitude;
+	}
+	
+}
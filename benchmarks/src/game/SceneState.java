@@ -0,0 +1,215 @@
+package game;
+
+import game.generators.SeededRandom;
+import game.objects.RubbleSnapshot;
+import game.replay.ReplayPlayer;
+import game.simulation.RandomInput;
+import gui.GameoverScreen;
+import gui.title.TitleScreen;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A moment of a game and of the title screen for the frame benchmarks to draw, and the offscreen
+ * image they draw it on. The game is either seeded and played with random input, or played back
+ * from a replay file, up to a tick.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+@State(Scope.Thread)
+public class SceneState {
+	
+	/**
+	 * The kinds of offscreen image drawn on.
+	 * 
+	 * @author Jesse Brent
+	 * @version 1.0, 10/17/26
+	 */
+	public enum ImageType {
+		
+		/** Packed RGB without alpha, the usual type for a screen. */
+		INT_RGB(BufferedImage.TYPE_INT_RGB),
+		
+		/** Packed RGB with alpha. */
+		INT_ARGB(BufferedImage.TYPE_INT_ARGB),
+		
+		/** Packed RGB with premultiplied alpha. */
+		INT_ARGB_PRE(BufferedImage.TYPE_INT_ARGB_PRE),
+		
+		/** Three bytes of BGR for each pixel. */
+		BYTE_BGR(BufferedImage.TYPE_3BYTE_BGR),
+		
+		/** 16 bit 5-6-5 RGB, like some low-end displays. */
+		USHORT_565_RGB(BufferedImage.TYPE_USHORT_565_RGB);
+		
+		/** The buffered image type. */
+		private final int type;
+		
+		/**
+		 * Constructs a kind of image.
+		 * 
+		 * @param type
+		 *            The buffered image type.
+		 */
+		private ImageType(int type) {
+			this.type = type;
+		}
+		
+	}
+	
+	/** The value of {@link #source} for a seeded game. */
+	private static final String SEEDED = "seeded";
+	
+	/** How many steps random input holds its keys for, on average. */
+	private static final int HOLD_TICKS = 20;
+	
+	/** How many steps after the tick are copied, for drawing frames one after another. */
+	private static final int PLAYED_STEPS = 16;
+	
+	/** How many frames are drawn between each of the steps. */
+	private static final int FRAMES_PER_STEP = 4;
+	
+	/** Where a seeded game comes from: "seeded", or the path of a replay file. */
+	@Param({ SEEDED })
+	public String source;
+	
+	/** The seed of a seeded game. */
+	@Param({ "1", "2", "3" })
+	public long seed;
+	
+	/** How many steps the game and the title screen take before they are drawn. */
+	@Param({ "0", "250" })
+	public int tick;
+	
+	/** The kind of image drawn on. */
+	@Param({ "INT_RGB", "INT_ARGB", "INT_ARGB_PRE", "BYTE_BGR", "USHORT_565_RGB" })
+	public ImageType imageType;
+	
+	/** The game, as copied for drawing. */
+	GameSnapshot game;
+	
+	/** The title screen. */
+	TitleScreen title;
+	
+	/** The blocks of the title screen, as copied for drawing. */
+	RubbleSnapshot titleBlocks;
+	
+	/** The steps after the tick, as copied for drawing. */
+	GameSnapshot[] steps;
+	
+	/** Which of the frames between the steps is drawn next. */
+	int frame;
+	
+	/** Draws the steps, drawing only what changed since the last frame. */
+	DirtyRectangleRenderer dirtyRectangles;
+	
+	/** The gradient sky behind the game. */
+	GradientSky sky;
+	
+	/** How far the screen has moved since the first frame. */
+	int scroll;
+	
+	/** The gameover screen. */
+	GameoverScreen gameover;
+	
+	/** The image drawn on. */
+	BufferedImage image;
+	
+	/** The graphics object for the image. */
+	Graphics2D g;
+	
+	/**
+	 * Plays the game and the title screen up to the tick, and creates the image.
+	 * 
+	 * @throws IOException
+	 *             If the replay file can't be read.
+	 */
+	@Setup(Level.Trial)
+	public void build() throws IOException {
+		final Game played;
+		final RandomInput input = new RandomInput(HOLD_TICKS);
+		final SeededRandom random = new SeededRandom(~seed);
+		int keys = 0;
+		if(SEEDED.equals(source)) {
+			played = new Game(new SilentAudio(), seed);
+			for(int i = 0; i < tick && played.isAlive(); i++) {
+				keys = input.getKeys(played, i, keys, random);
+				played.step(keys);
+			}
+		} else {
+			final ReplayPlayer replay = new ReplayPlayer(new File(source));
+			replay.seek(Math.min(tick, replay.getLength()));
+			played = replay.getGame();
+		}
+		game = new GameSnapshot();
+		played.capture(game);
+		
+		// The steps after the tick are played on with random input, whatever the source.
+		steps = new GameSnapshot[PLAYED_STEPS];
+		for(int i = 0; i < PLAYED_STEPS; i++) {
+			keys = input.getKeys(played, tick + i, keys, random);
+			played.step(keys);
+			steps[i] = new GameSnapshot();
+			played.capture(steps[i]);
+		}
+		frame = 0;
+		dirtyRectangles = new DirtyRectangleRenderer();
+		
+		title = new TitleScreen();
+		for(int i = 0; i < tick; i++) {
+			title.step();
+		}
+		titleBlocks = new RubbleSnapshot();
+		title.capture(titleBlocks);
+		
+		sky = new GradientSky();
+		scroll = 0;
+		gameover = new GameoverScreen();
+		
+		image = new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, imageType.type);
+		g = image.createGraphics();
+	}
+	
+	/**
+	 * Returns the step the next frame is drawn from.
+	 * 
+	 * @return The snapshot of the step.
+	 */
+	GameSnapshot getStep() {
+		return steps[frame / FRAMES_PER_STEP];
+	}
+	
+	/**
+	 * Returns how far between the steps the next frame is drawn.
+	 * 
+	 * @return How far between the last step and the one the frame is drawn from.
+	 */
+	double getAlpha() {
+		return (double)(frame % FRAMES_PER_STEP) / FRAMES_PER_STEP;
+	}
+	
+	/**
+	 * Moves on to the next frame, going back to the first step after the last.
+	 */
+	void nextFrame() {
+		frame = (frame + 1) % (PLAYED_STEPS * FRAMES_PER_STEP);
+	}
+	
+	/**
+	 * Releases the graphics object for the image.
+	 */
+	@TearDown(Level.Trial)
+	public void dispose() {
+		g.dispose();
+	}
+	
+}
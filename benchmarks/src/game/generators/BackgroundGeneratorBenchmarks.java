@@ -0,0 +1,52 @@
+package game.generators;
+
+import game.objects.TowerState;
+import java.awt.Color;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for {@link game.generators.BackgroundGenerator}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public class BackgroundGeneratorBenchmarks {
+	
+	/** How far apart the altitudes of each background are. */
+	private static final int ALTITUDE_STRIDE = 7;
+	
+	/**
+	 * The altitude of the next background, climbing the tower and starting again from the bottom.
+	 * 
+	 * @author Jesse Brent
+	 * @version 1.0, 10/17/26
+	 */
+	@State(Scope.Thread)
+	public static class ClimbState {
+		
+		/** The altitude of the next background. */
+		int altitude;
+		
+	}
+	
+	/**
+	 * Benchmark for {@link game.generators.BackgroundGenerator#generateBackgroundColor(int)}.
+	 * 
+	 * @param tower
+	 *            The tower the altitudes climb.
+	 * @param state
+	 *            The altitude.
+	 * @return The background color.
+	 */
+	@Benchmark
+	public Color generateBackgroundColor(TowerState tower, ClimbState state) {
+		state.altitude += ALTITUDE_STRIDE;
+		if(state.altitude > tower.getTop()) {
+			state.altitude = 0;
+		}
+		return BackgroundGenerator.generateBackgroundColor(state.altitude);
+	}
+	
+}
@@ -0,0 +1,116 @@
+package game.objects;
+
+import game.Game;
+import java.io.IOException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for {@link game.objects.Block}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public class BlockBenchmarks {
+	
+	/** Dimension of the object checked against every block, the size of the player. */
+	private static final int OBJECT_WIDTH = 24, OBJECT_HEIGHT = 48;
+	
+	/**
+	 * How many steps the rubble takes in each call of the step benchmark. Enough that putting the
+	 * rubble back between calls is cheap next to the call, and few enough that the falling blocks,
+	 * which start several screens above the tower, can't land during one.
+	 */
+	private static final int STEPS_PER_CALL = 256;
+	
+	/**
+	 * Counts the steps of the rubble, and puts it back the way it was built before any falling
+	 * block lands, so every step has the same blocks falling onto the same tower. The rubble is
+	 * only put back between calls of the benchmark, and without allocating.
+	 * 
+	 * @author Jesse Brent
+	 * @version 1.0, 10/17/26
+	 */
+	@State(Scope.Thread)
+	public static class FallingState {
+		
+		/** How many steps the rubble has taken since it was built or put back. */
+		int steps;
+		
+		/**
+		 * Starts counting from the tower as built.
+		 */
+		@Setup(Level.Iteration)
+		public void start() {
+			steps = 0;
+		}
+		
+		/**
+		 * Puts the rubble back if the falling blocks could land during the next call.
+		 * 
+		 * @param tower
+		 *            The tower of blocks.
+		 * @throws IOException
+		 *             If the state of the rubble can't be read back.
+		 */
+		@Setup(Level.Invocation)
+		public void restore(TowerState tower) throws IOException {
+			if(steps + STEPS_PER_CALL > tower.fallingSteps) {
+				tower.restore();
+				steps = 0;
+			}
+			steps += STEPS_PER_CALL;
+		}
+		
+	}
+	
+	/**
+	 * Benchmark for {@link game.objects.Rubble#step()}, the blocks falling onto the tower. Each
+	 * call takes a batch of steps, and the time is reported for each step.
+	 * 
+	 * @param tower
+	 *            The tower of blocks.
+	 * @param state
+	 *            Counts the steps, to put the rubble back before the blocks land.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(STEPS_PER_CALL)
+	public void step(TowerState tower, FallingState state) {
+		for(int i = 0; i < STEPS_PER_CALL; i++) {
+			tower.rubble.step();
+		}
+	}
+	
+	/**
+	 * Benchmark for {@link game.objects.Block#collides(Block)} and
+	 * {@link game.objects.Block#collides(int, int, int, int)}, checking each block against the
+	 * next and against an object sweeping up the tower.
+	 * 
+	 * @param tower
+	 *            The tower of blocks.
+	 * @return How many collisions were found.
+	 */
+	@Benchmark
+	public int collides(TowerState tower) {
+		int collisions = 0;
+		Block last = tower.blocks.get(0);
+		for(int i = 1; i < tower.blocks.size(); i++) {
+			final Block block = tower.blocks.get(i);
+			if(block.collides(last)) {
+				collisions++;
+			}
+			final int objectX = i * OBJECT_WIDTH % Game.GAME_WIDTH;
+			final int objectY = (int)((long)tower.top * i / tower.blocks.size());
+			if(block.collides(objectX, objectY, OBJECT_WIDTH, OBJECT_HEIGHT)) {
+				collisions++;
+			}
+			last = block;
+		}
+		return collisions;
+	}
+	
+}
@@ -0,0 +1,81 @@
+package game.objects;
+
+import game.Game;
+import game.InputReceiver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for {@link game.objects.Player}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public class PlayerBenchmarks {
+	
+	/**
+	 * A player standing on top of the tower, running and jumping through a fixed pattern of keys.
+	 * 
+	 * @author Jesse Brent
+	 * @version 1.0, 10/17/26
+	 */
+	@State(Scope.Thread)
+	public static class PlayerState {
+		
+		/** The keys held, in turn. */
+		private static final int[] PATTERN = { InputReceiver.RIGHT,
+				InputReceiver.UP | InputReceiver.RIGHT, 0, InputReceiver.LEFT,
+				InputReceiver.UP | InputReceiver.LEFT, InputReceiver.UP };
+		
+		/** How many steps each keys in the pattern are held. */
+		private static final int HOLD_TICKS = 16;
+		
+		/** The player. */
+		Player player;
+		
+		/** The keys the player holds. */
+		InputReceiver input;
+		
+		/** How many steps the player has taken. */
+		int tick;
+		
+		/**
+		 * Places the player on top of the tower.
+		 * 
+		 * @param tower
+		 *            The tower of blocks.
+		 */
+		@Setup(Level.Iteration)
+		public void place(TowerState tower) {
+			player = new Player(Game.GAME_WIDTH / 2, tower.top);
+			input = new InputReceiver();
+			tick = 0;
+		}
+		
+		/**
+		 * Holds the keys for the next step.
+		 */
+		void nextKeys() {
+			input.setKeys(PATTERN[tick++ / HOLD_TICKS % PATTERN.length]);
+		}
+		
+	}
+	
+	/**
+	 * Benchmark for {@link game.objects.Player#step(Rubble, game.InputReceiver)}.
+	 * 
+	 * @param tower
+	 *            The tower of blocks.
+	 * @param state
+	 *            The player.
+	 */
+	@Benchmark
+	public void step(TowerState tower, PlayerState state) {
+		state.nextKeys();
+		state.player.step(tower.rubble, state.input);
+	}
+	
+}
@@ -0,0 +1,95 @@
+package game.objects;
+
+import game.Game;
+import java.io.IOException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for {@link game.objects.RisingWater}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public class RisingWaterBenchmarks {
+	
+	/** Amount of space below the player to the bottom of the screen. */
+	private static final int SPACE_BELOW_PLAYER = Game.GAME_HEIGHT / 4;
+	
+	/**
+	 * How many steps the water takes in each call of the step benchmark, enough that putting the
+	 * rubble back between calls is cheap next to the call.
+	 */
+	private static final int STEPS_PER_CALL = 16;
+	
+	/**
+	 * Water rising up the tower, starting again from the bottom whenever it passes the top. The
+	 * blocks the water removes are put back, without allocating, before the next call of the
+	 * benchmark, so every batch of steps starts against the whole tower.
+	 * 
+	 * @author Jesse Brent
+	 * @version 1.0, 10/17/26
+	 */
+	@State(Scope.Thread)
+	public static class WaterState {
+		
+		/** The water. */
+		RisingWater water;
+		
+		/** The player, standing on top of the tower until the water reaches them. */
+		Player player;
+		
+		/**
+		 * Starts the water at the bottom of the tower.
+		 * 
+		 * @param tower
+		 *            The tower of blocks.
+		 */
+		@Setup(Level.Iteration)
+		public void place(TowerState tower) {
+			water = new RisingWater();
+			player = new Player(Game.GAME_WIDTH / 2, tower.top);
+		}
+		
+		/**
+		 * Puts back the blocks the last call removed.
+		 * 
+		 * @param tower
+		 *            The tower of blocks.
+		 * @throws IOException
+		 *             If the state of the rubble can't be read back.
+		 */
+		@Setup(Level.Invocation)
+		public void restore(TowerState tower) throws IOException {
+			if(tower.rubble.size() < tower.blocks.size()) {
+				tower.restore();
+			}
+		}
+		
+	}
+	
+	/**
+	 * Benchmark for {@link game.objects.RisingWater#step(Rubble, Player, int)}. Each call takes a
+	 * batch of steps, and the time is reported for each step.
+	 * 
+	 * @param tower
+	 *            The tower of blocks.
+	 * @param state
+	 *            The water.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(STEPS_PER_CALL)
+	public void step(TowerState tower, WaterState state) {
+		for(int i = 0; i < STEPS_PER_CALL; i++) {
+			state.water.step(tower.rubble, state.player, SPACE_BELOW_PLAYER);
+			if(state.water.getAltitude() > tower.top) {
+				state.water.reset();
+			}
+		}
+	}
+	
+}
@@ -0,0 +1,205 @@
+package game.objects;
+
+import game.Game;
+import game.generators.BlockGenerator;
+import game.generators.SeededRandom;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A tower of rubble for the benchmarks to work on. The tower is built from generated blocks,
+ * stacked where they would have landed, with the last few still falling from above. It is built
+ * once and put back the way it was built before each iteration, and benchmarks that move or remove
+ * the blocks also put it back between batches of steps, so the tower keeps its size and shape.
+ * Putting it back allocates nothing, so the allocation reported is only that of the benchmarks.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+@State(Scope.Thread)
+public class TowerState {
+	
+	/**
+	 * Where the blocks of a tower are dropped.
+	 * 
+	 * @author Jesse Brent
+	 * @version 1.0, 10/17/26
+	 */
+	public enum Shape {
+		
+		/** Anywhere across the screen, making a wide and even pile. */
+		FLAT,
+		
+		/** Onto a few narrow stacks. */
+		TALL,
+		
+		/** Across the sides of the screen, so every block wraps around. */
+		WRAP
+	}
+	
+	/** How many narrow stacks a tall tower is made of. */
+	private static final int TALL_STACKS = 4;
+	
+	/** How far a block can be dropped from the middle of its stack or the side of the screen. */
+	private static final int DROP_SPREAD = 9;
+	
+	/** One in this many blocks are still falling. */
+	private static final int FALLING_SHARE = 10;
+	
+	/** How far apart the falling blocks start. */
+	private static final int FALLING_GAP = 100;
+	
+	/**
+	 * How far above the tower the falling blocks start, far enough for several hundred steps to
+	 * pass before any of them lands.
+	 */
+	private static final int FALLING_HEIGHT = Game.GAME_HEIGHT * 8;
+	
+	/** The height of the floor the tower stands on. */
+	private static final int FLOOR_HEIGHT = Game.GAME_HEIGHT / 4;
+	
+	/** How many blocks are in the tower. */
+	@Param({ "10", "100", "1000", "10000" })
+	public int blockCount;
+	
+	/** Where the blocks are dropped. */
+	@Param({ "FLAT", "TALL", "WRAP" })
+	public Shape shape;
+	
+	/** The seed the blocks are generated from. */
+	@Param({ "1", "2", "3" })
+	public long seed;
+	
+	/** The blocks of the tower, the floor first. */
+	List<Block> blocks;
+	
+	/** The rubble holding the blocks. */
+	Rubble rubble;
+	
+	/** The altitude of the top of the landed blocks. */
+	int top;
+	
+	/** How many steps the rubble can take before any falling block lands. */
+	int fallingSteps;
+	
+	/** The state of the rubble as it was built. */
+	private ByteArrayInputStream built;
+	
+	/** Reads the state of the rubble as it was built. */
+	private DataInputStream builtReader;
+	
+	/**
+	 * Builds the tower.
+	 * 
+	 * @throws IOException
+	 *             If the state of the rubble can't be kept.
+	 */
+	@Setup(Level.Trial)
+	public void build() throws IOException {
+		final BlockGenerator generator = new BlockGenerator(seed);
+		final SeededRandom random = new SeededRandom(~seed);
+		final int[] skyline = new int[Game.GAME_WIDTH];
+		
+		blocks = new ArrayList<Block>(blockCount + 1);
+		final Block floor = BlockGenerator.generateStartBlock(FLOOR_HEIGHT);
+		blocks.add(floor);
+		top = floor.getYOfTop();
+		for(int column = 0; column < skyline.length; column++) {
+			skyline[column] = top;
+		}
+		
+		final int landedCount = blockCount - blockCount / FALLING_SHARE;
+		fallingSteps = Integer.MAX_VALUE;
+		for(int i = 0; i < blockCount; i++) {
+			final Block generated = generator.generateBlock(0);
+			final int width = generated.getXOfRight() - generated.getXOfLeft();
+			final int height = generated.getYOfTop() - generated.getYOfBottom();
+			final int x = dropX(random, width);
+			
+			if(i < landedCount) {
+				int y = Integer.MIN_VALUE;
+				for(int column = x; column < x + width; column++) {
+					y = Math.max(y, skyline[column % Game.GAME_WIDTH]);
+				}
+				for(int column = x; column < x + width; column++) {
+					skyline[column % Game.GAME_WIDTH] = y + height;
+				}
+				top = Math.max(top, y + height);
+				
+				final Block landed = new Block(generated.getColor(), x, y, width, height, 0);
+				landed.update(y, 0, true);
+				blocks.add(landed);
+			} else {
+				final int y = top + FALLING_HEIGHT + (i - landedCount) * FALLING_GAP;
+				blocks.add(new Block(generated.getColor(), x, y, width, height, generated
+						.getFallingSpeed()));
+				final int speed = Math.max(generated.getFallingSpeed(), 1);
+				fallingSteps = Math.min(fallingSteps, (y - top) / speed);
+			}
+		}
+		
+		rubble = new Rubble(blocks);
+		rubble.step();
+		
+		final ByteArrayOutputStream state = new ByteArrayOutputStream();
+		rubble.save(new DataOutputStream(state));
+		built = new ByteArrayInputStream(state.toByteArray());
+		builtReader = new DataInputStream(built);
+	}
+	
+	/**
+	 * Puts the rubble back the way it was built. Nothing is allocated, since the rubble reuses its
+	 * storage and the state is read again from the start.
+	 * 
+	 * @throws IOException
+	 *             If the state of the rubble can't be read back.
+	 */
+	@Setup(Level.Iteration)
+	public void restore() throws IOException {
+		built.reset();
+		rubble.restore(builtReader);
+	}
+	
+	/**
+	 * Returns the altitude of the top of the landed blocks.
+	 * 
+	 * @return The altitude.
+	 */
+	public int getTop() {
+		return top;
+	}
+	
+	/**
+	 * Chooses where a block is dropped, for the shape of the tower.
+	 * 
+	 * @param random
+	 *            Random numbers for the tower.
+	 * @param width
+	 *            The width of the block.
+	 * @return The x coordinate of the left of the block.
+	 */
+	private int dropX(SeededRandom random, int width) {
+		final int spread = random.nextInt(DROP_SPREAD) - DROP_SPREAD / 2;
+		switch(shape) {
+			case TALL:
+				final int middle =
+						(random.nextInt(TALL_STACKS) * 2 + 1) * Game.GAME_WIDTH / (TALL_STACKS * 2);
+				return middle - width / 2 + spread;
+			case WRAP:
+				return Game.GAME_WIDTH - width / 2 + spread;
+			default:
+				return random.nextInt(Game.GAME_WIDTH);
+		}
+	}
+	
+}
@@ -0,0 +1,557 @@
+package game;
+
+import game.generators.BackgroundGenerator;
+import game.objects.Player;
+import game.objects.RisingWater;
+import game.objects.RubbleSnapshot;
+import gui.GameoverScreen;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Image;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.image.VolatileImage;
+import java.util.Arrays;
+
+/**
+ * Draws the game into an image kept from frame to frame, drawing again only the parts of the
+ * screen that changed since the last frame. The image is either the one each frame is drawn onto,
+ * if it keeps what was drawn on it, or one of the renderer's own that is copied onto each frame.
+ * The parts that changed are the blocks that moved, the player, the water and the scores. When
+ * the screen scrolls a little, the image is shifted and only the rows that scrolled onto the
+ * screen are drawn. The whole frame is drawn again when the screen scrolls further, the color of
+ * the sky changes, or most of the screen changed anyway. The rectangles that changed are merged
+ * into bands of rows, and the game is drawn clipped to each band.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class DirtyRectangleRenderer {
+	
+	/** How far the screen can scroll between frames before the whole frame is drawn again. */
+	private static final int MAX_SCROLL = Game.GAME_HEIGHT / 4;
+	
+	/** How much of the screen can change before the whole frame is drawn again. */
+	private static final int MAX_DIRTY_AREA = Game.GAME_WIDTH * Game.GAME_HEIGHT / 2;
+	
+	/** How many rectangles and blocks there is room for at first. */
+	private static final int INITIAL_CAPACITY = 64;
+	
+	/**
+	 * Where each part of a block is packed into a key, and how many bits it has. The top is in the
+	 * highest bits, so scrolling the screen adds the same amount to every key and keeps them in
+	 * order. The sign bit is never used.
+	 */
+	private static final int TOP_SHIFT = 48, TOP_BITS = 15, X_SHIFT = 37, X_BITS = 11,
+			WIDTH_SHIFT = 26, WIDTH_BITS = 11, HEIGHT_SHIFT = 12, HEIGHT_BITS = 14, SHADE_BITS = 12;
+	
+	/** Added to the top of a block before packing it, so tops above the screen can be packed. */
+	private static final int TOP_OFFSET = 1 << (TOP_BITS - 1);
+	
+	/**
+	 * The image the game is drawn into, or null before the first frame. For the screen it is kept
+	 * in video memory, so copying it onto each frame is quick.
+	 */
+	private Image buffer;
+	
+	/** The graphics configuration the image was made for. */
+	private GraphicsConfiguration configuration;
+	
+	/** If the image holds a frame of the game, that later frames can be drawn over. */
+	private boolean isDrawn;
+	
+	/** If the last frame was drawn straight onto an image that keeps it. */
+	private boolean wasKept;
+	
+	/** If the paused screen has been drawn over the last frame. */
+	private boolean isPausedDrawn;
+	
+	/** If the game over screen was drawn over the last frame. */
+	private boolean wasOver;
+	
+	/** The altitude of the top of the screen in the last frame. */
+	private int drawnTop;
+	
+	/** The color filling the background of the last frame, or 0 for a gradient sky. */
+	private int drawnBackground;
+	
+	/** Where the player was drawn in the last frame. */
+	private int drawnPlayerX, drawnPlayerTop;
+	
+	/** The sprite frame the player was drawn with in the last frame. */
+	private int drawnPlayerSprite;
+	
+	/** The altitude of the water in the last frame. */
+	private double drawnWater;
+	
+	/** What the scores were drawn from in the last frame. */
+	private int drawnHighScore, drawnHighestAltitude, drawnPlayerY, drawnSpaceBelowPlayer;
+	
+	/** The packed blocks of this frame and the last, each sorted. */
+	private long[] blocks, drawnBlocks;
+	
+	/** How many blocks were drawn in the last frame. */
+	private int drawnBlockCount;
+	
+	/** The rectangles to draw again, four numbers each: x, y, width and height. */
+	private int[] dirty;
+	
+	/** How many rectangles are to be drawn again. */
+	private int dirtyCount;
+	
+	/**
+	 * Constructs a renderer, which draws the whole of its first frame.
+	 */
+	public DirtyRectangleRenderer() {
+		blocks = new long[INITIAL_CAPACITY];
+		drawnBlocks = new long[INITIAL_CAPACITY];
+		dirty = new int[INITIAL_CAPACITY * 4];
+	}
+	
+	/**
+	 * Draws the game onto an image part of the way between the last two steps, the same as
+	 * {@link GameSnapshot#paint(Graphics, double, GradientSky)}, and then the game over screen.
+	 * An image that keeps what was drawn on it is drawn on straight, so long as nothing else was
+	 * drawn on it since the last frame drawn on it this way.
+	 * 
+	 * @param g
+	 *            The graphics object of the image.
+	 * @param game
+	 *            The snapshot of the game.
+	 * @param alpha
+	 *            How far between the steps to draw the game, from 0 for the way it was before the
+	 *            last step to 1 for the way it was when the snapshot was taken.
+	 * @param sky
+	 *            The sky drawn behind the game, or null to fill the background with the color at
+	 *            the altitude of the player.
+	 * @param gameover
+	 *            The game over screen drawn over the game, or null if the game isn't over.
+	 * @param isKept
+	 *            If the image still holds the last frame drawn onto it with this set, rather than
+	 *            being drawn on through an image of the renderer's own.
+	 */
+	public void paint(Graphics g, GameSnapshot game, double alpha, GradientSky sky,
+			GameoverScreen gameover, boolean isKept) {
+		if(!(g instanceof Graphics2D)) {
+			game.paint(g, alpha, sky);
+			if(gameover != null) {
+				gameover.paint(g);
+			}
+			invalidate();
+			return;
+		}
+		
+		if(isKept != wasKept) {
+			invalidate();
+			wasKept = isKept;
+		}
+		
+		// Shifting the image as the screen scrolls only keeps it exact without scaling.
+		if(isKept) {
+			final int transform = ((Graphics2D)g).getTransform().getType();
+			if((transform & ~AffineTransform.TYPE_TRANSLATION) != 0) {
+				invalidate();
+			}
+			update(g, game, alpha, sky, gameover);
+			return;
+		}
+		
+		final GraphicsConfiguration target = ((Graphics2D)g).getDeviceConfiguration();
+		if(buffer == null || target != configuration) {
+			buffer = createBuffer(target);
+			configuration = target;
+			invalidate();
+		}
+		
+		// Video memory can be lost at any time, and then the whole frame is drawn again.
+		do {
+			if(buffer instanceof VolatileImage) {
+				final int validation = ((VolatileImage)buffer).validate(configuration);
+				if(validation == VolatileImage.IMAGE_INCOMPATIBLE) {
+					buffer = createBuffer(configuration);
+				}
+				if(validation != VolatileImage.IMAGE_OK) {
+					invalidate();
+				}
+			}
+			
+			final Graphics bufferGraphics = buffer.getGraphics();
+			try {
+				update(bufferGraphics, game, alpha, sky, gameover);
+			} finally {
+				bufferGraphics.dispose();
+			}
+			g.drawImage(buffer, 0, 0, null);
+		} while(isLost());
+	}
+	
+	/**
+	 * Makes the next frame be drawn whole, since something else was drawn over the last one.
+	 */
+	public void invalidate() {
+		isDrawn = false;
+		isPausedDrawn = false;
+	}
+	
+	/**
+	 * Creates the image the game is drawn into.
+	 * 
+	 * @param target
+	 *            The graphics configuration of what each frame is drawn onto.
+	 * @return An image in video memory for the screen, or an ordinary image otherwise.
+	 */
+	private static Image createBuffer(GraphicsConfiguration target) {
+		if(target.getDevice().getType() == GraphicsDevice.TYPE_RASTER_SCREEN) {
+			return target.createCompatibleVolatileImage(Game.GAME_WIDTH, Game.GAME_HEIGHT);
+		}
+		return target.createCompatibleImage(Game.GAME_WIDTH, Game.GAME_HEIGHT);
+	}
+	
+	/**
+	 * Checks if the image the game is drawn into was lost since it was checked, and if so makes
+	 * sure the whole frame is drawn again.
+	 * 
+	 * @return If the image was lost.
+	 */
+	private boolean isLost() {
+		if(buffer instanceof VolatileImage && ((VolatileImage)buffer).contentsLost()) {
+			invalidate();
+			return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Brings the image up to date with a frame of the game.
+	 * 
+	 * @param g
+	 *            The graphics object of the image.
+	 * @param game
+	 *            The snapshot of the game.
+	 * @param alpha
+	 *            How far between the steps to draw the game.
+	 * @param sky
+	 *            The sky drawn behind the game, or null for one color.
+	 * @param gameover
+	 *            The game over screen drawn over the game, or null if the game isn't over.
+	 */
+	private void update(Graphics g, GameSnapshot game, double alpha, GradientSky sky,
+			GameoverScreen gameover) {
+		
+		// The paused screen is drawn once over the last frame, and the game is drawn whole after.
+		if(game.isPaused) {
+			if(!isPausedDrawn) {
+				game.paint(g, alpha, sky);
+				isPausedDrawn = true;
+			}
+			isDrawn = false;
+			return;
+		}
+		isPausedDrawn = false;
+		if(game.isHidden) {
+			isDrawn = false;
+			return;
+		}
+		
+		final int x = game.getPlayerX(alpha);
+		final int y = game.getPlayerY(alpha);
+		final double water = game.getWaterAltitude(alpha);
+		final int screenTop = game.getScreenTop(y);
+		final int playerTop = screenTop - (y + Player.HEIGHT);
+		final int background =
+				sky == null ? BackgroundGenerator.generateBackgroundColor(y).getRGB() : 0;
+		final boolean isOver = gameover != null;
+		final int blockCount = packBlocks(game.blocks, screenTop, alpha);
+		final long scroll = (long)screenTop - drawnTop;
+		
+		// The game over screen stays put, so it can't be shifted with the game.
+		boolean isWhole =
+				!isDrawn || isOver != wasOver || background != drawnBackground
+						|| Math.abs(scroll) > MAX_SCROLL || (isOver && scroll != 0)
+						|| blockCount < 0;
+		
+		dirtyCount = 0;
+		if(!isWhole) {
+			final int shift = (int)scroll;
+			if(shift != 0) {
+				scroll(g, shift);
+			}
+			markBlocks(blockCount, shift);
+			
+			if(x != drawnPlayerX || playerTop != drawnPlayerTop + shift
+					|| game.playerSprite != drawnPlayerSprite) {
+				markPlayer(drawnPlayerX, drawnPlayerTop + shift);
+				markPlayer(x, playerTop);
+			}
+			
+			if(water != drawnWater) {
+				markRows(Math.min(RisingWater.getSurfaceTop(drawnWater, drawnTop) + shift,
+						RisingWater.getSurfaceTop(water, screenTop)), Game.GAME_HEIGHT);
+			}
+			
+			// The scores stay put on the screen, so the old scores were shifted with the rest.
+			if(shift != 0 || y != drawnPlayerY || game.highScore != drawnHighScore
+					|| game.highestAltitude != drawnHighestAltitude
+					|| game.spaceBelowPlayer != drawnSpaceBelowPlayer) {
+				markRows(0, ScoreDisplay.getHeight());
+				if(shift != 0) {
+					markRows(shift, ScoreDisplay.getHeight() + shift);
+				}
+			}
+			
+			isWhole = mergeBands() > MAX_DIRTY_AREA;
+		}
+		
+		if(isWhole) {
+			game.paint(g, alpha, sky);
+			if(isOver) {
+				gameover.paint(g);
+			}
+		} else {
+			final Shape clip = g.getClip();
+			for(int i = 0; i < dirtyCount * 4; i += 4) {
+				g.setClip(clip);
+				g.clipRect(dirty[i], dirty[i + 1], dirty[i + 2], dirty[i + 3]);
+				game.paint(g, alpha, sky);
+				if(isOver) {
+					gameover.paint(g);
+				}
+			}
+			g.setClip(clip);
+		}
+		
+		isDrawn = true;
+		wasOver = isOver;
+		drawnTop = screenTop;
+		drawnBackground = background;
+		drawnPlayerX = x;
+		drawnPlayerTop = playerTop;
+		drawnPlayerSprite = game.playerSprite;
+		drawnWater = water;
+		drawnHighScore = game.highScore;
+		drawnHighestAltitude = game.highestAltitude;
+		drawnPlayerY = y;
+		drawnSpaceBelowPlayer = game.spaceBelowPlayer;
+		
+		final long[] swap = drawnBlocks;
+		drawnBlocks = blocks;
+		blocks = swap;
+		drawnBlockCount = Math.max(blockCount, 0);
+	}
+	
+	/**
+	 * Shifts the image as the screen scrolls, and marks the rows that scrolled onto the screen.
+	 * 
+	 * @param g
+	 *            The graphics object of the image.
+	 * @param shift
+	 *            How far the screen went up, so how far down the rows move.
+	 */
+	private void scroll(Graphics g, int shift) {
+		if(shift > 0) {
+			g.copyArea(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT - shift, 0, shift);
+			markRows(0, shift);
+		} else {
+			g.copyArea(0, -shift, Game.GAME_WIDTH, Game.GAME_HEIGHT + shift, 0, shift);
+			markRows(Game.GAME_HEIGHT + shift, Game.GAME_HEIGHT);
+		}
+	}
+	
+	/**
+	 * Packs where each block is drawn and how into a key, and sorts the keys, so the blocks of two
+	 * frames can be matched up.
+	 * 
+	 * @param snapshot
+	 *            The blocks.
+	 * @param screenTop
+	 *            The altitude of the top of the screen.
+	 * @param alpha
+	 *            How far between the steps the blocks are drawn.
+	 * @return How many blocks were packed, or -1 if a block didn't fit in a key.
+	 */
+	private int packBlocks(RubbleSnapshot snapshot, int screenTop, double alpha) {
+		final int count = snapshot.size();
+		if(count > blocks.length) {
+			blocks = new long[Math.max(count, blocks.length * 2)];
+		}
+		
+		// The top leaves room to be shifted by any scroll that doesn't draw the whole frame.
+		final int minTop = MAX_SCROLL - TOP_OFFSET, maxTop = TOP_OFFSET - MAX_SCROLL;
+		for(int i = 0; i < count; i++) {
+			final int top = snapshot.getTop(i, screenTop, alpha);
+			final int x = snapshot.getX(i), width = snapshot.getWidth(i);
+			final int height = snapshot.getHeight(i), shade = snapshot.getShade(i);
+			if(top < minTop || top >= maxTop || (x >>> X_BITS) != 0
+					|| (width >>> WIDTH_BITS) != 0 || (height >>> HEIGHT_BITS) != 0
+					|| (shade >>> SHADE_BITS) != 0) {
+				return -1;
+			}
+			blocks[i] =
+					(long)(top + TOP_OFFSET) << TOP_SHIFT | (long)x << X_SHIFT
+							| (long)width << WIDTH_SHIFT | (long)height << HEIGHT_SHIFT | shade;
+		}
+		Arrays.sort(blocks, 0, count);
+		return count;
+	}
+	
+	/**
+	 * Marks every block that isn't drawn the same as a block of the last frame, and every block of
+	 * the last frame that isn't drawn the same now.
+	 * 
+	 * @param count
+	 *            How many blocks there are now.
+	 * @param shift
+	 *            How far down the last frame was shifted.
+	 */
+	private void markBlocks(int count, int shift) {
+		final long keyShift = (long)shift << TOP_SHIFT;
+		int i = 0, j = 0;
+		while(i < count || j < drawnBlockCount) {
+			if(j == drawnBlockCount) {
+				markBlock(blocks[i++]);
+			} else if(i == count) {
+				markBlock(drawnBlocks[j++] + keyShift);
+			} else {
+				final long block = blocks[i], drawnBlock = drawnBlocks[j] + keyShift;
+				if(block == drawnBlock) {
+					i++;
+					j++;
+				} else if(block < drawnBlock) {
+					markBlock(block);
+					i++;
+				} else {
+					markBlock(drawnBlock);
+					j++;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Marks where a packed block is drawn, with a pixel around it to spare.
+	 * 
+	 * @param block
+	 *            The packed block.
+	 */
+	private void markBlock(long block) {
+		final int top = (int)(block >>> TOP_SHIFT) - TOP_OFFSET;
+		final int x = (int)(block >>> X_SHIFT) & ((1 << X_BITS) - 1);
+		final int width = (int)(block >>> WIDTH_SHIFT) & ((1 << WIDTH_BITS) - 1);
+		final int height = (int)(block >>> HEIGHT_SHIFT) & ((1 << HEIGHT_BITS) - 1);
+		mark(x - 1, top - 1, width + 3, height + 3);
+		
+		// Blocks past the right of the screen are split onto the left.
+		if(x + width + 2 > Game.GAME_WIDTH) {
+			mark(x - 1 - Game.GAME_WIDTH, top - 1, width + 3, height + 3);
+		}
+	}
+	
+	/**
+	 * Marks where the player is drawn.
+	 * 
+	 * @param x
+	 *            The x coordinate of the left of the player.
+	 * @param top
+	 *            The y coordinate on the screen of the top of the player.
+	 */
+	private void markPlayer(int x, int top) {
+		if(x + Player.WIDTH > Game.GAME_WIDTH) {
+			markRows(top, top + Player.HEIGHT);
+		} else {
+			mark(x, top, Player.WIDTH, Player.HEIGHT);
+		}
+	}
+	
+	/**
+	 * Marks rows across the whole screen.
+	 * 
+	 * @param top
+	 *            The first row.
+	 * @param bottom
+	 *            The row after the last.
+	 */
+	private void markRows(int top, int bottom) {
+		mark(0, top, Game.GAME_WIDTH, bottom - top);
+	}
+	
+	/**
+	 * Marks a rectangle to be drawn again, cut down to the screen.
+	 * 
+	 * @param x
+	 *            The x coordinate of the rectangle.
+	 * @param y
+	 *            The y coordinate of the rectangle.
+	 * @param width
+	 *            The width of the rectangle.
+	 * @param height
+	 *            The height of the rectangle.
+	 */
+	private void mark(int x, int y, int width, int height) {
+		final int left = Math.max(x, 0), top = Math.max(y, 0);
+		final int right = Math.min(x + width, Game.GAME_WIDTH);
+		final int bottom = Math.min(y + height, Game.GAME_HEIGHT);
+		if(left >= right || top >= bottom) {
+			return;
+		}
+		
+		if(dirtyCount * 4 == dirty.length) {
+			dirty = Arrays.copyOf(dirty, dirty.length * 2);
+		}
+		final int i = dirtyCount * 4;
+		dirty[i] = left;
+		dirty[i + 1] = top;
+		dirty[i + 2] = right - left;
+		dirty[i + 3] = bottom - top;
+		dirtyCount++;
+	}
+	
+	/**
+	 * Merges the marked rectangles that share rows into bands, each the smallest rectangle holding
+	 * the rectangles in it. A few bands are quicker to draw through than many small rectangles.
+	 * 
+	 * @return How many pixels the bands cover.
+	 */
+	private long mergeBands() {
+		final int end = dirtyCount * 4;
+		
+		// Sorts the rectangles by their tops. There are only a few, so an insertion sort is enough.
+		for(int i = 4; i < end; i += 4) {
+			final int x = dirty[i], y = dirty[i + 1], width = dirty[i + 2], height = dirty[i + 3];
+			int j = i;
+			while(j > 0 && dirty[j - 3] > y) {
+				System.arraycopy(dirty, j - 4, dirty, j, 4);
+				j -= 4;
+			}
+			dirty[j] = x;
+			dirty[j + 1] = y;
+			dirty[j + 2] = width;
+			dirty[j + 3] = height;
+		}
+		
+		// Each band is written over rectangles already merged into it or an earlier band.
+		long area = 0;
+		int bands = 0;
+		for(int i = 0; i < end;) {
+			int left = dirty[i], top = dirty[i + 1];
+			int right = left + dirty[i + 2], bottom = top + dirty[i + 3];
+			for(i += 4; i < end && dirty[i + 1] <= bottom; i += 4) {
+				left = Math.min(left, dirty[i]);
+				right = Math.max(right, dirty[i] + dirty[i + 2]);
+				bottom = Math.max(bottom, dirty[i + 1] + dirty[i + 3]);
+			}
+			
+			final int band = bands * 4;
+			dirty[band] = left;
+			dirty[band + 1] = top;
+			dirty[band + 2] = right - left;
+			dirty[band + 3] = bottom - top;
+			bands++;
+			area += (long)(right - left) * (bottom - top);
+		}
+		dirtyCount = bands;
+		return area;
+	}
+	
+}
@@ -1,20 +1,19 @@
 package game;
 
-import game.generators.BackgroundGenerator;
 import game.generators.BlockGenerator;
-import game.objects.Block;
+import game.generators.SeededRandom;
 import game.objects.Player;
 import game.objects.RisingWater;
-import gui.GameManager;
-import gui.PausedScreen;
-import java.applet.AudioClip;
-import java.awt.Graphics;
+import game.objects.Rubble;
 import java.awt.event.KeyListener;
-import java.util.LinkedList;
-import java.util.List;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
- * The game mechanics.
+ * The game mechanics. The game never draws or plays anything itself: it is drawn from the
+ * snapshots copied out of it, and tells its audio what to play. So a game given
+ * {@link SilentAudio} and never copied steps without a display or a sound device.
  * 
  * @author Jesse Brent
  * @version 1.0, 10/01/10
@@ -33,8 +32,8 @@ public final class Game {
 	/** The player of the game. */
 	private final Player player;
 	
-	/** The block objects in the game. */
-	private final List<Block> blocks;
+	/** The blocks of rubble in the game. */
+	private final Rubble blocks;
 	
 	/** The rising water in the game. */
 	private final RisingWater water;
@@ -42,37 +41,96 @@ public final class Game {
 	/** Keeps track of the score. */
 	private final Scoring score;
 	
-	/** The background music playing during the game. */
-	private final AudioClip backgroundMusic;
+	/** Plays the sounds of the game. */
+	private final GameAudio audio;
 	
 	/** Controls the input received by the player. */
 	private final InputReceiver input;
 	
+	/** The keys held for the current step, which don't change while the game steps. */
+	private final InputReceiver held;
+	
+	/** Generates the falling blocks. */
+	private final BlockGenerator generator;
+	
+	/** The tunable rules the game is played by. */
+	private final GameParameters parameters;
+	
+	/** The seed the blocks of the current game are generated from. */
+	private long seed;
+	
 	/** If the game has been paused. */
 	private boolean isPaused;
 	
 	/**
-	 * Readies the game.
+	 * Readies the game with a new seed.
+	 * 
+	 * @param audio
+	 *            Plays the sounds of the game.
+	 */
+	public Game(GameAudio audio) {
+		this(audio, SeededRandom.newSeed());
+	}
+	
+	/**
+	 * Readies the game. Games with the same seed given the same input play out the same.
+	 * 
+	 * @param audio
+	 *            Plays the sounds of the game.
+	 * @param gameSeed
+	 *            The seed the blocks are generated from.
 	 */
-	public Game() {
-		backgroundMusic = GameManager.loadSound("BumblyMarch.wav");
+	public Game(GameAudio audio, long gameSeed) {
+		this(audio, gameSeed, GameParameters.DEFAULT);
+	}
+	
+	/**
+	 * Readies the game with tunable rules of its own. Games with the same seed and parameters
+	 * given the same input play out the same.
+	 * 
+	 * @param audio
+	 *            Plays the sounds of the game.
+	 * @param gameSeed
+	 *            The seed the blocks are generated from.
+	 * @param gameParameters
+	 *            The tunable rules the game is played by, kept when the game is reset.
+	 */
+	public Game(GameAudio audio, long gameSeed, GameParameters gameParameters) {
+		this.audio = audio;
+		seed = gameSeed;
+		parameters = gameParameters;
+		generator = new BlockGenerator(seed, parameters.getBlockChance());
 		spaceBelowPlayer = (int)(GAME_HEIGHT * FRACTION_SCREEN_BELOW_PLAYER);
 		
-		player = new Player(GAME_WIDTH / 2, spaceBelowPlayer);
+		player = new Player(GAME_WIDTH / 2, spaceBelowPlayer, parameters.getJumpPower());
 		score = new Scoring(spaceBelowPlayer);
-		water = new RisingWater();
+		water = new RisingWater(parameters.getWaterRise());
 		input = new InputReceiver();
-		blocks = new LinkedList<Block>();
+		held = new InputReceiver();
+		blocks = new Rubble();
 		blocks.add(BlockGenerator.generateStartBlock(spaceBelowPlayer));
 	}
 	
 	/**
-	 * Resets the game to the initial state.
+	 * Resets the game to the initial state with a new seed.
 	 */
 	public void reset() {
+		reset(SeededRandom.newSeed());
+	}
+	
+	/**
+	 * Resets the game to the initial state.
+	 * 
+	 * @param gameSeed
+	 *            The seed the blocks are generated from.
+	 */
+	public void reset(long gameSeed) {
+		seed = gameSeed;
+		generator.setSeed(seed);
 		player.reset(GAME_WIDTH / 2, spaceBelowPlayer);
 		water.reset();
 		input.reset();
+		held.reset();
 		score.reset(spaceBelowPlayer);
 		isPaused = false;
 		
@@ -84,57 +142,127 @@ public final class Game {
 	 * Starts running the game.
 	 */
 	public void start() {
-		backgroundMusic.loop();
+		audio.playMusic();
+	}
+	
+	/**
+	 * Writes the state of the game, so it can be restored later. The keys being held aren't part
+	 * of the state, since they are given to each step.
+	 * 
+	 * @param out
+	 *            Where to write the state.
+	 * @throws IOException
+	 *             If the state can't be written.
+	 */
+	public void save(DataOutput out) throws IOException {
+		out.writeLong(seed);
+		out.writeBoolean(isPaused);
+		generator.save(out);
+		player.save(out);
+		water.save(out);
+		score.save(out);
+		blocks.save(out);
+	}
+	
+	/**
+	 * Restores the state of the game, as written by {@link #save(DataOutput)}. The game then
+	 * steps exactly as the saved game did given the same keys, if it has the same parameters.
+	 * 
+	 * @param in
+	 *            Where to read the state.
+	 * @throws IOException
+	 *             If the state can't be read.
+	 */
+	public void restore(DataInput in) throws IOException {
+		seed = in.readLong();
+		isPaused = in.readBoolean();
+		generator.restore(in);
+		player.restore(in);
+		water.restore(in);
+		score.restore(in);
+		blocks.restore(in);
+	}
+	
+	/**
+	 * Returns the keys being held by the player, packed as by {@link InputReceiver#getKeys()}.
+	 * 
+	 * @return The packed state of the keys.
+	 */
+	public int getKeys() {
+		return input.getKeys();
 	}
 	
 	/**
-	 * Advances the game by one frame.
+	 * Advances the game by one frame with the keys being held by the player.
 	 */
 	public void step() {
+		step(input.getKeys());
+	}
+	
+	/**
+	 * Advances the game by one frame with the keys given, rather than the keys being held. Games
+	 * with the same state given the same keys step the same.
+	 * 
+	 * @param keys
+	 *            The packed state of the keys, as returned by {@link #getKeys()}.
+	 */
+	public void step(int keys) {
+		held.setKeys(keys);
 		
 		if(!isAlive() && water.shouldStopSimulating(player.getAltitude())) {
 			blocks.clear();
 			return;
 		}
 		
-		if(input.isSuicide()) {
+		if(held.isSuicide()) {
 			player.suicide();
 		}
 		
-		if(input.isPaused() && !isPaused) {
+		if(held.isPaused() && !isPaused) {
 			isPaused = true;
-			backgroundMusic.stop();
+			audio.stopMusic();
 		}
 		
 		if(isPaused && isAlive()) {
-			if(input.isPaused()) {
+			if(held.isPaused()) {
 				return;
 			} else {
 				isPaused = false;
-				backgroundMusic.loop();
+				audio.playMusic();
 			}
 		}
 		
 		// Action order: Blocks, player, water, then block generation.
-		Block.step(blocks);
-		player.step(blocks, input);
+		blocks.step();
+		player.step(blocks, held);
 		water.step(blocks, player, spaceBelowPlayer);
 		
-		if(BlockGenerator.shouldGenerateBlock()) {
-			int highestPoint = player.getAltitude();
-			
-			for(final Block block : blocks) {
-				if(!block.isFalling() && block.getYOfTop() > highestPoint) {
-					highestPoint = block.getYOfTop();
-				}
-			}
-			
-			blocks.add(BlockGenerator.generateBlock(highestPoint));
+		if(generator.shouldGenerateBlock()) {
+			final int highestPoint = blocks.getHighestPoint(player.getAltitude());
+			blocks.add(generator.generateBlock(highestPoint));
 		}
 		
 		score.updateScore(player.getAltitude());
 	}
 	
+	/**
+	 * Returns the seed the blocks of the current game are generated from.
+	 * 
+	 * @return The seed.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+	
+	/**
+	 * Returns the tunable rules the game is played by.
+	 * 
+	 * @return The parameters.
+	 */
+	public GameParameters getParameters() {
+		return parameters;
+	}
+	
 	/**
 	 * Returns whether or not the player is still alive and the game should keep playing.
 	 * 
@@ -144,51 +272,63 @@ public final class Game {
 		return player.isAlive();
 	}
 	
+	/**
+	 * Returns the highest altitude the player has reached this game.
+	 * 
+	 * @return The highest altitude.
+	 */
+	public int getHighestAltitude() {
+		return score.getHighestAltitude();
+	}
+	
+	/**
+	 * Returns how many blocks of rubble are in the game.
+	 * 
+	 * @return The number of blocks.
+	 */
+	public int getBlockCount() {
+		return blocks.size();
+	}
+	
 	/**
 	 * Stops the game.
 	 */
 	public void stop() {
 		score.updateHighScore();
-		backgroundMusic.stop();
+		audio.stopMusic();
 	}
 	
 	/**
-	 * Draws the game onto an image.
+	 * Copies what is needed to draw the game into a snapshot. The snapshot can then be drawn on
+	 * another thread while the game keeps stepping, part of the way between the last two steps.
+	 * Advances the animation of the player.
 	 * 
-	 * @param g
-	 *            The graphics object of the image.
+	 * @param snapshot
+	 *            The snapshot to copy into.
 	 */
-	public void paint(Graphics g) {
-		
-		if(!isAlive() && water.shouldStopSimulating(player.getAltitude())) {
-			return;
-		}
-		
-		if(isPaused && isAlive()) {
-			PausedScreen.paint(g);
+	public void capture(GameSnapshot snapshot) {
+		snapshot.isHidden = !isAlive() && water.shouldStopSimulating(player.getAltitude());
+		snapshot.isPaused = isPaused && isAlive();
+		if(snapshot.isHidden || snapshot.isPaused) {
 			return;
 		}
 		
 		final int altitude = player.getAltitude();
 		final int topScreen = altitude + (GAME_HEIGHT - spaceBelowPlayer);
 		final int bottomScreen = altitude - spaceBelowPlayer;
+		blocks.capture(snapshot.blocks, topScreen, bottomScreen);
 		
-		g.setColor(BackgroundGenerator.generateBackgroundColor(altitude));
-		g.fillRect(0, 0, GAME_WIDTH, GAME_HEIGHT);
-		
-		for(final Block block : blocks) {
-			block.paint(g, topScreen, bottomScreen);
-		}
-		
-		if(player.isAlive()) {
-			player.paint(g, topScreen);
-			water.paint(g, topScreen, bottomScreen);
-		} else {
-			water.paint(g, topScreen, bottomScreen);
-			player.paint(g, topScreen);
-		}
-		
-		score.paint(g, player.getAltitude(), spaceBelowPlayer);
+		snapshot.playerX = player.getXOfLeft();
+		snapshot.playerY = altitude;
+		snapshot.previousPlayerX = player.getPreviousXOfLeft();
+		snapshot.previousPlayerY = player.getPreviousAltitude();
+		snapshot.playerSprite = player.getNextFrame();
+		snapshot.isPlayerAlive = player.isAlive();
+		snapshot.waterAltitude = water.getAltitude();
+		snapshot.previousWaterAltitude = water.getPreviousAltitude();
+		snapshot.highScore = score.getHighScore();
+		snapshot.highestAltitude = score.getHighestAltitude();
+		snapshot.spaceBelowPlayer = spaceBelowPlayer;
 	}
 	
 	/**
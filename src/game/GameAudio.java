@@ -0,0 +1,22 @@
+package game;
+
+/**
+ * Plays the sounds of a game. The game only tells its audio what to play, so it can be stepped
+ * without a sound device by giving it {@link SilentAudio}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public interface GameAudio {
+	
+	/**
+	 * Starts playing the background music, looping it until it is stopped.
+	 */
+	void playMusic();
+	
+	/**
+	 * Stops the background music.
+	 */
+	void stopMusic();
+	
+}
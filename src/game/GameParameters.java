@@ -0,0 +1,127 @@
+package game;
+
+/**
+ * The tunable rules of a game: how often blocks fall, how fast the water rises, and how high the
+ * player jumps. Each game is given its parameters when it is made and keeps them, so simulated
+ * games can be played with other rules and compared with games played with the defaults. The
+ * parameters are not part of the saved state of a game, so a game is only restored into a game
+ * with the same parameters.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class GameParameters {
+	
+	/** The average number of frames for a single block to be generated, unless told otherwise. */
+	private static final int DEFAULT_BLOCK_CHANCE = 20;
+	
+	/** How far the water rises each turn, unless told otherwise. */
+	private static final double DEFAULT_WATER_RISE = 0.50;
+	
+	/** The velocity of the player when starting a jump, unless told otherwise. */
+	private static final int DEFAULT_JUMP_POWER = 16;
+	
+	/** The parameters every game played in the window uses. */
+	public static final GameParameters DEFAULT =
+			new GameParameters(DEFAULT_BLOCK_CHANCE, DEFAULT_WATER_RISE, DEFAULT_JUMP_POWER);
+	
+	/** The average number of frames for a single block to be generated. */
+	private final int blockChance;
+	
+	/** How far the water rises each turn. */
+	private final double waterRise;
+	
+	/** The velocity of the player when starting a jump. */
+	private final int jumpPower;
+	
+	/**
+	 * Constructs a set of parameters.
+	 * 
+	 * @param blockChance
+	 *            The average number of frames for a single block to be generated.
+	 * @param waterRise
+	 *            How far the water rises each turn.
+	 * @param jumpPower
+	 *            The velocity of the player when starting a jump.
+	 */
+	public GameParameters(int blockChance, double waterRise, int jumpPower) {
+		if(blockChance <= 0) {
+			throw new IllegalArgumentException("Block chance must be positive: " + blockChance);
+		}
+		if(!(waterRise > 0) || Double.isInfinite(waterRise)) {
+			throw new IllegalArgumentException("Water rise must be positive: " + waterRise);
+		}
+		if(jumpPower <= 0) {
+			throw new IllegalArgumentException("Jump power must be positive: " + jumpPower);
+		}
+		this.blockChance = blockChance;
+		this.waterRise = waterRise;
+		this.jumpPower = jumpPower;
+	}
+	
+	/**
+	 * Returns the average number of frames for a single block to be generated.
+	 * 
+	 * @return The block chance.
+	 */
+	public int getBlockChance() {
+		return blockChance;
+	}
+	
+	/**
+	 * Returns how far the water rises each turn.
+	 * 
+	 * @return The water rise.
+	 */
+	public double getWaterRise() {
+		return waterRise;
+	}
+	
+	/**
+	 * Returns the velocity of the player when starting a jump.
+	 * 
+	 * @return The jump power.
+	 */
+	public int getJumpPower() {
+		return jumpPower;
+	}
+	
+	/*
+	 * {@inheritDoc}
+	 * 
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if(!(other instanceof GameParameters)) {
+			return false;
+		}
+		final GameParameters parameters = (GameParameters)other;
+		return blockChance == parameters.blockChance
+				&& Double.compare(waterRise, parameters.waterRise) == 0
+				&& jumpPower == parameters.jumpPower;
+	}
+	
+	/*
+	 * {@inheritDoc}
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		final long rise = Double.doubleToLongBits(waterRise);
+		return (blockChance * 31 + (int)(rise ^ rise >>> 32)) * 31 + jumpPower;
+	}
+	
+	/*
+	 * {@inheritDoc}
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "block chance 1 in " + blockChance + ", water rise " + waterRise + ", jump power "
+				+ jumpPower;
+	}
+	
+}
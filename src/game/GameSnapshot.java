@@ -0,0 +1,181 @@
+package game;
+
+import game.generators.BackgroundGenerator;
+import game.objects.Player;
+import game.objects.RisingWater;
+import game.objects.RubbleSnapshot;
+import gui.PausedScreen;
+import java.awt.Graphics;
+
+/**
+ * Everything needed to draw the game at one moment, copied out of the game so it can be drawn on
+ * another thread while the game keeps stepping. A snapshot is reused for every copy, so copying
+ * doesn't allocate once the snapshot has room for the blocks on the screen.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class GameSnapshot {
+	
+	/** The blocks of rubble on the screen. */
+	final RubbleSnapshot blocks;
+	
+	/** If nothing is drawn, since the game has stopped simulating. */
+	boolean isHidden;
+	
+	/** If only the paused screen is drawn. */
+	boolean isPaused;
+	
+	/** Coordinate of the player. */
+	int playerX, playerY;
+	
+	/** Coordinate of the player before the last step. */
+	int previousPlayerX, previousPlayerY;
+	
+	/** The sprite frame of the player. */
+	int playerSprite;
+	
+	/** If the player is alive. */
+	boolean isPlayerAlive;
+	
+	/** The altitude of the rising water. */
+	double waterAltitude;
+	
+	/** The altitude of the rising water before the last step. */
+	double previousWaterAltitude;
+	
+	/** The score altitudes. */
+	int highScore, highestAltitude;
+	
+	/** Amount of space below the player to the bottom of the screen. */
+	int spaceBelowPlayer;
+	
+	/**
+	 * Constructs an empty snapshot, which draws nothing.
+	 */
+	public GameSnapshot() {
+		blocks = new RubbleSnapshot();
+		isHidden = true;
+	}
+	
+	/**
+	 * Draws the game onto an image part of the way between the last two steps before the snapshot
+	 * was taken, so that drawing more often than the game steps shows smooth movement.
+	 * 
+	 * @param g
+	 *            The graphics object of the image.
+	 * @param alpha
+	 *            How far between the steps to draw the game, from 0 for the way it was before the
+	 *            last step to 1 for the way it was when the snapshot was taken.
+	 */
+	public void paint(Graphics g, double alpha) {
+		paint(g, alpha, null);
+	}
+	
+	/**
+	 * Draws the game onto an image part of the way between the last two steps, in front of a
+	 * gradient sky.
+	 * 
+	 * @param g
+	 *            The graphics object of the image.
+	 * @param alpha
+	 *            How far between the steps to draw the game, from 0 for the way it was before the
+	 *            last step to 1 for the way it was when the snapshot was taken.
+	 * @param sky
+	 *            The sky drawn behind the game, or null to fill the background with the color at
+	 *            the altitude of the player.
+	 */
+	public void paint(Graphics g, double alpha, GradientSky sky) {
+		
+		if(isHidden) {
+			return;
+		}
+		
+		if(isPaused) {
+			PausedScreen.paint(g);
+			return;
+		}
+		
+		final int x = getPlayerX(alpha);
+		final int y = getPlayerY(alpha);
+		final double water = getWaterAltitude(alpha);
+		
+		final int topScreen = getScreenTop(y);
+		final int bottomScreen = y - spaceBelowPlayer;
+		
+		if(sky == null) {
+			g.setColor(BackgroundGenerator.generateBackgroundColor(y));
+			g.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
+		} else {
+			sky.paint(g, topScreen);
+		}
+		
+		blocks.paint(g, topScreen, alpha);
+		
+		if(isPlayerAlive) {
+			Player.paint(g, playerSprite, x, y, topScreen);
+			RisingWater.paint(g, water, topScreen, bottomScreen);
+		} else {
+			RisingWater.paint(g, water, topScreen, bottomScreen);
+			Player.paint(g, playerSprite, x, y, topScreen);
+		}
+		
+		ScoreDisplay.paint(g, highScore, highestAltitude, y, spaceBelowPlayer);
+	}
+	
+	/**
+	 * Returns the x coordinate of the player part of the way between the last two steps.
+	 * 
+	 * @param alpha
+	 *            How far between the steps, from 0 for before the last step to 1 for when the
+	 *            snapshot was taken.
+	 * @return The x coordinate of the left of the player.
+	 */
+	int getPlayerX(double alpha) {
+		// The player wraps around the screen, so it moves whichever way around is shorter.
+		int moveX = playerX - previousPlayerX;
+		if(moveX > Game.GAME_WIDTH / 2) {
+			moveX -= Game.GAME_WIDTH;
+		} else if(moveX < -Game.GAME_WIDTH / 2) {
+			moveX += Game.GAME_WIDTH;
+		}
+		return (previousPlayerX + (int)Math.round(moveX * alpha) + Game.GAME_WIDTH)
+				% Game.GAME_WIDTH;
+	}
+	
+	/**
+	 * Returns the altitude of the player part of the way between the last two steps.
+	 * 
+	 * @param alpha
+	 *            How far between the steps, from 0 for before the last step to 1 for when the
+	 *            snapshot was taken.
+	 * @return The altitude of the player.
+	 */
+	int getPlayerY(double alpha) {
+		return previousPlayerY + (int)Math.round((playerY - previousPlayerY) * alpha);
+	}
+	
+	/**
+	 * Returns the altitude of the rising water part of the way between the last two steps.
+	 * 
+	 * @param alpha
+	 *            How far between the steps, from 0 for before the last step to 1 for when the
+	 *            snapshot was taken.
+	 * @return The altitude of the water.
+	 */
+	double getWaterAltitude(double alpha) {
+		return previousWaterAltitude + (waterAltitude - previousWaterAltitude) * alpha;
+	}
+	
+	/**
+	 * Returns the altitude of the top of the screen, which follows the player.
+	 * 
+	 * @param y
+	 *            The altitude of the player.
+	 * @return The altitude of the top of the screen.
+	 */
+	int getScreenTop(int y) {
+		return y + (Game.GAME_HEIGHT - spaceBelowPlayer);
+	}
+	
+}
@@ -0,0 +1,103 @@
+package game;
+
+import game.generators.BackgroundGenerator;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+/**
+ * A sky behind the game that colors each row of the screen by its own altitude, rather than
+ * filling the whole screen with the color at the altitude of the player. The rows are written
+ * straight into the pixels of an image from the table of background colors, and the image is
+ * drawn in one go. When the screen moves, the rows already written are shifted along and only the
+ * rows that came into view are written.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class GradientSky {
+	
+	/** The image the sky is written into. */
+	private final BufferedImage image;
+	
+	/** The pixels of the image, one row after another. */
+	private final int[] pixels;
+	
+	/** The altitude of the top of the screen when the sky was last written, if it has been. */
+	private int writtenTop;
+	
+	/** If the sky has been written. */
+	private boolean isWritten;
+	
+	/**
+	 * Constructs a sky the size of the game screen.
+	 */
+	public GradientSky() {
+		image = new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		pixels = ((DataBufferInt)image.getRaster().getDataBuffer()).getData();
+	}
+	
+	/**
+	 * Draws the sky on an image.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param screenTop
+	 *            The altitude of the top of the screen.
+	 */
+	public void paint(Graphics g, int screenTop) {
+		write(screenTop);
+		g.drawImage(image, 0, 0, null);
+	}
+	
+	/**
+	 * Writes the rows of the sky for a screen, reusing the rows already written where they overlap.
+	 * 
+	 * @param screenTop
+	 *            The altitude of the top of the screen.
+	 */
+	private void write(int screenTop) {
+		final long rise = isWritten ? (long)screenTop - writtenTop : Game.GAME_HEIGHT;
+		if(rise == 0) {
+			return;
+		}
+		
+		if(Math.abs(rise) >= Game.GAME_HEIGHT) {
+			writeRows(screenTop, 0, Game.GAME_HEIGHT);
+		} else if(rise > 0) {
+			// The screen went up, so the rows move down and new rows come in at the top.
+			final int shift = (int)rise;
+			System.arraycopy(pixels, 0, pixels, shift * Game.GAME_WIDTH,
+					(Game.GAME_HEIGHT - shift) * Game.GAME_WIDTH);
+			writeRows(screenTop, 0, shift);
+		} else {
+			final int shift = (int)-rise;
+			System.arraycopy(pixels, shift * Game.GAME_WIDTH, pixels, 0,
+					(Game.GAME_HEIGHT - shift) * Game.GAME_WIDTH);
+			writeRows(screenTop, Game.GAME_HEIGHT - shift, Game.GAME_HEIGHT);
+		}
+		
+		writtenTop = screenTop;
+		isWritten = true;
+	}
+	
+	/**
+	 * Writes some rows of the sky, each in the background color of its altitude.
+	 * 
+	 * @param screenTop
+	 *            The altitude of the top of the screen.
+	 * @param fromRow
+	 *            The first row written.
+	 * @param toRow
+	 *            The row after the last row written.
+	 */
+	private void writeRows(int screenTop, int fromRow, int toRow) {
+		for(int row = fromRow; row < toRow; row++) {
+			final int start = row * Game.GAME_WIDTH;
+			Arrays.fill(pixels, start, start + Game.GAME_WIDTH, BackgroundGenerator
+					.generateBackgroundRgb(screenTop - row));
+		}
+	}
+	
+}
@@ -11,6 +11,13 @@ import java.awt.event.KeyListener;
  */
 public final class InputReceiver implements KeyListener {
 	
+	/** The bit of each key in the packed state of the keys. */
+	public static final int UP = 1, RIGHT = 1 << 1, LEFT = 1 << 2, W = 1 << 3, A = 1 << 4,
+			D = 1 << 5, Z = 1 << 6, SPACE = 1 << 7, ESC = 1 << 8, ENTER = 1 << 9;
+	
+	/** How many bits the packed state of the keys uses. */
+	public static final int KEY_BITS = 10;
+	
 	/** If the given key is being pressed. */
 	private boolean upDown, rightDown, leftDown, wDown, aDown, dDown, zDown;
 	
@@ -40,6 +47,37 @@ public final class InputReceiver implements KeyListener {
 		escPressed = false;
 	}
 	
+	/**
+	 * Returns the state of every key, packed into the lowest {@link #KEY_BITS} bits, so it can be
+	 * copied or recorded.
+	 * 
+	 * @return The packed state of the keys.
+	 */
+	public int getKeys() {
+		return (upDown ? UP : 0) | (rightDown ? RIGHT : 0) | (leftDown ? LEFT : 0)
+				| (wDown ? W : 0) | (aDown ? A : 0) | (dDown ? D : 0) | (zDown ? Z : 0)
+				| (spacePressed ? SPACE : 0) | (escPressed ? ESC : 0) | (enterPressed ? ENTER : 0);
+	}
+	
+	/**
+	 * Sets the state of every key, as packed by {@link #getKeys()}.
+	 * 
+	 * @param keys
+	 *            The packed state of the keys.
+	 */
+	public void setKeys(int keys) {
+		upDown = (keys & UP) != 0;
+		rightDown = (keys & RIGHT) != 0;
+		leftDown = (keys & LEFT) != 0;
+		wDown = (keys & W) != 0;
+		aDown = (keys & A) != 0;
+		dDown = (keys & D) != 0;
+		zDown = (keys & Z) != 0;
+		spacePressed = (keys & SPACE) != 0;
+		escPressed = (keys & ESC) != 0;
+		enterPressed = (keys & ENTER) != 0;
+	}
+	
 	/**
 	 * If input is being received to move to the right.
 	 * 
@@ -0,0 +1,80 @@
+package game;
+
+import gui.OutlinedText;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Point;
+
+/**
+ * Draws the scores over the game. Kept apart from {@link Scoring} so the score keeping in a game
+ * that is never drawn doesn't load fonts or draw the glyphs of the scores.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+final class ScoreDisplay {
+	
+	/** The position for a score. */
+	private static final Point HIGH_SCORE = new Point(5, 25), CURRENT_SCORE = new Point(5, 25),
+			RELATIVE_SCORE = new Point(5, 50);
+	
+	/** Font for the scores. */
+	private static final Font SCORE_FONT = new Font("Serif", Font.BOLD, 30);
+	
+	/** Draws the scores, outlined. */
+	private static final OutlinedText SCORE_STYLE =
+			new OutlinedText(SCORE_FONT, 1, Color.BLACK, Color.LIGHT_GRAY);
+	
+	/** Modifies the x of the score position for each digit. */
+	private static final int X_MOD_PER_DIGIT = 15;
+	
+	/**
+	 * ScoreDisplay is a utility class and cannot be instantiated.
+	 */
+	private ScoreDisplay() {}
+	
+	/**
+	 * Returns how far down the screen the scores can be drawn, since they are drawn at the same
+	 * place whatever the altitude.
+	 * 
+	 * @return The number of rows at the top of the screen the scores are drawn in.
+	 */
+	static int getHeight() {
+		return Math.max(HIGH_SCORE.y, Math.max(CURRENT_SCORE.y, RELATIVE_SCORE.y))
+				+ SCORE_STYLE.getDescent();
+	}
+	
+	/**
+	 * Draws the scores on an image.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param highScore
+	 *            The highest altitude reached in any game.
+	 * @param highestAltitude
+	 *            The highest altitude reached in the current game.
+	 * @param currentAltitude
+	 *            The current altitude of the player.
+	 * @param spaceBelowPlayer
+	 *            Amount of space below the player to the bottom of the screen.
+	 */
+	static void paint(Graphics g, int highScore, int highestAltitude, int currentAltitude,
+			int spaceBelowPlayer) {
+		final int highestScore = Scoring.toScore(highScore, spaceBelowPlayer);
+		final int currentScore = Scoring.toScore(highestAltitude, spaceBelowPlayer);
+		final int relativeScore = Scoring.toScore(currentAltitude, spaceBelowPlayer);
+		
+		final int moddedCurrentScoreX =
+				Game.GAME_WIDTH - OutlinedText.getLength(currentScore) * X_MOD_PER_DIGIT
+						- CURRENT_SCORE.x;
+		final int moddedRelativeScoreX =
+				Game.GAME_WIDTH - OutlinedText.getLength(relativeScore) * X_MOD_PER_DIGIT
+						- RELATIVE_SCORE.x;
+		
+		SCORE_STYLE.paint(g, highestScore, HIGH_SCORE.x, HIGH_SCORE.y);
+		SCORE_STYLE.paint(g, currentScore, moddedCurrentScoreX, CURRENT_SCORE.y);
+		SCORE_STYLE.paint(g, relativeScore, moddedRelativeScoreX, RELATIVE_SCORE.y);
+	}
+	
+}
@@ -1,9 +1,8 @@
 package game;
 
-import java.awt.Color;
-import java.awt.Font;
-import java.awt.Graphics;
-import java.awt.Point;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Controls the scoring for the game.
@@ -13,16 +12,6 @@ import java.awt.Point;
  */
 public final class Scoring {
 	
-	/** The position for a score. */
-	private static final Point HIGH_SCORE = new Point(5, 25), CURRENT_SCORE = new Point(5, 25),
-			RELATIVE_SCORE = new Point(5, 50);
-	
-	/** Font for the scores. */
-	private static final Font SCORE_FONT = new Font("Serif", Font.BOLD, 30);
-	
-	/** Modifies the x of the score position for each digit. */
-	private static final int X_MOD_PER_DIGIT = 15;
-	
 	/** What to divide the altitude by to get the score. */
 	private static final int ALTITUDE_MOD = 11;
 	
@@ -54,6 +43,32 @@ public final class Scoring {
 		highestAltitude = spaceBelowPlayer;
 	}
 	
+	/**
+	 * Writes the scores, so they can be restored later.
+	 * 
+	 * @param out
+	 *            Where to write the scores.
+	 * @throws IOException
+	 *             If the scores can't be written.
+	 */
+	void save(DataOutput out) throws IOException {
+		out.writeInt(highScore);
+		out.writeInt(highestAltitude);
+	}
+	
+	/**
+	 * Restores the scores, as written by {@link #save(DataOutput)}.
+	 * 
+	 * @param in
+	 *            Where to read the scores.
+	 * @throws IOException
+	 *             If the scores can't be read.
+	 */
+	void restore(DataInput in) throws IOException {
+		highScore = in.readInt();
+		highestAltitude = in.readInt();
+	}
+	
 	/**
 	 * Checks the score against the current altitude.
 	 * 
@@ -76,55 +91,34 @@ public final class Scoring {
 	}
 	
 	/**
-	 * Draws the score on an image.
+	 * Returns the highest altitude reached in any game.
 	 * 
-	 * @param g
-	 *            The graphics object for the image.
-	 * @param currentAltitude
-	 *            The current altitude of the player.
-	 * @param spaceBelowPlayer
-	 *            Amount of space below the player to the bottom of the screen.
+	 * @return The high score altitude.
 	 */
-	public void paint(Graphics g, int currentAltitude, int spaceBelowPlayer) {
-		final String highestScore =
-				Integer.toString((highScore - spaceBelowPlayer) / ALTITUDE_MOD);
-		final String currentScore =
-				Integer.toString((highestAltitude - spaceBelowPlayer) / ALTITUDE_MOD);
-		final String relativeScore =
-				Integer.toString((currentAltitude - spaceBelowPlayer) / ALTITUDE_MOD);
-		
-		final int moddedCurrentScoreX =
-				Game.GAME_WIDTH - currentScore.length() * X_MOD_PER_DIGIT - CURRENT_SCORE.x;
-		final int moddedRelativeScoreX =
-				Game.GAME_WIDTH - relativeScore.length() * X_MOD_PER_DIGIT - RELATIVE_SCORE.x;
-		
-		g.setFont(SCORE_FONT);
-		drawOutlinedString(g, highestScore, HIGH_SCORE.x, HIGH_SCORE.y);
-		drawOutlinedString(g, currentScore, moddedCurrentScoreX, CURRENT_SCORE.y);
-		drawOutlinedString(g, relativeScore, moddedRelativeScoreX, RELATIVE_SCORE.y);
+	public int getHighScore() {
+		return highScore;
 	}
 	
 	/**
-	 * Draws a given string outlined at a position on an image.
+	 * Returns the highest altitude reached in the current game.
 	 * 
-	 * @param g
-	 *            The graphics object for the image.
-	 * @param text
-	 *            The string to display.
-	 * @param x
-	 *            The X coordinate to draw the text.
-	 * @param y
-	 *            The Y coordinate to draw the text.
+	 * @return The highest altitude.
+	 */
+	public int getHighestAltitude() {
+		return highestAltitude;
+	}
+	
+	/**
+	 * Turns an altitude into the score shown for it.
+	 * 
+	 * @param altitude
+	 *            The altitude.
+	 * @param spaceBelowPlayer
+	 *            Amount of space below the player to the bottom of the screen.
+	 * @return The score.
 	 */
-	private static void drawOutlinedString(Graphics g, String text, int x, int y) {
-		g.setColor(Color.BLACK);
-		g.drawString(text, x - 1, y - 1);
-		g.drawString(text, x - 1, y + 1);
-		g.drawString(text, x + 1, y - 1);
-		g.drawString(text, x + 1, y + 1);
-		
-		g.setColor(Color.LIGHT_GRAY);
-		g.drawString(text, x, y);
+	static int toScore(int altitude, int spaceBelowPlayer) {
+		return (altitude - spaceBelowPlayer) / ALTITUDE_MOD;
 	}
 	
 }
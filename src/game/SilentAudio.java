@@ -0,0 +1,27 @@
+package game;
+
+/**
+ * Audio that plays nothing, for games stepped without a sound device.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class SilentAudio implements GameAudio {
+	
+	/*
+	 * {@inheritDoc}
+	 * 
+	 * @see game.GameAudio#playMusic()
+	 */
+	@Override
+	public void playMusic() {}
+	
+	/*
+	 * {@inheritDoc}
+	 * 
+	 * @see game.GameAudio#stopMusic()
+	 */
+	@Override
+	public void stopMusic() {}
+	
+}
@@ -22,27 +22,84 @@ public final class BackgroundGenerator {
 	/** How many color shifts the background goes through. */
 	private static final int COLOR_SHIFTS = 6;
 	
+	/** How many phases the background color goes through before it repeats. */
+	private static final int CYCLE_LENGTH = MAX_COLOR_SATURATION * COLOR_SHIFTS + 1;
+	
+	/** The packed RGB of the background color for each phase. */
+	private static final int[] RGB_TABLE;
+	
+	/** The background color for each phase. */
+	private static final Color[] COLOR_TABLE;
+	
+	static {
+		RGB_TABLE = new int[CYCLE_LENGTH];
+		COLOR_TABLE = new Color[CYCLE_LENGTH];
+		for(int phase = 0; phase < CYCLE_LENGTH; phase++) {
+			RGB_TABLE[phase] = computeRgb(phase);
+			COLOR_TABLE[phase] = new Color(RGB_TABLE[phase]);
+		}
+	}
+	
 	/**
 	 * BackgroundGenerator is a utility class and cannot be instantiated.
 	 */
 	private BackgroundGenerator() {}
 	
 	/**
-	 * Generates a nice background color based upon altitude.
+	 * Generates a nice background color based upon altitude. The colors are worked out ahead of
+	 * time, so the same color object is returned for every altitude in the same phase.
 	 * 
 	 * @param altitude
 	 *            The height to generate the background color.
 	 * @return The generated background color.
 	 */
 	public static Color generateBackgroundColor(int altitude) {
+		final int phase = getPhase(altitude);
+		if(phase < 0) {
+			return new Color(computeRgb(phase));
+		}
+		return COLOR_TABLE[phase];
+	}
+	
+	/**
+	 * Generates the background color based upon altitude, packed as RGB.
+	 * 
+	 * @param altitude
+	 *            The height to generate the background color.
+	 * @return The packed RGB of the generated background color.
+	 */
+	public static int generateBackgroundRgb(int altitude) {
+		final int phase = getPhase(altitude);
+		if(phase < 0) {
+			return computeRgb(phase);
+		}
+		return RGB_TABLE[phase];
+	}
+	
+	/**
+	 * Finds the phase of the background color at an altitude.
+	 * 
+	 * @param altitude
+	 *            The height of the background color.
+	 * @return The phase, which is only negative for the lowest integer since it has no absolute
+	 *         value.
+	 */
+	private static int getPhase(int altitude) {
+		return (Math.abs(altitude) / COLOR_PHASE + BASE_COLOR_SATURATION) % CYCLE_LENGTH;
+	}
+	
+	/**
+	 * Works out the background color for a phase.
+	 * 
+	 * @param phase
+	 *            The phase.
+	 * @return The packed RGB of the background color.
+	 */
+	private static int computeRgb(int phase) {
 		int red = 0;
-		int blue = 0;
+		int blue = phase;
 		int green = 0;
 		
-		blue =
-				(Math.abs(altitude) / COLOR_PHASE + BASE_COLOR_SATURATION)
-						% (MAX_COLOR_SATURATION * COLOR_SHIFTS + 1);
-		
 		if(blue > MAX_COLOR_SATURATION) {
 			green = blue - MAX_COLOR_SATURATION;
 			blue = MAX_COLOR_SATURATION;
@@ -68,7 +125,7 @@ public final class BackgroundGenerator {
 			}
 		}
 		
-		return new Color(red, green, blue);
+		return red << 16 | green << 8 | blue;
 	}
 	
 }
@@ -1,40 +1,96 @@
 package game.generators;
 
 import game.Game;
+import game.GameParameters;
 import game.objects.Block;
 import java.awt.Color;
-import java.util.Random;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
- * Generates the game's falling blocks.
+ * Generates the game's falling blocks. Each generator draws from its own seeded stream of numbers,
+ * so the same seed always generates the same blocks.
  * 
  * @author Jesse Brent
  * @version 1.0, 10/01/10
  */
 public final class BlockGenerator {
 	
-	/** The average number of frames for a single block to be generated. */
-	private static final int BLOCK_CHANCE = 20;
-	
 	/** Block generation property. */
 	private static final int MIN_WIDTH = 40, VARIABLE_WIDTH = 40, MIN_HEIGHT = 40,
 			VARIABLE_HEIGHT = 20, MIN_FALL = 5, VARIABLE_FALL = 3;
 	
 	/** Controls all the randomization for the block generation. */
-	private static final Random RANDOMIZER = new Random();
+	private final SeededRandom randomizer;
+	
+	/** The average number of frames for a single block to be generated. */
+	private final int blockChance;
+	
+	/**
+	 * Constructs a generator from a seed, generating blocks as often as in the default game.
+	 * 
+	 * @param seed
+	 *            The seed for the blocks generated.
+	 */
+	public BlockGenerator(long seed) {
+		this(seed, GameParameters.DEFAULT.getBlockChance());
+	}
+	
+	/**
+	 * Constructs a generator from a seed.
+	 * 
+	 * @param seed
+	 *            The seed for the blocks generated.
+	 * @param blockChance
+	 *            The average number of frames for a single block to be generated.
+	 */
+	public BlockGenerator(long seed, int blockChance) {
+		randomizer = new SeededRandom(seed);
+		this.blockChance = blockChance;
+	}
 	
 	/**
-	 * Generator is a utility class and cannot be instantiated.
+	 * Starts generating blocks again from a seed.
+	 * 
+	 * @param seed
+	 *            The seed for the blocks generated.
+	 */
+	public void setSeed(long seed) {
+		randomizer.setSeed(seed);
+	}
+	
+	/**
+	 * Writes how far the generator has got, so it can carry on from there after being restored.
+	 * 
+	 * @param out
+	 *            Where to write the state.
+	 * @throws IOException
+	 *             If the state can't be written.
 	 */
-	private BlockGenerator() {}
+	public void save(DataOutput out) throws IOException {
+		out.writeLong(randomizer.getState());
+	}
+	
+	/**
+	 * Restores how far the generator has got, as written by {@link #save(DataOutput)}.
+	 * 
+	 * @param in
+	 *            Where to read the state.
+	 * @throws IOException
+	 *             If the state can't be read.
+	 */
+	public void restore(DataInput in) throws IOException {
+		randomizer.setSeed(in.readLong());
+	}
 	
 	/**
 	 * Determines if a block should be generated.
 	 * 
 	 * @return Whether or not a block should be generated.
 	 */
-	public static boolean shouldGenerateBlock() {
-		return RANDOMIZER.nextInt(BLOCK_CHANCE) == 0;
+	public boolean shouldGenerateBlock() {
+		return randomizer.nextInt(blockChance) == 0;
 	}
 	
 	/**
@@ -44,12 +100,12 @@ public final class BlockGenerator {
 	 *            The highest altitude of the game.
 	 * @return The generated block.
 	 */
-	public static Block generateBlock(int highestPoint) {
-		final Color color = new Color(RANDOMIZER.nextInt());
-		final int width = RANDOMIZER.nextInt(VARIABLE_WIDTH) + MIN_WIDTH;
-		final int height = RANDOMIZER.nextInt(VARIABLE_HEIGHT) + MIN_HEIGHT;
-		final int falling = RANDOMIZER.nextInt(VARIABLE_FALL) + MIN_FALL;
-		final int x = RANDOMIZER.nextInt(Game.GAME_WIDTH);
+	public Block generateBlock(int highestPoint) {
+		final Color color = new Color(randomizer.nextInt());
+		final int width = randomizer.nextInt(VARIABLE_WIDTH) + MIN_WIDTH;
+		final int height = randomizer.nextInt(VARIABLE_HEIGHT) + MIN_HEIGHT;
+		final int falling = randomizer.nextInt(VARIABLE_FALL) + MIN_FALL;
+		final int x = randomizer.nextInt(Game.GAME_WIDTH);
 		final int y = highestPoint + Game.GAME_HEIGHT;
 		
 		return new Block(color, x, y, width, height, falling);
@@ -71,12 +127,12 @@ public final class BlockGenerator {
 	 * 
 	 * @return The generated block.
 	 */
-	public static Block generateTitleBlock() {
-		final Color color = new Color(RANDOMIZER.nextInt());
-		final int width = RANDOMIZER.nextInt(VARIABLE_WIDTH) + MIN_WIDTH;
-		final int height = RANDOMIZER.nextInt(VARIABLE_HEIGHT) + MIN_HEIGHT;
-		final int falling = RANDOMIZER.nextInt(VARIABLE_FALL) + MIN_FALL;
-		final int x = RANDOMIZER.nextInt(Game.GAME_WIDTH);
+	public Block generateTitleBlock() {
+		final Color color = new Color(randomizer.nextInt());
+		final int width = randomizer.nextInt(VARIABLE_WIDTH) + MIN_WIDTH;
+		final int height = randomizer.nextInt(VARIABLE_HEIGHT) + MIN_HEIGHT;
+		final int falling = randomizer.nextInt(VARIABLE_FALL) + MIN_FALL;
+		final int x = randomizer.nextInt(Game.GAME_WIDTH);
 		final int y = height + Game.GAME_HEIGHT;
 		
 		return new Block(color, x, y, width, height, falling);
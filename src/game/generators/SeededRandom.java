@@ -0,0 +1,109 @@
+package game.generators;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A fast stream of pseudorandom numbers from an explicit seed, in the manner of SplitMix64. The
+ * same seed always gives the same numbers. Unlike {@link java.util.Random}, the state isn't shared
+ * or updated atomically, so each generator must only be used by one thread at a time.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class SeededRandom {
+	
+	/** How far the state moves for each number, an odd constant from the golden ratio. */
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+	
+	/** Moves on for each new seed, so seeds made at the same time still differ. */
+	private static final AtomicLong SEEDS = new AtomicLong(System.nanoTime());
+	
+	/** The state of the stream, which moves on for each number. */
+	private long state;
+	
+	/**
+	 * Constructs a generator from a seed.
+	 * 
+	 * @param seed
+	 *            The seed.
+	 */
+	public SeededRandom(long seed) {
+		setSeed(seed);
+	}
+	
+	/**
+	 * Returns a new seed, different from the others returned.
+	 * 
+	 * @return The seed.
+	 */
+	public static long newSeed() {
+		return mix(SEEDS.addAndGet(GOLDEN_GAMMA) ^ System.nanoTime());
+	}
+	
+	/**
+	 * Starts the stream again from a seed.
+	 * 
+	 * @param seed
+	 *            The seed.
+	 */
+	public void setSeed(long seed) {
+		state = seed;
+	}
+	
+	/**
+	 * Returns the state of the stream. Seeding a generator with it carries on the same numbers.
+	 * 
+	 * @return The state.
+	 */
+	public long getState() {
+		return state;
+	}
+	
+	/**
+	 * Returns the next number, with every long value equally likely.
+	 * 
+	 * @return The number.
+	 */
+	public long nextLong() {
+		state += GOLDEN_GAMMA;
+		return mix(state);
+	}
+	
+	/**
+	 * Returns the next number, with every int value equally likely.
+	 * 
+	 * @return The number.
+	 */
+	public int nextInt() {
+		return (int)(nextLong() >>> 32);
+	}
+	
+	/**
+	 * Returns the next number from 0 up to a bound. The bound is multiplied by a random fraction
+	 * rather than taking a remainder, which is faster and biased by less than one part in 2^31.
+	 * 
+	 * @param bound
+	 *            How many numbers there are to choose from.
+	 * @return The number, from 0 to the bound.
+	 */
+	public int nextInt(int bound) {
+		if(bound <= 0) {
+			throw new IllegalArgumentException("Bound must be positive: " + bound);
+		}
+		return (int)(((nextLong() >>> 33) * bound) >>> 31);
+	}
+	
+	/**
+	 * Scrambles the bits of a state into a number.
+	 * 
+	 * @param z
+	 *            The state.
+	 * @return The number.
+	 */
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+	
+}
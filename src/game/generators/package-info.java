@@ -1,3 +1,3 @@
-/** Utility classes that generate game objects and mechanics. */
+/** Classes that generate game objects and mechanics. */
 package game.generators;
 
@@ -58,13 +58,6 @@ public final class Block {
 		stationary = false;
 	}
 	
-	/**
-	 * Controls the falling of the block.
-	 */
-	private void fall() {
-		y -= fallingSpeed;
-	}
-	
 	/**
 	 * Floats the block if it is halfway submerged in water.
 	 * 
@@ -86,35 +79,6 @@ public final class Block {
 		return fallingSpeed != 0;
 	}
 	
-	/**
-	 * Checks if this block collides with other blocks and fixes the position.
-	 * 
-	 * @param blocks
-	 *            Other block objects in the area.
-	 */
-	private void fixCollisions(List<Block> blocks) {
-		if(stationary) {
-			return;
-		}
-		
-		for(final Block otherBlock : blocks) {
-			if(this.collides(otherBlock) && (otherBlock != this)) {
-				if(this.y > otherBlock.y) {
-					this.fallingSpeed = otherBlock.fallingSpeed;
-					this.y = otherBlock.y + otherBlock.height;
-					this.fixCollisions(blocks);
-					break;
-				} else {
-					otherBlock.fallingSpeed = this.fallingSpeed;
-					otherBlock.y = this.y + this.height;
-					otherBlock.fixCollisions(blocks);
-				}
-			}
-		}
-		
-		stationary = !isFalling();
-	}
-	
 	/**
 	 * Checks if this block is colliding with another block.
 	 * 
@@ -140,27 +104,54 @@ public final class Block {
 	 * @return Whether or not the block is colliding with the object.
 	 */
 	public boolean collides(int objectX, int objectY, int objectWidth, int objectHeight) {
+		return collides(x, y, width, height, objectX, objectY, objectWidth, objectHeight);
+	}
+	
+	/**
+	 * Checks if a block is colliding with an object. Shared with the rubble, which keeps its
+	 * blocks in arrays rather than as block objects.
+	 * 
+	 * @param blockX
+	 *            The x position of the block.
+	 * @param blockY
+	 *            The y position of the block.
+	 * @param blockWidth
+	 *            The width of the block.
+	 * @param blockHeight
+	 *            The height of the block.
+	 * @param objectX
+	 *            The x position of the object.
+	 * @param objectY
+	 *            The y position of the object.
+	 * @param objectWidth
+	 *            The width of the object.
+	 * @param objectHeight
+	 *            The height of the object.
+	 * @return Whether or not the block is colliding with the object.
+	 */
+	static boolean collides(int blockX, int blockY, int blockWidth, int blockHeight, int objectX,
+			int objectY, int objectWidth, int objectHeight) {
 		
 		// They can't be colliding if the bottom of this object is higher than the top of the other.
-		if(this.y >= objectY + objectHeight) {
+		if(blockY >= objectY + objectHeight) {
 			return false;
 		}
 		
 		// They can't be colliding if the top of this object is lower than the bottom of the other.
-		if(this.y + this.height <= objectY) {
+		if(blockY + blockHeight <= objectY) {
 			return false;
 		}
 		
 		// Treated as normal if neither or both objects are splitting the unbounded screen.
-		if((this.x + this.width >= Game.GAME_WIDTH) == (objectX + objectWidth >= Game.GAME_WIDTH)) {
+		if((blockX + blockWidth >= Game.GAME_WIDTH) == (objectX + objectWidth >= Game.GAME_WIDTH)) {
 			
 			// They can't be colliding if the right of this object is to the left of the other.
-			if(this.x + this.width <= objectX) {
+			if(blockX + blockWidth <= objectX) {
 				return false;
 			}
 			
 			// They can't be colliding if the left of this object is to the right of the other.
-			if(this.x >= objectX + objectWidth) {
+			if(blockX >= objectX + objectWidth) {
 				return false;
 			}
 			
@@ -170,7 +161,7 @@ public final class Block {
 			 * With one block splitting the screen, they are colliding if the right of this block is
 			 * greater than the left of the other.
 			 */
-			if((this.x + this.width) % Game.GAME_WIDTH > objectX) {
+			if((blockX + blockWidth) % Game.GAME_WIDTH > objectX) {
 				return true;
 			}
 			
@@ -178,7 +169,7 @@ public final class Block {
 			 * With one block splitting the screen, they are colliding if the left of this block is
 			 * less than the right of the other.
 			 */
-			if(this.x < (objectX + objectWidth) % Game.GAME_WIDTH) {
+			if(blockX < (objectX + objectWidth) % Game.GAME_WIDTH) {
 				return true;
 			}
 			
@@ -224,6 +215,49 @@ public final class Block {
 		return x + width;
 	}
 	
+	/**
+	 * Returns the color of the block.
+	 * 
+	 * @return The color of the block.
+	 */
+	Color getColor() {
+		return color;
+	}
+	
+	/**
+	 * Returns how fast the block is falling.
+	 * 
+	 * @return The falling speed of the block.
+	 */
+	int getFallingSpeed() {
+		return fallingSpeed;
+	}
+	
+	/**
+	 * Returns if the block has stopped falling and is stationary.
+	 * 
+	 * @return If the block is stationary.
+	 */
+	boolean isStationary() {
+		return stationary;
+	}
+	
+	/**
+	 * Updates the block with the state of its copy in the rubble.
+	 * 
+	 * @param newY
+	 *            The y coordinate of the block.
+	 * @param newFallingSpeed
+	 *            The falling speed of the block.
+	 * @param isStationary
+	 *            If the block is stationary.
+	 */
+	void update(int newY, int newFallingSpeed, boolean isStationary) {
+		y = newY;
+		fallingSpeed = newFallingSpeed;
+		stationary = isStationary;
+	}
+	
 	/**
 	 * Draws this object on an image.
 	 * 
@@ -264,13 +298,11 @@ public final class Block {
 	 *            The block objects in the game.
 	 */
 	public static void step(List<Block> blocks) {
-		for(final Block block : blocks) {
-			block.fall();
-		}
+		final Rubble rubble = new Rubble(blocks);
+		rubble.step();
 		
-		// Block collisions must be fixed after ALL the blocks have fallen to insure integrity.
-		for(final Block block : blocks) {
-			block.fixCollisions(blocks);
+		for(int i = 0; i < blocks.size(); i++) {
+			rubble.update(i, blocks.get(i));
 		}
 	}
 	
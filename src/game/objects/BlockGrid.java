@@ -0,0 +1,369 @@
+package game.objects;
+
+import game.Game;
+
+/**
+ * A uniform grid of x-columns and altitude bands holding the slots of the blocks that have landed.
+ * Used to find the landed blocks that may be colliding with a block. Columns wrap around the
+ * unbounded screen the same way {@link Block#collides} does.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+final class BlockGrid {
+	
+	/**
+	 * The cells of one altitude band.
+	 * 
+	 * @author Jesse Brent
+	 * @version 1.0, 10/17/26
+	 */
+	private static final class Band {
+		
+		/** The slots of the blocks in each column of the band. */
+		private final int[][] cells = new int[COLUMNS][];
+		
+		/** How many blocks are in each column of the band. */
+		private final int[] sizes = new int[COLUMNS];
+		
+		/** How many cell entries the band holds. */
+		private int total;
+		
+	}
+	
+	/** Dimension of a grid cell, as a power of two. */
+	private static final int COLUMN_SHIFT = 6, BAND_SHIFT = 6;
+	
+	/** The number of columns across the game screen. */
+	private static final int COLUMNS = Game.GAME_WIDTH >> COLUMN_SHIFT;
+	
+	/** The largest block that is placed into cells rather than checked against everything. */
+	private static final int MAX_CELL_WIDTH = Game.GAME_WIDTH / 2,
+			MAX_CELL_HEIGHT = 4 << BAND_SHIFT;
+	
+	/** How far from the ground a block can be and still be placed into cells. */
+	private static final int MAX_CELL_ALTITUDE = 1 << 30;
+	
+	/** How many blocks a new cell has room for. */
+	private static final int INITIAL_CELL_SIZE = 4;
+	
+	/** Slots of blocks too large or too far off screen to be placed into cells. */
+	private final SlotList overflow;
+	
+	/**
+	 * The altitude bands, from the lowest band up. Entries outside the used ones are either null
+	 * or empty bands kept for reuse.
+	 */
+	private Band[] bands;
+	
+	/** The altitude band of the first entry in the bands. */
+	private int firstBand;
+	
+	/** Where the used entries of the bands start and end. */
+	private int low, high;
+	
+	/**
+	 * Constructs an empty grid.
+	 */
+	BlockGrid() {
+		overflow = new SlotList();
+		clear();
+	}
+	
+	/**
+	 * Removes every block from the grid. The bands are emptied and kept where they are, so a grid
+	 * that is filled again with the same blocks doesn't allocate.
+	 */
+	void clear() {
+		overflow.clear();
+		if(bands == null) {
+			bands = new Band[COLUMNS];
+		}
+		for(int index = low; index < high; index++) {
+			final Band row = bands[index];
+			for(int cell = 0; cell < COLUMNS; cell++) {
+				row.sizes[cell] = 0;
+			}
+			row.total = 0;
+		}
+		high = low;
+	}
+	
+	/**
+	 * Places a block into the cells it covers.
+	 * 
+	 * @param slot
+	 *            The slot of the block in the rubble.
+	 * @param x
+	 *            The x coordinate of the block.
+	 * @param y
+	 *            The y coordinate of the block.
+	 * @param width
+	 *            The width of the block.
+	 * @param height
+	 *            The height of the block.
+	 */
+	void add(int slot, int x, int y, int width, int height) {
+		if(!isRegular(x, y, width, height)) {
+			overflow.add(slot);
+			return;
+		}
+		
+		final int firstColumn = x >> COLUMN_SHIFT;
+		final int lastColumn = x + width - 1 >> COLUMN_SHIFT;
+		final int highestBand = y + height - 1 >> BAND_SHIFT;
+		
+		for(int band = y >> BAND_SHIFT; band <= highestBand; band++) {
+			final Band row = getBand(band);
+			for(int column = firstColumn; column <= lastColumn; column++) {
+				final int cell = column % COLUMNS;
+				if(row.cells[cell] == null) {
+					row.cells[cell] = new int[INITIAL_CELL_SIZE];
+				} else if(row.sizes[cell] == row.cells[cell].length) {
+					final int[] grown = new int[row.sizes[cell] * 2];
+					System.arraycopy(row.cells[cell], 0, grown, 0, row.sizes[cell]);
+					row.cells[cell] = grown;
+				}
+				row.cells[cell][row.sizes[cell]++] = slot;
+				row.total++;
+			}
+		}
+	}
+	
+	/**
+	 * Takes a block out of the cells it covers. Must be called before the block is moved.
+	 * 
+	 * @param slot
+	 *            The slot of the block in the rubble.
+	 * @param x
+	 *            The x coordinate of the block.
+	 * @param y
+	 *            The y coordinate of the block.
+	 * @param width
+	 *            The width of the block.
+	 * @param height
+	 *            The height of the block.
+	 */
+	void remove(int slot, int x, int y, int width, int height) {
+		if(!isRegular(x, y, width, height)) {
+			overflow.remove(overflow.indexOf(slot));
+			return;
+		}
+		
+		final int firstColumn = x >> COLUMN_SHIFT;
+		final int lastColumn = x + width - 1 >> COLUMN_SHIFT;
+		final int highestBand = y + height - 1 >> BAND_SHIFT;
+		
+		for(int band = y >> BAND_SHIFT; band <= highestBand; band++) {
+			final Band row = findBand(band);
+			for(int column = firstColumn; row != null && column <= lastColumn; column++) {
+				final int cell = column % COLUMNS;
+				for(int i = 0; i < row.sizes[cell]; i++) {
+					if(row.cells[cell][i] == slot) {
+						row.cells[cell][i] = row.cells[cell][--row.sizes[cell]];
+						row.total--;
+						break;
+					}
+				}
+			}
+		}
+		
+		/*
+		 * Empty bands at the ends stop being used as the water takes the rubble away. They are
+		 * kept for reuse until the bands are moved to make room.
+		 */
+		while(low < high && bands[low].total == 0) {
+			low++;
+		}
+		while(low < high && bands[high - 1].total == 0) {
+			high--;
+		}
+	}
+	
+	/**
+	 * Adds the slots of the blocks that may be colliding with an area to a list. Blocks that
+	 * cannot collide with the area are allowed to be added, and blocks covering several cells are
+	 * added once for each cell, but every block in the grid that does collide is added.
+	 * 
+	 * @param x
+	 *            The x coordinate of the area.
+	 * @param y
+	 *            The y coordinate of the area.
+	 * @param width
+	 *            The width of the area.
+	 * @param height
+	 *            The height of the area.
+	 * @param candidates
+	 *            The list to add the slots to.
+	 */
+	void collect(int x, int y, int width, int height, SlotList candidates) {
+		collectCells(y >> BAND_SHIFT, y + height - 1 >> BAND_SHIFT, x >> COLUMN_SHIFT,
+				x + width - 1 >> COLUMN_SHIFT, candidates);
+	}
+	
+	/**
+	 * Adds the slots of the blocks that may be within a range of altitudes to a list, the same way
+	 * as {@link #collect(int, int, int, int, SlotList)}.
+	 * 
+	 * @param bottom
+	 *            The lowest altitude of the range.
+	 * @param top
+	 *            The highest altitude of the range.
+	 * @param candidates
+	 *            The list to add the slots to.
+	 */
+	void collectBetween(int bottom, int top, SlotList candidates) {
+		collectCells(bottom >> BAND_SHIFT, top >> BAND_SHIFT, 0, COLUMNS - 1, candidates);
+	}
+	
+	/**
+	 * Adds the slots of the blocks that may be the highest in the grid to a list. Every block
+	 * whose top is in the highest band is added, along with the blocks that aren't in cells.
+	 * 
+	 * @param candidates
+	 *            The list to add the slots to.
+	 */
+	void collectHighest(SlotList candidates) {
+		final int highestBand = firstBand + high - 1;
+		collectCells(highestBand, highestBand, 0, COLUMNS - 1, candidates);
+	}
+	
+	/**
+	 * Adds the slots of the blocks in a range of cells to a list, along with the blocks that
+	 * aren't in cells.
+	 * 
+	 * @param lowestBand
+	 *            The lowest altitude band of the range.
+	 * @param highestBand
+	 *            The highest altitude band of the range.
+	 * @param firstColumn
+	 *            The first column of the range, which may be outside the columns and wraps.
+	 * @param lastColumn
+	 *            The last column of the range, which may be outside the columns and wraps.
+	 * @param candidates
+	 *            The list to add the slots to.
+	 */
+	private void collectCells(int lowestBand, int highestBand, int firstColumn, int lastColumn,
+			SlotList candidates) {
+		for(int i = 0; i < overflow.size(); i++) {
+			candidates.add(overflow.get(i));
+		}
+		
+		// Only the bands that have blocks are visited.
+		final long first = Math.max((long)lowestBand - firstBand, low);
+		final long last = Math.min((long)highestBand - firstBand, high - 1);
+		
+		for(int index = (int)first; index <= last; index++) {
+			final Band row = bands[index];
+			for(int column = firstColumn; column <= lastColumn; column++) {
+				final int cell = (column % COLUMNS + COLUMNS) % COLUMNS;
+				for(int i = 0; i < row.sizes[cell]; i++) {
+					candidates.add(row.cells[cell][i]);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Returns an altitude band of the grid if it has any blocks.
+	 * 
+	 * @param band
+	 *            The altitude band.
+	 * @return The band, or null if it is empty.
+	 */
+	private Band findBand(int band) {
+		final long index = (long)band - firstBand;
+		if(index < low || index >= high) {
+			return null;
+		}
+		return bands[(int)index];
+	}
+	
+	/**
+	 * Returns an altitude band of the grid, making room for it if needed.
+	 * 
+	 * @param band
+	 *            The altitude band.
+	 * @return The band.
+	 */
+	private Band getBand(int band) {
+		// An empty grid starts from the band, keeping the bands where they were if it can.
+		if(low == high) {
+			final long start = (long)band - firstBand;
+			if(start < 0 || start >= bands.length) {
+				firstBand = band - bands.length / 2;
+				low = bands.length / 2;
+			} else {
+				low = (int)start;
+			}
+			high = low;
+		}
+		
+		final long index = (long)band - firstBand;
+		if(index < 0 || index >= bands.length) {
+			final int usedLow = (int)Math.min(index, low);
+			final int usedHigh = (int)Math.max(index + 1, high);
+			final Band[] grown = new Band[Math.max(bands.length, (usedHigh - usedLow) * 2)];
+			final int shift = (grown.length - (usedHigh - usedLow)) / 2 - usedLow;
+			System.arraycopy(bands, low, grown, low + shift, high - low);
+			bands = grown;
+			firstBand -= shift;
+			low += shift;
+			high += shift;
+			return getBand(band);
+		}
+		
+		while(index < low) {
+			if(bands[--low] == null) {
+				bands[low] = new Band();
+			}
+		}
+		while(index >= high) {
+			if(bands[high++] == null) {
+				bands[high - 1] = new Band();
+			}
+		}
+		return bands[(int)index];
+	}
+	
+	/**
+	 * Checks if a block can be placed into cells. Only blocks within the screen width have a
+	 * column position that wraps the same as {@link Block#collides(int, int, int, int)}.
+	 * 
+	 * @param x
+	 *            The x coordinate of the block.
+	 * @param y
+	 *            The y coordinate of the block.
+	 * @param width
+	 *            The width of the block.
+	 * @param height
+	 *            The height of the block.
+	 * @return Whether or not the block can be placed into cells.
+	 */
+	static boolean isRegular(int x, int y, int width, int height) {
+		return x >= 0 && x < Game.GAME_WIDTH && y > -MAX_CELL_ALTITUDE && y < MAX_CELL_ALTITUDE
+				&& width > 0 && width <= MAX_CELL_WIDTH && height > 0 && height <= MAX_CELL_HEIGHT;
+	}
+	
+	/**
+	 * Checks if an area can be searched with {@link #collect(int, int, int, int, SlotList)}. The
+	 * area may go off either side of the screen, but can't be wider than the screen or go further
+	 * from the ground than the blocks placed into cells.
+	 * 
+	 * @param x
+	 *            The x coordinate of the area.
+	 * @param y
+	 *            The y coordinate of the area.
+	 * @param width
+	 *            The width of the area.
+	 * @param height
+	 *            The height of the area.
+	 * @return Whether or not the area can be searched.
+	 */
+	static boolean canSearch(int x, int y, int width, int height) {
+		return x > -Game.GAME_WIDTH && x < Game.GAME_WIDTH && width > 0
+				&& width <= Game.GAME_WIDTH && y > -MAX_CELL_ALTITUDE && y < MAX_CELL_ALTITUDE
+				&& height > 0 && height <= MAX_CELL_ALTITUDE;
+	}
+	
+}
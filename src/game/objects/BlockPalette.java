@@ -0,0 +1,122 @@
+package game.objects;
+
+import java.awt.Color;
+import java.awt.Graphics;
+
+/**
+ * The colors blocks are painted with. Block colors are rounded to a fixed palette so that the
+ * rubble can store a small index for each block, and so that the shades used for the raised
+ * edges are only created once. Every entry is created when the palette is first used, so after
+ * that the palette never changes and games on any number of threads can share it.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+final class BlockPalette {
+	
+	/** How many bits of each color channel are kept. */
+	private static final int CHANNEL_BITS = 4;
+	
+	/** The highest value of a kept color channel. */
+	private static final int CHANNEL_MAX = (1 << CHANNEL_BITS) - 1;
+	
+	/** The number of colors in the palette. */
+	private static final int SIZE = 1 << CHANNEL_BITS * 3;
+	
+	/** The colors of the palette. */
+	private static final Color[] COLORS = new Color[SIZE];
+	
+	/** The lighter and darker shades of the colors, for the raised edges of blocks. */
+	private static final Color[] BRIGHTER = new Color[SIZE], DARKER = new Color[SIZE];
+	
+	static {
+		for(int index = 0; index < SIZE; index++) {
+			final Color entry =
+					new Color(expand(index >> CHANNEL_BITS * 2), expand(index >> CHANNEL_BITS
+							& CHANNEL_MAX), expand(index & CHANNEL_MAX));
+			COLORS[index] = entry;
+			BRIGHTER[index] = entry.brighter();
+			DARKER[index] = entry.darker();
+		}
+	}
+	
+	/**
+	 * BlockPalette is a utility class and cannot be instantiated.
+	 */
+	private BlockPalette() {}
+	
+	/**
+	 * Returns the palette entry closest to a color.
+	 * 
+	 * @param color
+	 *            The color.
+	 * @return The index of the palette entry.
+	 */
+	static int indexOf(Color color) {
+		return round(color.getRed()) << CHANNEL_BITS * 2 | round(color.getGreen()) << CHANNEL_BITS
+				| round(color.getBlue());
+	}
+	
+	/**
+	 * Returns the color of a palette entry.
+	 * 
+	 * @param index
+	 *            The index of the palette entry.
+	 * @return The color.
+	 */
+	static Color getColor(int index) {
+		return COLORS[index];
+	}
+	
+	/**
+	 * Draws a raised rectangle the same way {@link java.awt.Graphics#fill3DRect} does, but with the
+	 * shades of the palette entry instead of creating new ones.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param index
+	 *            The index of the palette entry.
+	 * @param x
+	 *            The x coordinate of the rectangle.
+	 * @param y
+	 *            The y coordinate of the rectangle.
+	 * @param width
+	 *            The width of the rectangle.
+	 * @param height
+	 *            The height of the rectangle.
+	 */
+	static void fill3DRect(Graphics g, int index, int x, int y, int width, int height) {
+		g.setColor(COLORS[index]);
+		g.fillRect(x + 1, y + 1, width - 2, height - 2);
+		g.setColor(BRIGHTER[index]);
+		g.fillRect(x, y, 1, height);
+		g.fillRect(x + 1, y, width - 2, 1);
+		g.setColor(DARKER[index]);
+		g.fillRect(x + 1, y + height - 1, width - 1, 1);
+		g.fillRect(x + width - 1, y, 1, height - 1);
+		g.setColor(COLORS[index]);
+	}
+	
+	/**
+	 * Rounds a color channel to the bits that are kept.
+	 * 
+	 * @param channel
+	 *            The color channel, from 0 to 255.
+	 * @return The kept bits of the channel.
+	 */
+	private static int round(int channel) {
+		return (channel * CHANNEL_MAX + 127) / 255;
+	}
+	
+	/**
+	 * Expands the kept bits of a color channel back to the full range.
+	 * 
+	 * @param bits
+	 *            The kept bits of the channel.
+	 * @return The color channel, from 0 to 255.
+	 */
+	private static int expand(int bits) {
+		return bits * 255 / CHANNEL_MAX;
+	}
+	
+}
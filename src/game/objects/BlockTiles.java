@@ -0,0 +1,297 @@
+package game.objects;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.image.BufferedImage;
+
+/**
+ * Draws blocks from tiles made ahead of time, rather than drawing the outline and raised edges of
+ * every block every frame. A tile is made the first time a block of its size and color is drawn,
+ * compatible with the image being drawn on so it can be accelerated, and is kept until it is the
+ * least recently drawn of too many tiles. Each thread that draws blocks has tiles of its own, so
+ * finding a tile takes no lock and allocates nothing.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class BlockTiles {
+	
+	/** How many bits pick a slot of the table of tiles. */
+	private static final int SLOT_BITS = 9;
+	
+	/** The number of slots in the table of tiles. */
+	private static final int SLOTS = 1 << SLOT_BITS;
+	
+	/** The most tiles kept, comfortably more than the blocks on a screen, in half the table. */
+	private static final int CAPACITY = SLOTS / 2;
+	
+	/** How many bits of the key hold the width, and the height, of a tile. */
+	private static final int SIZE_BITS = 16;
+	
+	/** Marks a slot of the table without a tile. Blocks made into tiles are never empty. */
+	private static final long EMPTY = 0;
+	
+	/** Mixes the bits of a key, so the tiles of neighboring sizes are spread over the table. */
+	private static final long MIX = 0x9E3779B97F4A7C15L;
+	
+	/** The tiles of each thread that draws blocks. */
+	private static final ThreadLocal<BlockTiles> TILES = new ThreadLocal<BlockTiles>() {
+		
+		/*
+		 * {@inheritDoc}
+		 * 
+		 * @see java.lang.ThreadLocal#initialValue()
+		 */
+		@Override
+		protected BlockTiles initialValue() {
+			return new BlockTiles();
+		}
+	};
+	
+	/** The size and palette entry of the tile in each slot, found by linear probing. */
+	private final long[] keys = new long[SLOTS];
+	
+	/** The image of the tile in each slot, one pixel bigger than the block each way. */
+	private final BufferedImage[] images = new BufferedImage[SLOTS];
+	
+	/** The configuration of the images the tile in each slot is compatible with. */
+	private final GraphicsConfiguration[] configurations = new GraphicsConfiguration[SLOTS];
+	
+	/** When the tile in each slot was last drawn, counted in blocks drawn from tiles. */
+	private final long[] drawn = new long[SLOTS];
+	
+	/** How many tiles are kept. */
+	private int size;
+	
+	/** How many blocks have been drawn from tiles. */
+	private long clock;
+	
+	/** How many blocks were drawn from a tile that was already made. */
+	private long hits;
+	
+	/** How many blocks needed a tile to be made. */
+	private long misses;
+	
+	/**
+	 * Constructs a set of tiles with none made yet.
+	 */
+	private BlockTiles() {}
+	
+	/**
+	 * Returns the tiles of the calling thread. Only that thread may use them.
+	 * 
+	 * @return The tiles.
+	 */
+	public static BlockTiles forThread() {
+		return TILES.get();
+	}
+	
+	/**
+	 * Draws a block on an image from its tile, making the tile if needed.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param shade
+	 *            The palette entry the block is painted with.
+	 * @param x
+	 *            The x coordinate of the block.
+	 * @param blockTop
+	 *            The position of the top of the block on the image.
+	 * @param width
+	 *            The width of the block.
+	 * @param height
+	 *            The height of the block.
+	 */
+	void paint(Graphics g, int shade, int x, int blockTop, int width, int height) {
+		// Blocks without room inside their outline draw past it, so they aren't made into tiles.
+		if(!(g instanceof Graphics2D) || width < 1 || height < 1) {
+			draw(g, shade, x, blockTop, width, height);
+			return;
+		}
+		
+		final GraphicsConfiguration configuration = ((Graphics2D)g).getDeviceConfiguration();
+		g.drawImage(getTile(configuration, shade, width, height), x, blockTop, null);
+	}
+	
+	/**
+	 * Returns the share of blocks drawn from a tile that was already made.
+	 * 
+	 * @return The hit rate, from 0 to 1, or 0 if no blocks have been drawn.
+	 */
+	public double getHitRate() {
+		final long draws = hits + misses;
+		return draws == 0 ? 0 : (double)hits / draws;
+	}
+	
+	/**
+	 * Returns how many blocks were drawn from a tile that was already made.
+	 * 
+	 * @return The number of hits.
+	 */
+	public long getHits() {
+		return hits;
+	}
+	
+	/**
+	 * Returns how many blocks needed a tile to be made.
+	 * 
+	 * @return The number of misses.
+	 */
+	public long getMisses() {
+		return misses;
+	}
+	
+	/**
+	 * Forgets every tile, and starts counting hits and misses again.
+	 */
+	void clear() {
+		for(int slot = 0; slot < SLOTS; slot++) {
+			keys[slot] = EMPTY;
+			images[slot] = null;
+			configurations[slot] = null;
+		}
+		size = 0;
+		hits = 0;
+		misses = 0;
+	}
+	
+	/**
+	 * Finds the tile for a block, making it if it isn't kept or isn't compatible with the image.
+	 * 
+	 * @param configuration
+	 *            The configuration of the image being drawn on.
+	 * @param shade
+	 *            The palette entry the block is painted with.
+	 * @param width
+	 *            The width of the block.
+	 * @param height
+	 *            The height of the block.
+	 * @return The image of the tile.
+	 */
+	private BufferedImage getTile(GraphicsConfiguration configuration, int shade, int width,
+			int height) {
+		final long key = (long)shade << SIZE_BITS * 2 | (long)width << SIZE_BITS | height;
+		int slot = find(key);
+		if(slot >= 0 && configurations[slot] == configuration) {
+			hits++;
+			drawn[slot] = ++clock;
+			return images[slot];
+		}
+		
+		misses++;
+		final BufferedImage image = configuration.createCompatibleImage(width + 1, height + 1);
+		final Graphics tileGraphics = image.getGraphics();
+		draw(tileGraphics, shade, 0, 0, width, height);
+		tileGraphics.dispose();
+		
+		if(slot < 0) {
+			if(size == CAPACITY) {
+				remove(findLeastRecent());
+				slot = find(key);
+			}
+			slot = ~slot;
+			keys[slot] = key;
+			size++;
+		}
+		images[slot] = image;
+		configurations[slot] = configuration;
+		drawn[slot] = ++clock;
+		return image;
+	}
+	
+	/**
+	 * Finds the slot of a tile.
+	 * 
+	 * @param key
+	 *            The size and palette entry of the tile.
+	 * @return The slot of the tile, or the bitwise complement of the empty slot it would go in if
+	 *         it isn't kept.
+	 */
+	private int find(long key) {
+		int slot = getHome(key);
+		while(keys[slot] != EMPTY) {
+			if(keys[slot] == key) {
+				return slot;
+			}
+			slot = slot + 1 & SLOTS - 1;
+		}
+		return ~slot;
+	}
+	
+	/**
+	 * Finds the slot of the least recently drawn tile. Only needed when a tile is made, which
+	 * costs far more than looking through the table.
+	 * 
+	 * @return The slot.
+	 */
+	private int findLeastRecent() {
+		int leastRecent = -1;
+		for(int slot = 0; slot < SLOTS; slot++) {
+			if(keys[slot] != EMPTY && (leastRecent < 0 || drawn[slot] < drawn[leastRecent])) {
+				leastRecent = slot;
+			}
+		}
+		return leastRecent;
+	}
+	
+	/**
+	 * Forgets the tile in a slot. The tiles after it are moved back into the gap where they can
+	 * be, so every tile can still be found from its home slot without passing an empty slot.
+	 * 
+	 * @param slot
+	 *            The slot.
+	 */
+	private void remove(int slot) {
+		int gap = slot;
+		for(int next = slot + 1 & SLOTS - 1; keys[next] != EMPTY; next = next + 1 & SLOTS - 1) {
+			// A tile can move back into the gap if the gap isn't before its home slot.
+			if((next - getHome(keys[next]) & SLOTS - 1) >= (next - gap & SLOTS - 1)) {
+				keys[gap] = keys[next];
+				images[gap] = images[next];
+				configurations[gap] = configurations[next];
+				drawn[gap] = drawn[next];
+				gap = next;
+			}
+		}
+		keys[gap] = EMPTY;
+		images[gap] = null;
+		configurations[gap] = null;
+		size--;
+	}
+	
+	/**
+	 * Returns the slot a tile is looked for from first.
+	 * 
+	 * @param key
+	 *            The size and palette entry of the tile.
+	 * @return The slot.
+	 */
+	private static int getHome(long key) {
+		return (int)(key * MIX >>> Long.SIZE - SLOT_BITS);
+	}
+	
+	/**
+	 * Draws a block on an image, its outline and then its raised face.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param shade
+	 *            The palette entry the block is painted with.
+	 * @param x
+	 *            The x coordinate of the block.
+	 * @param blockTop
+	 *            The position of the top of the block on the image.
+	 * @param width
+	 *            The width of the block.
+	 * @param height
+	 *            The height of the block.
+	 */
+	private static void draw(Graphics g, int shade, int x, int blockTop, int width, int height) {
+		g.setColor(Color.BLACK);
+		g.drawRect(x, blockTop, width, height);
+		BlockPalette.fill3DRect(g, shade, x + 1, blockTop + 1, width - 1, height - 1);
+	}
+	
+}
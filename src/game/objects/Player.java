@@ -1,10 +1,12 @@
 package game.objects;
 
 import game.Game;
+import game.GameParameters;
 import game.InputReceiver;
 import java.awt.Graphics;
-import java.awt.Image;
-import java.util.List;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Represents the player.
@@ -17,26 +19,41 @@ public final class Player {
 	/** How far the player sprite moves on each step. */
 	private static final int MOVE_SPEED = 5;
 	
-	/** The velocity of the player when starting a jump. */
-	private static final int JUMP_POWER = 16;
-	
 	/** The acceleration due to gravity. */
 	private static final int GRAVITY_ACCELERATION = -1;
 	
 	/** Dimension of the player. */
-	private static final int WIDTH = 24, HEIGHT = 48;
+	public static final int WIDTH = 24, HEIGHT = 48;
+	
+	/** How far the player can move before the blocks near the player are found again. */
+	private static final int NEAR_MARGIN = 64;
 	
 	/** Coordinate of the player. */
 	private int x, y;
 	
+	/** Coordinate of the player before the last step. */
+	private int previousX, previousY;
+	
 	/** The current vertical velocity of the player. */
 	private int velocity;
 	
 	/** Player property. */
 	private boolean isFacingRight, isAirborne, isMoving, isAlive;
 	
+	/** The velocity of the player when starting a jump. */
+	private final int jumpPower;
+	
+	/** The slots of the blocks the player may collide with, from the lowest slot up. */
+	private final SlotList nearby;
+	
+	/** Where the player was when the nearby blocks were found. */
+	private int nearX, nearY;
+	
+	/** If the nearby blocks are every block in the rubble, or need to be found again. */
+	private boolean isNearEverything, isNearStale;
+	
 	/**
-	 * Constructs the player object.
+	 * Constructs the player object, jumping as high as in the default game.
 	 * 
 	 * @param playerX
 	 *            The x coordinate of the player.
@@ -44,6 +61,22 @@ public final class Player {
 	 *            The y coordinate of the player.
 	 */
 	public Player(int playerX, int playerY) {
+		this(playerX, playerY, GameParameters.DEFAULT.getJumpPower());
+	}
+	
+	/**
+	 * Constructs the player object.
+	 * 
+	 * @param playerX
+	 *            The x coordinate of the player.
+	 * @param playerY
+	 *            The y coordinate of the player.
+	 * @param jumpPower
+	 *            The velocity of the player when starting a jump.
+	 */
+	public Player(int playerX, int playerY, int jumpPower) {
+		this.jumpPower = jumpPower;
+		nearby = new SlotList();
 		reset(playerX, playerY);
 	}
 	
@@ -58,6 +91,8 @@ public final class Player {
 	public void reset(int playerX, int playerY) {
 		x = playerX;
 		y = playerY;
+		previousX = x;
+		previousY = y;
 		velocity = GRAVITY_ACCELERATION;
 		
 		isAlive = true;
@@ -66,15 +101,60 @@ public final class Player {
 		isFacingRight = true;
 	}
 	
+	/**
+	 * Writes the state of the player, so it can be restored later.
+	 * 
+	 * @param out
+	 *            Where to write the state.
+	 * @throws IOException
+	 *             If the state can't be written.
+	 */
+	public void save(DataOutput out) throws IOException {
+		out.writeInt(x);
+		out.writeInt(y);
+		out.writeInt(previousX);
+		out.writeInt(previousY);
+		out.writeInt(velocity);
+		out.writeBoolean(isFacingRight);
+		out.writeBoolean(isAirborne);
+		out.writeBoolean(isMoving);
+		out.writeBoolean(isAlive);
+	}
+	
+	/**
+	 * Restores the state of the player, as written by {@link #save(DataOutput)}.
+	 * 
+	 * @param in
+	 *            Where to read the state.
+	 * @throws IOException
+	 *             If the state can't be read.
+	 */
+	public void restore(DataInput in) throws IOException {
+		x = in.readInt();
+		y = in.readInt();
+		previousX = in.readInt();
+		previousY = in.readInt();
+		velocity = in.readInt();
+		isFacingRight = in.readBoolean();
+		isAirborne = in.readBoolean();
+		isMoving = in.readBoolean();
+		isAlive = in.readBoolean();
+		
+		isNearEverything = false;
+		isNearStale = true;
+	}
+	
 	/**
 	 * Controls the player during the frame.
 	 * 
 	 * @param blocks
-	 *            The block objects in the game.
+	 *            The blocks of rubble in the game.
 	 * @param input
 	 *            The key input receiver for the game.
 	 */
-	public void step(List<Block> blocks, InputReceiver input) {
+	public void step(Rubble blocks, InputReceiver input) {
+		previousX = x;
+		previousY = y;
 		
 		if(!isAlive) {
 			return;
@@ -82,6 +162,9 @@ public final class Player {
 		
 		fall();
 		
+		// Blocks have moved since the last frame.
+		isNearStale = true;
+		
 		/*
 		 * Collisions below is checked first resolving if the player remains airborne after the
 		 * gravity is applied.
@@ -140,7 +223,7 @@ public final class Player {
 	 */
 	private void jump() {
 		if(!isAirborne) {
-			velocity = JUMP_POWER;
+			velocity = jumpPower;
 			isAirborne = true;
 		}
 	}
@@ -182,6 +265,33 @@ public final class Player {
 		return y;
 	}
 	
+	/**
+	 * Returns the position of the left side of the player.
+	 * 
+	 * @return The position of the left side of the player.
+	 */
+	public int getXOfLeft() {
+		return x;
+	}
+	
+	/**
+	 * Returns how high the player was before the last step.
+	 * 
+	 * @return The altitude of the player before the last step.
+	 */
+	public int getPreviousAltitude() {
+		return previousY;
+	}
+	
+	/**
+	 * Returns the position of the left side of the player before the last step.
+	 * 
+	 * @return The position of the left side of the player before the last step.
+	 */
+	public int getPreviousXOfLeft() {
+		return previousX;
+	}
+	
 	/**
 	 * Draws this object on an image.
 	 * 
@@ -191,53 +301,117 @@ public final class Player {
 	 *            The altitude of the top of the screen.
 	 */
 	public void paint(Graphics g, int screenTop) {
-		final Image spriteToDraw;
+		paint(g, getNextFrame(), x, y, screenTop);
+	}
+	
+	/**
+	 * Advances the animation of the player and returns the sprite frame to draw.
+	 * 
+	 * @return The sprite frame.
+	 */
+	public int getNextFrame() {
+		final int spriteToDraw;
 		
 		if(isAlive) {
 			if(isAirborne) {
 				if(velocity >= 0) {
-					spriteToDraw = PlayerSprite.JUMP.getNextImage(isFacingRight);
+					spriteToDraw = PlayerSprite.JUMP.getNextFrame(isFacingRight);
 				} else {
-					spriteToDraw = PlayerSprite.FALL.getNextImage(isFacingRight);
+					spriteToDraw = PlayerSprite.FALL.getNextFrame(isFacingRight);
 				}
 			} else {
 				if(isMoving) {
-					spriteToDraw = PlayerSprite.RUN.getNextImage(isFacingRight);
+					spriteToDraw = PlayerSprite.RUN.getNextFrame(isFacingRight);
 				} else {
-					spriteToDraw = PlayerSprite.IDLE.getNextImage(isFacingRight);
+					spriteToDraw = PlayerSprite.IDLE.getNextFrame(isFacingRight);
 				}
 			}
 		} else {
-			spriteToDraw = PlayerSprite.DIED.getNextImage(isFacingRight);
+			spriteToDraw = PlayerSprite.DIED.getNextFrame(isFacingRight);
 		}
 		isMoving = false;
-		
-		final int playerTop = screenTop - (y + HEIGHT);
-		g.drawImage(spriteToDraw, x, playerTop, WIDTH, HEIGHT, null);
+		return spriteToDraw;
+	}
+	
+	/**
+	 * Draws a sprite frame of the player on an image.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param spriteToDraw
+	 *            The sprite frame.
+	 * @param playerX
+	 *            The x coordinate of the player.
+	 * @param playerY
+	 *            The y coordinate of the player.
+	 * @param screenTop
+	 *            The altitude of the top of the screen.
+	 */
+	public static void paint(Graphics g, int spriteToDraw, int playerX, int playerY,
+			int screenTop) {
+		final int playerTop = screenTop - (playerY + HEIGHT);
+		PlayerSprite.paint(g, spriteToDraw, playerX, playerTop);
 		
 		// For splitting the player on the screen.
-		if(x + WIDTH > Game.GAME_WIDTH) {
-			final int splitX = 0 - (WIDTH - (x + WIDTH) % Game.GAME_WIDTH);
-			g.drawImage(spriteToDraw, splitX, playerTop, WIDTH, HEIGHT, null);
+		if(playerX + WIDTH > Game.GAME_WIDTH) {
+			final int splitX = 0 - (WIDTH - (playerX + WIDTH) % Game.GAME_WIDTH);
+			PlayerSprite.paint(g, spriteToDraw, splitX, playerTop);
 		}
 	}
 	
+	/**
+	 * Finds where to continue checking the nearby blocks for collisions. If the player has moved
+	 * too far from where the nearby blocks were found, they are found again, so that every block
+	 * the player is colliding with is always among them.
+	 * 
+	 * @param blocks
+	 *            The blocks of rubble in the area.
+	 * @param afterSlot
+	 *            The slot of the last block checked, or -1 if none have been.
+	 * @return The index of the first nearby block after that slot.
+	 */
+	private int findNearby(Rubble blocks, int afterSlot) {
+		final boolean isOnScreen = x >= 0 && x < Game.GAME_WIDTH;
+		final boolean hasMoved =
+				Math.abs((long)x - nearX) > NEAR_MARGIN || Math.abs((long)y - nearY) > NEAR_MARGIN;
+		
+		if(isNearStale || !isNearEverything && (!isOnScreen || hasMoved)) {
+			nearX = x;
+			nearY = y;
+			
+			// Off the screen, the collisions wrap differently from the grid.
+			if(isOnScreen) {
+				isNearEverything =
+						!blocks.collectNear(x - NEAR_MARGIN, y - NEAR_MARGIN, WIDTH + NEAR_MARGIN
+								* 2, HEIGHT + NEAR_MARGIN * 2, nearby);
+			} else {
+				blocks.collectEvery(nearby);
+				isNearEverything = true;
+			}
+			isNearStale = false;
+		}
+		
+		return nearby.indexAfter(afterSlot);
+	}
+	
 	/**
 	 * Checks if this player collides with blocks above the sprite and fixes the collisions. Does
 	 * not fix the collision if the player is not airborne, since the player is being squashed.
 	 * Returns whether or not the player is being squashed.
 	 * 
 	 * @param blocks
-	 *            Block objects in the area.
+	 *            The blocks of rubble in the area.
 	 * @return Whether or not the player is being squashed.
 	 */
-	private boolean fixCollisionsAbove(List<Block> blocks) {
-		for(final Block block : blocks) {
+	private boolean fixCollisionsAbove(Rubble blocks) {
+		for(int i = findNearby(blocks, -1); i < nearby.size(); i++) {
+			final int block = nearby.get(i);
+			
 			/*
 			 * Utilizes the top of the player with a height of zero. Thus the collision
 			 * detection checks if player is hitting the block with his head.
 			 */
-			if(block.collides(x, y + HEIGHT, WIDTH, 0)) {
+			if(blocks.collides(block, x, y + HEIGHT, WIDTH, 0)) {
 				if(!isAirborne) {
 					return true;
 				}
@@ -245,15 +419,16 @@ public final class Player {
 				if(velocity >= 0) {
 					velocity = GRAVITY_ACCELERATION;
 				}
-				y = block.getYOfBottom() - HEIGHT;
+				y = blocks.getYOfBottom(block) - HEIGHT;
 				
 				// Checks collisions below in case the position change caused a collision.
 				fixCollisionsBelow(blocks);
 				
 				// If player is again colliding with this block, he's being squashed.
-				if(block.collides(x, y + HEIGHT, WIDTH, 0)) {
+				if(blocks.collides(block, x, y + HEIGHT, WIDTH, 0)) {
 					return true;
 				}
+				i = findNearby(blocks, block) - 1;
 			}
 		}
 		
@@ -264,17 +439,19 @@ public final class Player {
 	 * Checks if this player collides with blocks to the sprite's side and fixes the collisions.
 	 * 
 	 * @param blocks
-	 *            Block objects in the area.
+	 *            The blocks of rubble in the area.
 	 */
-	private void fixCollisionsSide(List<Block> blocks) {
-		for(final Block block : blocks) {
-			if(block.collides(x, y, WIDTH, HEIGHT)) {
+	private void fixCollisionsSide(Rubble blocks) {
+		for(int i = findNearby(blocks, -1); i < nearby.size(); i++) {
+			final int block = nearby.get(i);
+			if(blocks.collides(block, x, y, WIDTH, HEIGHT)) {
 				if(isFacingRight) {
-					x = block.getXOfLeft() - WIDTH;
+					x = blocks.getXOfLeft(block) - WIDTH;
 				} else {
-					x = block.getXOfRight();
+					x = blocks.getXOfRight(block);
 				}
 				isMoving = false;
+				i = findNearby(blocks, block) - 1;
 			}
 		}
 	}
@@ -284,20 +461,23 @@ public final class Player {
 	 * determines and sets if the player is airborne or not.
 	 * 
 	 * @param blocks
-	 *            Block objects in the area.
+	 *            The blocks of rubble in the area.
 	 */
-	private void fixCollisionsBelow(List<Block> blocks) {
+	private void fixCollisionsBelow(Rubble blocks) {
 		boolean collided = false;
 		
-		for(final Block block : blocks) {
+		for(int i = findNearby(blocks, -1); i < nearby.size(); i++) {
+			final int block = nearby.get(i);
+			
 			/*
 			 * Utilizes the bottom of the player with a height of zero. Thus the collision
 			 * detection checks if player is hitting the block with his feet.
 			 */
-			if(block.collides(x, y, WIDTH, 0)) {
-				y = block.getYOfTop();
+			if(blocks.collides(block, x, y, WIDTH, 0)) {
+				y = blocks.getYOfTop(block);
 				velocity = 0;
 				collided = true;
+				i = findNearby(blocks, block) - 1;
 			}
 		}
 		
@@ -1,13 +1,17 @@
 package game.objects;
 
 import gui.GameManager;
+import java.awt.Graphics;
+import java.awt.GraphicsEnvironment;
 import java.awt.Image;
-import java.util.ArrayList;
-import java.util.List;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
 
 /**
- * Images to represent the player object. Loads images specifically for the format used by Rubble
- * Escape: [Base name][#][Right/Left].png where [#] is the frame number.
+ * Images to represent the player object. Every frame is loaded from one atlas image, which has a
+ * row for each state of the sprite in order, holding its frames facing right and then its frames
+ * facing left. The atlas is scaled to the size of the player and made compatible with the screen
+ * when it is loaded, so each frame is drawn as an unscaled copy of part of the atlas.
  * 
  * @author Jesse Brent
  * @version 1.0, 10/10/10
@@ -15,67 +19,107 @@ import java.util.List;
 public enum PlayerSprite {
 	
 	/** States of the sprite. */
-	IDLE("Idle"), RUN("Run"), JUMP("Jump"), FALL("Fall"), DIED("Died");
+	IDLE(2), RUN(1), JUMP(1), FALL(1), DIED(1);
 	
 	/** The frame count that changes the animation. */
 	private static final int ANIMATION_CHANGE = 12;
 	
-	/** Sprite images for the direction. */
-	private final List<Image> rightImages, leftImages;
+	/** The name of the atlas image. */
+	private static final String ATLAS_NAME = "PlayerAtlas.png";
+	
+	/** How many frames fit in a row of the atlas. */
+	private static final int ATLAS_COLUMNS = 4;
+	
+	/** Every frame of every state, scaled to the size of the player. */
+	private static final Image ATLAS = loadAtlas();
+	
+	/** How many frames the animation has facing each direction. */
+	private final int frames;
 	
 	/** Counts how many frames the sprite has gone through since animation change. */
 	private int frameCount;
 	
 	/**
-	 * Loads the images for the sprite animation.
+	 * Constructs a sprite state.
 	 * 
-	 * @param file
-	 *            The base name for the image.
+	 * @param frames
+	 *            How many frames the animation has facing each direction.
 	 */
-	private PlayerSprite(String file) {
-		rightImages = new ArrayList<Image>();
-		leftImages = new ArrayList<Image>();
-		Image loaded;
-		
-		for(int i = 1; (loaded = GameManager.loadImage(file + i + "Right.png")) != null; i++) {
-			rightImages.add(loaded);
-		}
-		
-		for(int i = 1; (loaded = GameManager.loadImage(file + i + "Left.png")) != null; i++) {
-			leftImages.add(loaded);
-		}
+	private PlayerSprite(int frames) {
+		this.frames = frames;
 	}
 	
 	/**
-	 * Returns the next sprite image for the facing direction.
+	 * Returns the next frame of the animation for the facing direction.
 	 * 
 	 * @param isFacingRight
 	 *            If the sprite is facing to the right.
-	 * @return The sprite image.
+	 * @return The frame, for {@link #paint(Graphics, int, int, int)}.
 	 */
-	public final Image getNextImage(boolean isFacingRight) {
-		if(isFacingRight) {
-			frameCount = (frameCount + 1) % (ANIMATION_CHANGE * rightImages.size());
-			return rightImages.get(frameCount / ANIMATION_CHANGE);
-		} else {
-			frameCount = (frameCount + 1) % (ANIMATION_CHANGE * leftImages.size());
-			return leftImages.get(frameCount / ANIMATION_CHANGE);
-		}
+	public final int getNextFrame(boolean isFacingRight) {
+		frameCount = (frameCount + 1) % (ANIMATION_CHANGE * frames);
+		return getPreviousFrame(isFacingRight);
 	}
 	
 	/**
-	 * Returns the last returned sprite image for the facing direction.
+	 * Returns the last returned frame of the animation for the facing direction.
 	 * 
 	 * @param isFacingRight
 	 *            If the sprite is facing to the right.
-	 * @return The sprite image.
+	 * @return The frame, for {@link #paint(Graphics, int, int, int)}.
 	 */
-	public final Image getPreviousImage(boolean isFacingRight) {
-		if(isFacingRight) {
-			return rightImages.get(frameCount / ANIMATION_CHANGE);
+	public final int getPreviousFrame(boolean isFacingRight) {
+		final int column = frameCount / ANIMATION_CHANGE + (isFacingRight ? 0 : frames);
+		return ordinal() * ATLAS_COLUMNS + column;
+	}
+	
+	/**
+	 * Draws a frame of the sprite on an image at the size of the player.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param frame
+	 *            The frame.
+	 * @param x
+	 *            The x coordinate of the left of the sprite.
+	 * @param top
+	 *            The position of the top of the sprite on the image.
+	 */
+	public static void paint(Graphics g, int frame, int x, int top) {
+		final int atlasX = frame % ATLAS_COLUMNS * Player.WIDTH;
+		final int atlasY = frame / ATLAS_COLUMNS * Player.HEIGHT;
+		g.drawImage(ATLAS, x, top, x + Player.WIDTH, top + Player.HEIGHT, atlasX, atlasY, atlasX
+				+ Player.WIDTH, atlasY + Player.HEIGHT, null);
+	}
+	
+	/**
+	 * Loads the atlas, scaled to the size of the player, into an image compatible with the
+	 * screen. Without a screen, an atlas already the right size is kept with the palette it was
+	 * loaded with, which is copied onto images faster than colors with alpha are blended.
+	 * 
+	 * @return The atlas.
+	 */
+	private static Image loadAtlas() {
+		final BufferedImage loaded = (BufferedImage)GameManager.loadImage(ATLAS_NAME);
+		final int width = ATLAS_COLUMNS * Player.WIDTH;
+		final int height = values().length * Player.HEIGHT;
+		
+		final BufferedImage atlas;
+		if(!GraphicsEnvironment.isHeadless()) {
+			atlas =
+					GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+							.getDefaultConfiguration().createCompatibleImage(width, height,
+									Transparency.BITMASK);
+		} else if(loaded.getWidth() == width && loaded.getHeight() == height) {
+			return loaded;
 		} else {
-			return leftImages.get(frameCount / ANIMATION_CHANGE);
+			atlas = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
 		}
+		
+		final Graphics g = atlas.getGraphics();
+		g.drawImage(loaded, 0, 0, width, height, null);
+		g.dispose();
+		return atlas;
 	}
 	
 }
@@ -1,11 +1,15 @@
 package game.objects;
 
 import game.Game;
+import game.GameParameters;
 import java.awt.Color;
 import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -16,15 +20,59 @@ import java.util.List;
  */
 public final class RisingWater {
 	
+	/**
+	 * The images the water is drawn from, made the first time the water is drawn rather than when
+	 * the water is first used, so games that are never drawn don't make them.
+	 * 
+	 * @author Jesse Brent
+	 * @version 1.0, 10/17/26
+	 */
+	private static final class WaterImages {
+		
+		/** The top of the water, drawn once with each row in its depth color. */
+		private static final BufferedImage DEPTH_STRIP;
+		
+		/**
+		 * The waves, drawn once for each place the first wave can start, from a whole period left
+		 * of the screen to a whole period right of it. Each is as wide as the screen and as tall
+		 * as the waves, and is clear wherever the waves don't cover.
+		 */
+		private static final BufferedImage[] WAVE_FRAMES;
+		
+		static {
+			DEPTH_STRIP =
+					new BufferedImage(Game.GAME_WIDTH, DEPTH_COLORS.size(),
+							BufferedImage.TYPE_INT_RGB);
+			final Graphics depthGraphics = DEPTH_STRIP.getGraphics();
+			for(int i = 0; i < DEPTH_COLORS.size(); i++) {
+				depthGraphics.setColor(DEPTH_COLORS.get(i));
+				depthGraphics.drawLine(0, i, Game.GAME_WIDTH, i);
+			}
+			depthGraphics.dispose();
+			
+			WAVE_FRAMES = new BufferedImage[WAVE_PERIOD * 2 - 1];
+			for(int i = 0; i < WAVE_FRAMES.length; i++) {
+				WAVE_FRAMES[i] =
+						new BufferedImage(Game.GAME_WIDTH, WAVE_ROWS, BufferedImage.TYPE_INT_ARGB);
+				final Graphics waveGraphics = WAVE_FRAMES[i].getGraphics();
+				drawWaves(waveGraphics, i - (WAVE_PERIOD - 1), WAVE_ROWS);
+				waveGraphics.dispose();
+			}
+		}
+		
+		/**
+		 * WaterImages is a holder for the images and cannot be instantiated.
+		 */
+		private WaterImages() {}
+		
+	}
+	
 	/** Control for the water ripple effect. */
 	private static final int WAVE_PERIOD = 18, WAVE_LENGTH = 14, WAVE_CHANGE = 2, WAVE_HEIGHT = 3;
 	
 	/** Control for the water depth effect. */
 	private static final double LIGHT_DEGRADATION = 0.985;
 	
-	/** How far the water rises each turn. */
-	private static final double WATER_RISE = 0.50;
-	
 	/** The initial level of the water. */
 	private static final int INITIAL_ALTITUDE = -50;
 	
@@ -34,6 +82,9 @@ public final class RisingWater {
 	/** The depth colors for the water. */
 	private static final List<Color> DEPTH_COLORS;
 	
+	/** How many rows of the screen the waves cover, including the line along the surface. */
+	private static final int WAVE_ROWS = WAVE_HEIGHT + 1;
+	
 	static {
 		final List<Color> waterColors = new ArrayList<Color>();
 		
@@ -50,13 +101,30 @@ public final class RisingWater {
 		DEPTH_COLORS = Collections.unmodifiableList(waterColors);
 	}
 	
+	/** How far the water rises each turn. */
+	private final double rise;
+	
 	/** How high the water is. */
 	private double altitude;
 	
+	/** How high the water was before the last step. */
+	private double previousAltitude;
+	
 	/**
-	 * Constructs the water.
+	 * Constructs the water, rising as fast as in the default game.
 	 */
 	public RisingWater() {
+		this(GameParameters.DEFAULT.getWaterRise());
+	}
+	
+	/**
+	 * Constructs the water.
+	 * 
+	 * @param rise
+	 *            How far the water rises each turn.
+	 */
+	public RisingWater(double rise) {
+		this.rise = rise;
 		reset();
 	}
 	
@@ -65,19 +133,46 @@ public final class RisingWater {
 	 */
 	public void reset() {
 		altitude = INITIAL_ALTITUDE;
+		previousAltitude = altitude;
+	}
+	
+	/**
+	 * Writes the state of the water, so it can be restored later.
+	 * 
+	 * @param out
+	 *            Where to write the state.
+	 * @throws IOException
+	 *             If the state can't be written.
+	 */
+	public void save(DataOutput out) throws IOException {
+		out.writeDouble(altitude);
+		out.writeDouble(previousAltitude);
+	}
+	
+	/**
+	 * Restores the state of the water, as written by {@link #save(DataOutput)}.
+	 * 
+	 * @param in
+	 *            Where to read the state.
+	 * @throws IOException
+	 *             If the state can't be read.
+	 */
+	public void restore(DataInput in) throws IOException {
+		altitude = in.readDouble();
+		previousAltitude = in.readDouble();
 	}
 	
 	/**
 	 * Controls the water during the frame.
 	 * 
 	 * @param blocks
-	 *            Other block objects in the area.
+	 *            The blocks of rubble in the area.
 	 * @param player
 	 *            The player.
 	 * @param spaceBelowPlayer
 	 *            Amount of space below the player to the bottom of the screen.
 	 */
-	public void step(List<Block> blocks, Player player, int spaceBelowPlayer) {
+	public void step(Rubble blocks, Player player, int spaceBelowPlayer) {
 		rise();
 		fixWaterBlockCollisions(blocks, player, spaceBelowPlayer);
 		player.drown((int)altitude);
@@ -87,7 +182,8 @@ public final class RisingWater {
 	 * Causes the water to rise.
 	 */
 	private void rise() {
-		altitude += WATER_RISE;
+		previousAltitude = altitude;
+		altitude += rise;
 	}
 	
 	/**
@@ -102,6 +198,24 @@ public final class RisingWater {
 		return (altitude > (double)playerAltitude + Game.GAME_HEIGHT + DEPTH_COLORS.size());
 	}
 	
+	/**
+	 * Returns how high the water is.
+	 * 
+	 * @return The altitude of the water.
+	 */
+	public double getAltitude() {
+		return altitude;
+	}
+	
+	/**
+	 * Returns how high the water was before the last step.
+	 * 
+	 * @return The altitude of the water before the last step.
+	 */
+	public double getPreviousAltitude() {
+		return previousAltitude;
+	}
+	
 	/**
 	 * Draws this object on an image.
 	 * 
@@ -113,28 +227,100 @@ public final class RisingWater {
 	 *            The altitude of the bottom of the screen.
 	 */
 	public void paint(Graphics g, int screenTop, int screenBottom) {
-		if(altitude + WAVE_HEIGHT < screenBottom) {
+		paint(g, altitude, screenTop, screenBottom);
+	}
+	
+	/**
+	 * Draws water at an altitude on an image.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param waterAltitude
+	 *            The altitude of the water.
+	 * @param screenTop
+	 *            The altitude of the top of the screen.
+	 * @param screenBottom
+	 *            The altitude of the bottom of the screen.
+	 */
+	public static void paint(Graphics g, double waterAltitude, int screenTop, int screenBottom) {
+		if(waterAltitude + WAVE_HEIGHT < screenBottom) {
 			return;
 		}
 		
-		final int waterTop = screenTop - (int)altitude;
-		
-		// Slowly darken water.
-		for(int i = waterTop; i < Game.GAME_HEIGHT; i++) {
-			if(DEPTH_COLORS.size() > i - waterTop) {
-				g.setColor(DEPTH_COLORS.get(i - waterTop));
-				g.drawLine(0, i, Game.GAME_WIDTH, i);
-			} else {
-				g.fillRect(0, i, Game.GAME_WIDTH, Game.GAME_HEIGHT - i);
-				break;
-			}
+		final int waterTop = screenTop - (int)waterAltitude;
+		paintDepth(g, waterTop);
+		paintWaves(g, waterAltitude, waterTop);
+	}
+	
+	/**
+	 * Returns the highest row of the screen water at an altitude can be drawn on, the top of its
+	 * waves. Everything below it is covered by the water.
+	 * 
+	 * @param waterAltitude
+	 *            The altitude of the water.
+	 * @param screenTop
+	 *            The altitude of the top of the screen.
+	 * @return The y coordinate on the screen of the top of the waves.
+	 */
+	public static int getSurfaceTop(double waterAltitude, int screenTop) {
+		return screenTop - (int)waterAltitude - WAVE_ROWS;
+	}
+	
+	/**
+	 * Draws the body of the water, darkening with depth, on an image. The depth colors are drawn
+	 * from an image made ahead of time, and the water below them is filled with the darkest.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param waterTop
+	 *            The y coordinate of the surface of the water on the image.
+	 */
+	public static void paintDepth(Graphics g, int waterTop) {
+		if(waterTop >= Game.GAME_HEIGHT) {
+			return;
 		}
 		
-		// Wave generation.
+		g.drawImage(WaterImages.DEPTH_STRIP, 0, waterTop, null);
+		
+		final int deepTop = waterTop + DEPTH_COLORS.size();
+		if(deepTop < Game.GAME_HEIGHT) {
+			g.setColor(DEPTH_COLORS.get(DEPTH_COLORS.size() - 1));
+			g.fillRect(0, deepTop, Game.GAME_WIDTH, Game.GAME_HEIGHT - deepTop);
+		}
+	}
+	
+	/**
+	 * Draws the waves on the surface of the water on an image. The waves move along as the water
+	 * rises. The waves are drawn from an image made ahead of time for where the first wave starts.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param waterAltitude
+	 *            The altitude of the water.
+	 * @param waterTop
+	 *            The y coordinate of the surface of the water on the image.
+	 */
+	public static void paintWaves(Graphics g, double waterAltitude, int waterTop) {
+		final int firstWave = -(int)(waterAltitude * 2) % WAVE_PERIOD;
+		g.drawImage(WaterImages.WAVE_FRAMES[firstWave + WAVE_PERIOD - 1], 0, waterTop - WAVE_ROWS,
+				null);
+	}
+	
+	/**
+	 * Draws the waves on the surface of the water on an image, one line at a time.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param firstWave
+	 *            The x coordinate the first wave starts at.
+	 * @param waterTop
+	 *            The y coordinate of the surface of the water on the image.
+	 */
+	private static void drawWaves(Graphics g, int firstWave, int waterTop) {
 		g.setColor(Color.BLACK);
-		g.drawLine(0, waterTop - 1, Game.GAME_WIDTH, screenTop - (int)altitude - 1);
+		g.drawLine(0, waterTop - 1, Game.GAME_WIDTH, waterTop - 1);
 		
-		for(int i = -(int)(altitude * 2) % WAVE_PERIOD; i < Game.GAME_WIDTH; i += WAVE_PERIOD) {
+		for(int i = firstWave; i < Game.GAME_WIDTH; i += WAVE_PERIOD) {
 			for(int j = 0; j < WAVE_HEIGHT; j++) {
 				final int waveTop = waterTop - (j + 1);
 				final int waveDistance = i + (WAVE_LENGTH - WAVE_CHANGE * j) - 1;
@@ -152,22 +338,15 @@ public final class RisingWater {
 	 * submerged that they are not interact-able anymore.
 	 * 
 	 * @param blocks
-	 *            Other block objects in the area.
+	 *            The blocks of rubble in the area.
 	 * @param player
 	 *            The player.
 	 * @param spaceBelowPlayer
 	 *            Amount of space below the player to the bottom of the screen.
 	 */
-	private void fixWaterBlockCollisions(List<Block> blocks, Player player, int spaceBelowPlayer) {
-		final Iterator<Block> itr = blocks.iterator();
-		while(itr.hasNext()) {
-			final Block block = itr.next();
-			if(altitude > block.getYOfTop() + spaceBelowPlayer) {
-				itr.remove();
-			} else {
-				block.drift((int)altitude);
-			}
-		}
+	private void fixWaterBlockCollisions(Rubble blocks, Player player, int spaceBelowPlayer) {
+		blocks.removeBelow(altitude, spaceBelowPlayer);
+		blocks.drift((int)altitude);
 	}
 	
 }
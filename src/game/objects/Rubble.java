@@ -0,0 +1,947 @@
+package game.objects;
+
+import game.Game;
+import java.awt.Graphics;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The blocks of rubble in an area. Blocks are kept in parallel arrays rather than as block objects
+ * so that the collision and paint loops run over dense memory without allocating. Falling blocks
+ * are simulated every frame, while blocks that have landed sleep in a grid until a falling block
+ * reaches them. The grid also orders them by altitude, so finding the blocks on the screen, below
+ * the water, or at the top of the rubble only looks at those blocks. Removing a block moves the
+ * last block into its slot.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class Rubble {
+	
+	/** How many blocks new rubble has room for. */
+	private static final int INITIAL_CAPACITY = 64;
+	
+	/** Rubble with this many blocks or fewer is checked without the grid. */
+	private static final int MIN_GRID_BLOCKS = 64;
+	
+	/** The position of each block. */
+	private int[] x, y;
+	
+	/** Dimension of each block. */
+	private int[] width, height;
+	
+	/** The y coordinate of each block before it last moved. */
+	private int[] previousY;
+	
+	/** The step during which each block last moved. */
+	private int[] movedOn;
+	
+	/** How fast each block is falling. */
+	private int[] fallingSpeed;
+	
+	/** The palette entry each block is painted with. */
+	private int[] shade;
+	
+	/** When each block was added to the rubble, compared to the other blocks. */
+	private int[] order;
+	
+	/** If each block has stopped falling and is stationary. */
+	private boolean[] stationary;
+	
+	/** If each block is asleep in the grid until something reaches it. */
+	private boolean[] asleep;
+	
+	/** The last search that found each block, so that blocks are only counted once. */
+	private int[] visited;
+	
+	/** The current search. */
+	private int visit;
+	
+	/** How many blocks are in the rubble. */
+	private int count;
+	
+	/** The slots of the blocks that are awake, in the order they were added. */
+	private final SlotList awake;
+	
+	/** The slots of the blocks simulated during the current frame. */
+	private final SlotList moving;
+	
+	/** The blocks that have landed and are asleep. */
+	private final BlockGrid landed;
+	
+	/** The slots found by a search of the rubble. */
+	private final SlotList found;
+	
+	/** Lists reused for the candidates of each block being fixed, one for each level of pushing. */
+	private SlotList[] candidates;
+	
+	/** The slot of the block being fixed at each level of pushing. */
+	private int[] fixing;
+	
+	/** The index of the next candidate checked at each level of pushing. */
+	private int[] progress;
+	
+	/** How many blocks are currently fixing their collisions. */
+	private int depth;
+	
+	/** The order given to the next block added. */
+	private int nextOrder;
+	
+	/** How many times the rubble has stepped. */
+	private int steps;
+	
+	/**
+	 * Constructs empty rubble.
+	 */
+	public Rubble() {
+		awake = new SlotList();
+		moving = new SlotList();
+		landed = new BlockGrid();
+		found = new SlotList();
+		candidates = new SlotList[0];
+		fixing = new int[0];
+		progress = new int[0];
+		allocate(INITIAL_CAPACITY);
+	}
+	
+	/**
+	 * Constructs rubble holding a list of blocks, in the order of the list.
+	 * 
+	 * @param rubbleBlocks
+	 *            The block objects in the area.
+	 */
+	Rubble(List<Block> rubbleBlocks) {
+		this();
+		for(final Block block : rubbleBlocks) {
+			add(block);
+		}
+	}
+	
+	/**
+	 * Adds a block to the rubble. The block object isn't kept, so later changes to it don't affect
+	 * the rubble.
+	 * 
+	 * @param block
+	 *            The block.
+	 */
+	public void add(Block block) {
+		if(count == x.length) {
+			allocate(count * 2);
+		}
+		
+		final int slot = count++;
+		x[slot] = block.getXOfLeft();
+		y[slot] = block.getYOfBottom();
+		previousY[slot] = y[slot];
+		movedOn[slot] = steps;
+		width[slot] = block.getXOfRight() - block.getXOfLeft();
+		height[slot] = block.getYOfTop() - block.getYOfBottom();
+		fallingSpeed[slot] = block.getFallingSpeed();
+		shade[slot] = BlockPalette.indexOf(block.getColor());
+		order[slot] = nextOrder++;
+		stationary[slot] = block.isStationary();
+		
+		if(canSleep(slot)) {
+			asleep[slot] = true;
+			landed.add(slot, x[slot], y[slot], width[slot], height[slot]);
+		} else {
+			asleep[slot] = false;
+			awake.add(slot);
+		}
+	}
+	
+	/**
+	 * Removes every block from the rubble.
+	 */
+	public void clear() {
+		count = 0;
+		awake.clear();
+		landed.clear();
+		nextOrder = 0;
+	}
+	
+	/**
+	 * Writes the state of every block, so the rubble can be restored later. The grids are left
+	 * out, since they are built again from the blocks.
+	 * 
+	 * @param out
+	 *            Where to write the state.
+	 * @throws IOException
+	 *             If the state can't be written.
+	 */
+	public void save(DataOutput out) throws IOException {
+		out.writeInt(count);
+		out.writeInt(nextOrder);
+		out.writeInt(steps);
+		
+		for(int slot = 0; slot < count; slot++) {
+			out.writeInt(x[slot]);
+			out.writeInt(y[slot]);
+			out.writeInt(previousY[slot]);
+			out.writeInt(movedOn[slot]);
+			out.writeInt(width[slot]);
+			out.writeInt(height[slot]);
+			out.writeInt(fallingSpeed[slot]);
+			out.writeShort(shade[slot]);
+			out.writeInt(order[slot]);
+			out.writeByte((stationary[slot] ? 1 : 0) | (asleep[slot] ? 2 : 0));
+		}
+		
+		out.writeInt(awake.size());
+		for(int i = 0; i < awake.size(); i++) {
+			out.writeInt(awake.get(i));
+		}
+	}
+	
+	/**
+	 * Restores the state of every block, as written by {@link #save(DataOutput)}, replacing the
+	 * blocks in the rubble.
+	 * 
+	 * @param in
+	 *            Where to read the state.
+	 * @throws IOException
+	 *             If the state can't be read.
+	 */
+	public void restore(DataInput in) throws IOException {
+		clear();
+		final int restored = in.readInt();
+		if(restored > x.length) {
+			allocate(restored);
+		}
+		nextOrder = in.readInt();
+		steps = in.readInt();
+		
+		for(int slot = 0; slot < restored; slot++) {
+			x[slot] = in.readInt();
+			y[slot] = in.readInt();
+			previousY[slot] = in.readInt();
+			movedOn[slot] = in.readInt();
+			width[slot] = in.readInt();
+			height[slot] = in.readInt();
+			fallingSpeed[slot] = in.readInt();
+			shade[slot] = in.readUnsignedShort();
+			order[slot] = in.readInt();
+			
+			final int flags = in.readUnsignedByte();
+			stationary[slot] = (flags & 1) != 0;
+			asleep[slot] = (flags & 2) != 0;
+			if(asleep[slot]) {
+				landed.add(slot, x[slot], y[slot], width[slot], height[slot]);
+			}
+		}
+		count = restored;
+		
+		final int awakeCount = in.readInt();
+		for(int i = 0; i < awakeCount; i++) {
+			awake.add(in.readInt());
+		}
+	}
+	
+	/**
+	 * Returns how many blocks are in the rubble.
+	 * 
+	 * @return The number of blocks.
+	 */
+	public int size() {
+		return count;
+	}
+	
+	/**
+	 * Returns a copy of a block in the rubble. Changes to the copy don't affect the rubble.
+	 * 
+	 * @param index
+	 *            The index of the block, from 0 to the size of the rubble.
+	 * @return The block.
+	 */
+	public Block getBlock(int index) {
+		final Block block =
+				new Block(BlockPalette.getColor(shade[index]), x[index], y[index], width[index],
+						height[index], fallingSpeed[index]);
+		update(index, block);
+		return block;
+	}
+	
+	/**
+	 * Copies the state of a block in the rubble to a block object.
+	 * 
+	 * @param index
+	 *            The index of the block.
+	 * @param block
+	 *            The block object to update.
+	 */
+	void update(int index, Block block) {
+		block.update(y[index], fallingSpeed[index], stationary[index]);
+	}
+	
+	/**
+	 * Checks if a block is asleep in the rubble.
+	 * 
+	 * @param index
+	 *            The index of the block.
+	 * @return If the block is asleep.
+	 */
+	boolean isAsleep(int index) {
+		return asleep[index];
+	}
+	
+	/**
+	 * Checks if a block in the rubble is colliding with an object.
+	 * 
+	 * @param index
+	 *            The index of the block.
+	 * @param objectX
+	 *            The x position of the object.
+	 * @param objectY
+	 *            The y position of the object.
+	 * @param objectWidth
+	 *            The width of the object.
+	 * @param objectHeight
+	 *            The height of the object.
+	 * @return Whether or not the block is colliding with the object.
+	 */
+	public boolean collides(int index, int objectX, int objectY, int objectWidth,
+			int objectHeight) {
+		return Block.collides(x[index], y[index], width[index], height[index], objectX, objectY,
+				objectWidth, objectHeight);
+	}
+	
+	/**
+	 * Returns the altitude of the top of a block.
+	 * 
+	 * @param index
+	 *            The index of the block.
+	 * @return The altitude of the top of the block.
+	 */
+	public int getYOfTop(int index) {
+		return y[index] + height[index];
+	}
+	
+	/**
+	 * Returns the altitude of the bottom of a block.
+	 * 
+	 * @param index
+	 *            The index of the block.
+	 * @return The altitude of the bottom of the block.
+	 */
+	public int getYOfBottom(int index) {
+		return y[index];
+	}
+	
+	/**
+	 * Returns the altitude of the bottom of a block before the last step, so the block can be drawn
+	 * part of the way between its last two positions.
+	 * 
+	 * @param index
+	 *            The index of the block.
+	 * @return The altitude of the bottom of the block before the last step.
+	 */
+	public int getPreviousYOfBottom(int index) {
+		return movedOn[index] == steps ? previousY[index] : y[index];
+	}
+	
+	/**
+	 * Returns the position of the left side of a block.
+	 * 
+	 * @param index
+	 *            The index of the block.
+	 * @return The position of the left side of the block.
+	 */
+	public int getXOfLeft(int index) {
+		return x[index];
+	}
+	
+	/**
+	 * Returns the position of the right side of a block.
+	 * 
+	 * @param index
+	 *            The index of the block.
+	 * @return The position of the right side of the block.
+	 */
+	public int getXOfRight(int index) {
+		return x[index] + width[index];
+	}
+	
+	/**
+	 * Finds the blocks that may collide with an object anywhere in an area, from the lowest slot
+	 * up. The object must have an x position on the screen, since only then does
+	 * {@link Block#collides(int, int, int, int)} wrap the same way as the grid.
+	 * 
+	 * @param areaX
+	 *            The x position of the area, which may be off the screen.
+	 * @param areaY
+	 *            The y position of the area.
+	 * @param areaWidth
+	 *            The width of the area.
+	 * @param areaHeight
+	 *            The height of the area.
+	 * @param near
+	 *            The list to fill with the slots of the blocks.
+	 * @return False if every block was added, since the area couldn't be searched.
+	 */
+	boolean collectNear(int areaX, int areaY, int areaWidth, int areaHeight, SlotList near) {
+		if(count <= MIN_GRID_BLOCKS
+				|| !BlockGrid.canSearch(areaX, areaY, areaWidth, areaHeight)) {
+			collectEvery(near);
+			return false;
+		}
+		
+		near.clear();
+		for(int i = 0; i < awake.size(); i++) {
+			near.add(awake.get(i));
+		}
+		landed.collect(areaX, areaY, areaWidth, areaHeight, near);
+		
+		startSearch();
+		int kept = 0;
+		for(int i = 0; i < near.size(); i++) {
+			final int slot = near.get(i);
+			if(isFirstVisit(slot)) {
+				near.set(kept++, slot);
+			}
+		}
+		near.truncate(kept);
+		
+		sort(near, false);
+		return true;
+	}
+	
+	/**
+	 * Fills a list with the slot of every block, from the lowest slot up.
+	 * 
+	 * @param near
+	 *            The list to fill with the slots of the blocks.
+	 */
+	void collectEvery(SlotList near) {
+		near.clear();
+		for(int slot = 0; slot < count; slot++) {
+			near.add(slot);
+		}
+	}
+	
+	/**
+	 * Returns the altitude of the top of the highest block that has stopped falling. Only the
+	 * awake blocks and the highest landed blocks are checked.
+	 * 
+	 * @param lowestPoint
+	 *            The altitude returned if no block that has stopped falling is higher.
+	 * @return The highest point.
+	 */
+	public int getHighestPoint(int lowestPoint) {
+		found.clear();
+		for(int i = 0; i < awake.size(); i++) {
+			if(fallingSpeed[awake.get(i)] == 0) {
+				found.add(awake.get(i));
+			}
+		}
+		
+		// Landed blocks have all stopped falling.
+		landed.collectHighest(found);
+		
+		int highestPoint = lowestPoint;
+		for(int i = 0; i < found.size(); i++) {
+			final int slot = found.get(i);
+			if(y[slot] + height[slot] > highestPoint) {
+				highestPoint = y[slot] + height[slot];
+			}
+		}
+		return highestPoint;
+	}
+	
+	/**
+	 * Controls the blocks during the frame. Only the awake blocks fall and fix their collisions;
+	 * the blocks that have landed are left alone unless an awake block pushes them.
+	 */
+	public void step() {
+		steps++;
+		moving.copy(awake);
+		
+		for(int i = 0; i < moving.size(); i++) {
+			final int slot = moving.get(i);
+			remember(slot);
+			y[slot] -= fallingSpeed[slot];
+		}
+		
+		// Block collisions must be fixed after ALL the blocks have fallen to insure integrity.
+		for(int i = 0; i < moving.size(); i++) {
+			fixCollisions(moving.get(i));
+		}
+		
+		// Blocks that have come to rest go to sleep until something reaches them.
+		int kept = 0;
+		for(int i = 0; i < awake.size(); i++) {
+			final int slot = awake.get(i);
+			if(canSleep(slot)) {
+				asleep[slot] = true;
+				landed.add(slot, x[slot], y[slot], width[slot], height[slot]);
+			} else {
+				awake.set(kept++, slot);
+			}
+		}
+		awake.truncate(kept);
+	}
+	
+	/**
+	 * Floats the awake blocks that are halfway submerged in water. Blocks asleep in the rubble
+	 * have already stopped falling.
+	 * 
+	 * @param waterAltitude
+	 *            The altitude of the water.
+	 */
+	public void drift(int waterAltitude) {
+		for(int i = 0; i < awake.size(); i++) {
+			final int slot = awake.get(i);
+			if(waterAltitude >= y[slot] + height[slot] / 2) {
+				fallingSpeed[slot] = 0;
+			}
+		}
+	}
+	
+	/**
+	 * Removes the blocks whose tops are more than a depth below an altitude. Only the awake blocks
+	 * and the landed blocks below the altitude are checked.
+	 * 
+	 * @param altitude
+	 *            The altitude.
+	 * @param depth
+	 *            How far below the altitude blocks are kept.
+	 */
+	public void removeBelow(double altitude, int depth) {
+		found.clear();
+		for(int i = 0; i < awake.size(); i++) {
+			found.add(awake.get(i));
+		}
+		final int highestRemoved =
+				(int)Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, Math.ceil(altitude
+						- depth)));
+		landed.collectBetween(Integer.MIN_VALUE, highestRemoved, found);
+		
+		startSearch();
+		int removed = 0;
+		for(int i = 0; i < found.size(); i++) {
+			final int slot = found.get(i);
+			if(altitude > y[slot] + height[slot] + depth && isFirstVisit(slot)) {
+				found.set(removed++, slot);
+			}
+		}
+		found.truncate(removed);
+		
+		// Highest slots first, so the block moved into a removed slot is never one being removed.
+		sort(found, false);
+		for(int i = found.size() - 1; i >= 0; i--) {
+			remove(found.get(i));
+		}
+	}
+	
+	/**
+	 * Draws the blocks on an image. Only the awake blocks and the landed blocks on the screen are
+	 * checked.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param screenTop
+	 *            The altitude of the top of the screen.
+	 * @param screenBottom
+	 *            The altitude of the bottom of the screen.
+	 */
+	public void paint(Graphics g, int screenTop, int screenBottom) {
+		collectVisible(screenTop, screenBottom);
+		final BlockTiles tiles = BlockTiles.forThread();
+		for(int index = 0; index < found.size(); index++) {
+			final int i = found.get(index);
+			paintBlock(g, tiles, shade[i], x[i], screenTop - (y[i] + height[i]), width[i],
+					height[i]);
+		}
+	}
+	
+	/**
+	 * Copies the blocks on the screen into a snapshot, so they can be drawn later without the
+	 * rubble. Where each block was before the last step is copied too, so the blocks can be drawn
+	 * between steps. Only the awake blocks and the landed blocks on the screen are checked.
+	 * 
+	 * @param snapshot
+	 *            The snapshot, which loses any blocks it had.
+	 * @param screenTop
+	 *            The altitude of the top of the screen.
+	 * @param screenBottom
+	 *            The altitude of the bottom of the screen.
+	 */
+	public void capture(RubbleSnapshot snapshot, int screenTop, int screenBottom) {
+		collectVisible(screenTop, screenBottom);
+		snapshot.clear();
+		for(int index = 0; index < found.size(); index++) {
+			final int i = found.get(index);
+			snapshot.add(x[i], y[i], getPreviousYOfBottom(i), width[i], height[i], shade[i]);
+		}
+	}
+	
+	/**
+	 * Draws a block on an image from its tile. A block that goes past the right of the screen is
+	 * drawn again on the left, as a block as wide as the part past the edge.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param tiles
+	 *            The tiles of the thread drawing the block.
+	 * @param shade
+	 *            The palette entry the block is painted with.
+	 * @param x
+	 *            The x coordinate of the block.
+	 * @param blockTop
+	 *            The position of the top of the block on the image.
+	 * @param width
+	 *            The width of the block.
+	 * @param height
+	 *            The height of the block.
+	 */
+	static void paintBlock(Graphics g, BlockTiles tiles, int shade, int x, int blockTop,
+			int width, int height) {
+		tiles.paint(g, shade, x, blockTop, width, height);
+		
+		// For splitting blocks on the screen.
+		if(x + width > Game.GAME_WIDTH) {
+			final int splitWidth = x + width - Game.GAME_WIDTH;
+			tiles.paint(g, shade, -1, blockTop, splitWidth, height);
+		}
+	}
+	
+	/**
+	 * Finds the blocks on the screen, each once, in the order they are drawn.
+	 * 
+	 * @param screenTop
+	 *            The altitude of the top of the screen.
+	 * @param screenBottom
+	 *            The altitude of the bottom of the screen.
+	 */
+	private void collectVisible(int screenTop, int screenBottom) {
+		found.clear();
+		for(int i = 0; i < awake.size(); i++) {
+			found.add(awake.get(i));
+		}
+		landed.collectBetween(screenBottom - 1, screenTop, found);
+		
+		startSearch();
+		int kept = 0;
+		for(int index = 0; index < found.size(); index++) {
+			final int i = found.get(index);
+			if(y[i] + height[i] >= screenBottom && y[i] <= screenTop && isFirstVisit(i)) {
+				found.set(kept++, i);
+			}
+		}
+		found.truncate(kept);
+	}
+	
+	/**
+	 * Checks if a block collides with other blocks and fixes the position. Blocks only ever move
+	 * up while collisions are fixed, and a pushed block ends up above this one, so only the blocks
+	 * colliding before the fixes start need to be checked, in the order they were added. A block
+	 * that lands on another is checked again from its new position, and a pushed block is checked
+	 * before the rest of the candidates. The blocks being fixed are kept on a stack rather than the
+	 * call stack, so a long chain of pushed blocks can't overflow it; each level of the stack holds
+	 * one block and its candidates, and a block pushes each candidate at most once per level.
+	 * 
+	 * @param slot
+	 *            The slot of the block.
+	 */
+	private void fixCollisions(int slot) {
+		final int base = depth;
+		startFixing(slot);
+		
+		while(depth > base) {
+			final int level = depth - 1;
+			final int current = fixing[level];
+			final SlotList others = candidates[level];
+			
+			if(progress[level] == others.size()) {
+				depth--;
+				stationary[current] = fallingSpeed[current] == 0;
+				continue;
+			}
+			
+			final int other = others.get(progress[level]++);
+			if(collides(current, x[other], y[other], width[other], height[other])) {
+				if(y[current] > y[other]) {
+					fallingSpeed[current] = fallingSpeed[other];
+					moveTo(current, y[other] + height[other]);
+					
+					// The rest of the candidates are left to the check from the new position.
+					progress[level] = others.size();
+					startFixing(current);
+				} else {
+					fallingSpeed[other] = fallingSpeed[current];
+					moveTo(other, y[current] + height[current]);
+					startFixing(other);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Puts a block on the stack of blocks fixing their collisions, along with the blocks it is
+	 * colliding with.
+	 * 
+	 * @param slot
+	 *            The slot of the block.
+	 */
+	private void startFixing(int slot) {
+		if(stationary[slot]) {
+			return;
+		}
+		
+		findCollisions(slot);
+		fixing[depth] = slot;
+		progress[depth] = 0;
+		depth++;
+	}
+	
+	/**
+	 * Finds the other blocks colliding with a block, in the order they were added, making room on
+	 * the stack for the block if needed. The list is reused once the block is done fixing its
+	 * collisions.
+	 * 
+	 * @param slot
+	 *            The slot of the block.
+	 * @return The slots of the colliding blocks.
+	 */
+	private SlotList findCollisions(int slot) {
+		if(depth == candidates.length) {
+			final SlotList[] grown = new SlotList[depth * 2 + 1];
+			System.arraycopy(candidates, 0, grown, 0, depth);
+			for(int i = depth; i < grown.length; i++) {
+				grown[i] = new SlotList();
+			}
+			candidates = grown;
+			fixing = grow(fixing, grown.length, depth);
+			progress = grow(progress, grown.length, depth);
+		}
+		final SlotList colliding = candidates[depth];
+		colliding.clear();
+		
+		// Small rubble and blocks the grid can't place are checked against every block.
+		if(count <= MIN_GRID_BLOCKS
+				|| !BlockGrid.isRegular(x[slot], y[slot], width[slot], height[slot])) {
+			for(int other = 0; other < count; other++) {
+				addCollision(colliding, slot, other);
+			}
+		} else {
+			for(int i = 0; i < awake.size(); i++) {
+				addCollision(colliding, slot, awake.get(i));
+			}
+			
+			final int firstLanded = colliding.size();
+			landed.collect(x[slot], y[slot], width[slot], height[slot], colliding);
+			
+			// Only the landed blocks that do collide are kept, and each only once.
+			startSearch();
+			int kept = firstLanded;
+			for(int i = firstLanded; i < colliding.size(); i++) {
+				final int other = colliding.get(i);
+				if(collides(slot, x[other], y[other], width[other], height[other])
+						&& isFirstVisit(other)) {
+					colliding.set(kept++, other);
+				}
+			}
+			colliding.truncate(kept);
+		}
+		
+		sort(colliding, true);
+		return colliding;
+	}
+	
+	/**
+	 * Adds another block to a list if it collides with a block.
+	 * 
+	 * @param colliding
+	 *            The list of colliding blocks.
+	 * @param slot
+	 *            The slot of the block.
+	 * @param other
+	 *            The slot of the other block.
+	 */
+	private void addCollision(SlotList colliding, int slot, int other) {
+		if(other != slot && collides(slot, x[other], y[other], width[other], height[other])) {
+			colliding.add(other);
+		}
+	}
+	
+	/**
+	 * Sorts a short list of slots with an insertion sort, since searches find few blocks.
+	 * 
+	 * @param slots
+	 *            The slots.
+	 * @param byOrder
+	 *            If the slots are sorted by when their blocks were added, rather than by slot.
+	 */
+	private void sort(SlotList slots, boolean byOrder) {
+		for(int i = 1; i < slots.size(); i++) {
+			final int slot = slots.get(i);
+			final int key = byOrder ? order[slot] : slot;
+			int j = i;
+			while(j > 0 && (byOrder ? order[slots.get(j - 1)] : slots.get(j - 1)) > key) {
+				slots.set(j, slots.get(j - 1));
+				j--;
+			}
+			slots.set(j, slot);
+		}
+	}
+	
+	/**
+	 * Starts a new search of the rubble, so that each block it finds is only counted once.
+	 */
+	private void startSearch() {
+		if(++visit == 0) {
+			Arrays.fill(visited, 0);
+			visit = 1;
+		}
+	}
+	
+	/**
+	 * Marks a block as found by the current search.
+	 * 
+	 * @param slot
+	 *            The slot of the block.
+	 * @return If the current search hadn't already found the block.
+	 */
+	private boolean isFirstVisit(int slot) {
+		if(visited[slot] == visit) {
+			return false;
+		}
+		visited[slot] = visit;
+		return true;
+	}
+	
+	/**
+	 * Moves a block to a new altitude, waking it first if it is asleep in the rubble.
+	 * 
+	 * @param slot
+	 *            The slot of the block.
+	 * @param newY
+	 *            The new y coordinate of the block.
+	 */
+	private void moveTo(int slot, int newY) {
+		if(asleep[slot]) {
+			landed.remove(slot, x[slot], y[slot], width[slot], height[slot]);
+			asleep[slot] = false;
+			
+			int index = awake.size();
+			while(index > 0 && order[awake.get(index - 1)] > order[slot]) {
+				index--;
+			}
+			awake.insert(index, slot);
+		}
+		remember(slot);
+		y[slot] = newY;
+	}
+	
+	/**
+	 * Remembers where a block was before it first moves during a step.
+	 * 
+	 * @param slot
+	 *            The slot of the block.
+	 */
+	private void remember(int slot) {
+		if(movedOn[slot] != steps) {
+			movedOn[slot] = steps;
+			previousY[slot] = y[slot];
+		}
+	}
+	
+	/**
+	 * Checks if a block has come to rest and can sleep until something reaches it.
+	 * 
+	 * @param slot
+	 *            The slot of the block.
+	 * @return If the block can sleep.
+	 */
+	private boolean canSleep(int slot) {
+		return stationary[slot] && fallingSpeed[slot] == 0;
+	}
+	
+	/**
+	 * Removes a block, moving the last block into its slot.
+	 * 
+	 * @param slot
+	 *            The slot of the block.
+	 */
+	private void remove(int slot) {
+		if(asleep[slot]) {
+			landed.remove(slot, x[slot], y[slot], width[slot], height[slot]);
+		} else {
+			awake.remove(awake.indexOf(slot));
+		}
+		
+		final int last = --count;
+		if(slot == last) {
+			return;
+		}
+		
+		if(asleep[last]) {
+			landed.remove(last, x[last], y[last], width[last], height[last]);
+			landed.add(slot, x[last], y[last], width[last], height[last]);
+		} else {
+			awake.set(awake.indexOf(last), slot);
+		}
+		
+		x[slot] = x[last];
+		y[slot] = y[last];
+		previousY[slot] = previousY[last];
+		movedOn[slot] = movedOn[last];
+		width[slot] = width[last];
+		height[slot] = height[last];
+		fallingSpeed[slot] = fallingSpeed[last];
+		shade[slot] = shade[last];
+		order[slot] = order[last];
+		stationary[slot] = stationary[last];
+		asleep[slot] = asleep[last];
+	}
+	
+	/**
+	 * Makes room for more blocks, keeping the blocks already in the rubble.
+	 * 
+	 * @param capacity
+	 *            How many blocks there is room for.
+	 */
+	private void allocate(int capacity) {
+		x = grow(x, capacity, count);
+		y = grow(y, capacity, count);
+		previousY = grow(previousY, capacity, count);
+		movedOn = grow(movedOn, capacity, count);
+		width = grow(width, capacity, count);
+		height = grow(height, capacity, count);
+		fallingSpeed = grow(fallingSpeed, capacity, count);
+		shade = grow(shade, capacity, count);
+		order = grow(order, capacity, count);
+		visited = grow(visited, capacity, count);
+		
+		final boolean[] grownStationary = new boolean[capacity];
+		final boolean[] grownAsleep = new boolean[capacity];
+		if(count > 0) {
+			System.arraycopy(stationary, 0, grownStationary, 0, count);
+			System.arraycopy(asleep, 0, grownAsleep, 0, count);
+		}
+		stationary = grownStationary;
+		asleep = grownAsleep;
+	}
+	
+	/**
+	 * Copies the used part of an array into a new array.
+	 * 
+	 * @param array
+	 *            The array, or null if there isn't one yet.
+	 * @param capacity
+	 *            The length of the new array.
+	 * @param used
+	 *            How many entries of the array are used.
+	 * @return The new array.
+	 */
+	private static int[] grow(int[] array, int capacity, int used) {
+		final int[] grown = new int[capacity];
+		if(array != null) {
+			System.arraycopy(array, 0, grown, 0, used);
+		}
+		return grown;
+	}
+	
+}
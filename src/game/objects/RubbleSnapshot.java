@@ -0,0 +1,205 @@
+package game.objects;
+
+import java.awt.Graphics;
+
+/**
+ * The blocks of rubble on the screen at one moment, copied out of the rubble so they can be drawn
+ * while the rubble keeps changing. The arrays are kept and reused by each copy, only growing when
+ * more blocks are on the screen than ever before.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class RubbleSnapshot {
+	
+	/** How many blocks a new snapshot has room for. */
+	private static final int INITIAL_CAPACITY = 64;
+	
+	/** The position of each block. */
+	private int[] x, y;
+	
+	/** The y coordinate of each block before the last step. */
+	private int[] previousY;
+	
+	/** Dimension of each block. */
+	private int[] width, height;
+	
+	/** The palette entry each block is painted with. */
+	private int[] shade;
+	
+	/** How many blocks are in the snapshot. */
+	private int count;
+	
+	/**
+	 * Constructs an empty snapshot.
+	 */
+	public RubbleSnapshot() {
+		x = new int[INITIAL_CAPACITY];
+		y = new int[INITIAL_CAPACITY];
+		previousY = new int[INITIAL_CAPACITY];
+		width = new int[INITIAL_CAPACITY];
+		height = new int[INITIAL_CAPACITY];
+		shade = new int[INITIAL_CAPACITY];
+	}
+	
+	/**
+	 * Returns how many blocks are in the snapshot.
+	 * 
+	 * @return The number of blocks.
+	 */
+	public int size() {
+		return count;
+	}
+	
+	/**
+	 * Returns the x coordinate of a block.
+	 * 
+	 * @param index
+	 *            Which block, less than {@link #size()}.
+	 * @return The x coordinate of the block.
+	 */
+	public int getX(int index) {
+		return x[index];
+	}
+	
+	/**
+	 * Returns the width of a block.
+	 * 
+	 * @param index
+	 *            Which block, less than {@link #size()}.
+	 * @return The width of the block.
+	 */
+	public int getWidth(int index) {
+		return width[index];
+	}
+	
+	/**
+	 * Returns the height of a block.
+	 * 
+	 * @param index
+	 *            Which block, less than {@link #size()}.
+	 * @return The height of the block.
+	 */
+	public int getHeight(int index) {
+		return height[index];
+	}
+	
+	/**
+	 * Returns the palette entry a block is painted with.
+	 * 
+	 * @param index
+	 *            Which block, less than {@link #size()}.
+	 * @return The palette entry of the block.
+	 */
+	public int getShade(int index) {
+		return shade[index];
+	}
+	
+	/**
+	 * Returns where the top of a block is drawn on the screen, part of the way between where it
+	 * was before the last step and where it is now.
+	 * 
+	 * @param index
+	 *            Which block, less than {@link #size()}.
+	 * @param screenTop
+	 *            The altitude of the top of the screen.
+	 * @param alpha
+	 *            How far between the positions the block is drawn, from 0 for where it was before
+	 *            the last step to 1 for where it is now.
+	 * @return The y coordinate on the screen of the top of the block.
+	 */
+	public int getTop(int index, int screenTop, double alpha) {
+		final int blockY =
+				previousY[index] + (int)Math.round((y[index] - previousY[index]) * alpha);
+		return screenTop - (blockY + height[index]);
+	}
+	
+	/**
+	 * Removes every block from the snapshot.
+	 */
+	void clear() {
+		count = 0;
+	}
+	
+	/**
+	 * Adds a block to the snapshot.
+	 * 
+	 * @param blockX
+	 *            The x coordinate of the block.
+	 * @param blockY
+	 *            The y coordinate of the block.
+	 * @param blockPreviousY
+	 *            The y coordinate of the block before the last step.
+	 * @param blockWidth
+	 *            The width of the block.
+	 * @param blockHeight
+	 *            The height of the block.
+	 * @param blockShade
+	 *            The palette entry the block is painted with.
+	 */
+	void add(int blockX, int blockY, int blockPreviousY, int blockWidth, int blockHeight,
+			int blockShade) {
+		if(count == x.length) {
+			x = grow(x);
+			y = grow(y);
+			previousY = grow(previousY);
+			width = grow(width);
+			height = grow(height);
+			shade = grow(shade);
+		}
+		
+		x[count] = blockX;
+		y[count] = blockY;
+		previousY[count] = blockPreviousY;
+		width[count] = blockWidth;
+		height[count] = blockHeight;
+		shade[count] = blockShade;
+		count++;
+	}
+	
+	/**
+	 * Draws the blocks on an image, the same way as {@link Rubble#paint(Graphics, int, int)}.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param screenTop
+	 *            The altitude of the top of the screen.
+	 */
+	public void paint(Graphics g, int screenTop) {
+		paint(g, screenTop, 1);
+	}
+	
+	/**
+	 * Draws the blocks on an image part of the way between where they were before the last step
+	 * and where they are now.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param screenTop
+	 *            The altitude of the top of the screen.
+	 * @param alpha
+	 *            How far between the positions to draw the blocks, from 0 for where they were
+	 *            before the last step to 1 for where they are now.
+	 */
+	public void paint(Graphics g, int screenTop, double alpha) {
+		final BlockTiles tiles = BlockTiles.forThread();
+		for(int i = 0; i < count; i++) {
+			Rubble.paintBlock(g, tiles, shade[i], x[i], getTop(i, screenTop, alpha), width[i],
+					height[i]);
+		}
+	}
+	
+	/**
+	 * Copies an array into a new array twice as long.
+	 * 
+	 * @param array
+	 *            The array.
+	 * @return The new array.
+	 */
+	private static int[] grow(int[] array) {
+		final int[] grown = new int[array.length * 2];
+		System.arraycopy(array, 0, grown, 0, array.length);
+		return grown;
+	}
+	
+}
@@ -0,0 +1,170 @@
+package game.objects;
+
+/**
+ * A growable list of block slots in the rubble, kept as a plain int array so that the collision
+ * loops don't box or allocate.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+final class SlotList {
+	
+	/** How many slots a new list has room for. */
+	private static final int INITIAL_CAPACITY = 16;
+	
+	/** The slots, with only the first entries used. */
+	private int[] slots;
+	
+	/** How many slots are in the list. */
+	private int size;
+	
+	/**
+	 * Constructs an empty list.
+	 */
+	SlotList() {
+		slots = new int[INITIAL_CAPACITY];
+		size = 0;
+	}
+	
+	/**
+	 * Returns how many slots are in the list.
+	 * 
+	 * @return The number of slots.
+	 */
+	int size() {
+		return size;
+	}
+	
+	/**
+	 * Returns a slot in the list.
+	 * 
+	 * @param index
+	 *            Where the slot is in the list.
+	 * @return The slot.
+	 */
+	int get(int index) {
+		return slots[index];
+	}
+	
+	/**
+	 * Replaces a slot in the list.
+	 * 
+	 * @param index
+	 *            Where the slot is in the list.
+	 * @param slot
+	 *            The new slot.
+	 */
+	void set(int index, int slot) {
+		slots[index] = slot;
+	}
+	
+	/**
+	 * Adds a slot to the end of the list.
+	 * 
+	 * @param slot
+	 *            The slot.
+	 */
+	void add(int slot) {
+		insert(size, slot);
+	}
+	
+	/**
+	 * Adds a slot into the list, moving the slots after it down.
+	 * 
+	 * @param index
+	 *            Where the slot goes in the list.
+	 * @param slot
+	 *            The slot.
+	 */
+	void insert(int index, int slot) {
+		if(size == slots.length) {
+			final int[] grown = new int[size * 2];
+			System.arraycopy(slots, 0, grown, 0, size);
+			slots = grown;
+		}
+		System.arraycopy(slots, index, slots, index + 1, size - index);
+		slots[index] = slot;
+		size++;
+	}
+	
+	/**
+	 * Takes a slot out of the list, moving the slots after it up.
+	 * 
+	 * @param index
+	 *            Where the slot is in the list.
+	 */
+	void remove(int index) {
+		size--;
+		System.arraycopy(slots, index + 1, slots, index, size - index);
+	}
+	
+	/**
+	 * Returns where a slot is in the list.
+	 * 
+	 * @param slot
+	 *            The slot.
+	 * @return The index of the slot, or -1 if it isn't in the list.
+	 */
+	int indexOf(int slot) {
+		for(int i = 0; i < size; i++) {
+			if(slots[i] == slot) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Returns where the first slot after a slot is in a list sorted from the lowest slot up.
+	 * 
+	 * @param slot
+	 *            The slot.
+	 * @return The index of the first slot greater than the slot, or the size of the list if there
+	 *         isn't one.
+	 */
+	int indexAfter(int slot) {
+		int low = 0;
+		int high = size;
+		while(low < high) {
+			final int middle = (low + high) >>> 1;
+			if(slots[middle] <= slot) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+	
+	/**
+	 * Replaces the contents of the list with the slots of another list.
+	 * 
+	 * @param other
+	 *            The other list.
+	 */
+	void copy(SlotList other) {
+		if(slots.length < other.size) {
+			slots = new int[other.slots.length];
+		}
+		System.arraycopy(other.slots, 0, slots, 0, other.size);
+		size = other.size;
+	}
+	
+	/**
+	 * Drops the slots at the end of the list.
+	 * 
+	 * @param newSize
+	 *            How many slots are kept.
+	 */
+	void truncate(int newSize) {
+		size = newSize;
+	}
+	
+	/**
+	 * Removes every slot from the list.
+	 */
+	void clear() {
+		size = 0;
+	}
+	
+}
@@ -0,0 +1,88 @@
+package game.replay;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * The layout of a replay file. A replay starts with a header of the magic number, the version and
+ * the seed of the game. Then come records, each starting with an unsigned variable length number
+ * whose lowest bit tells what kind of record it is. A run of ticks with the same keys held packs
+ * the keys into the next {@link game.InputReceiver#KEY_BITS} bits and the number of ticks into the
+ * rest. A keyframe is the number {@link #KEYFRAME} alone, followed by the tick it was saved before,
+ * the length of the state and the state of the game. Records are only ever appended, so a replay
+ * cut short still plays up to the last whole record.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+final class ReplayFormat {
+	
+	/** The first bytes of every replay file, "RERP". */
+	static final int MAGIC = 0x52455250;
+	
+	/** The version of the layout. */
+	static final int VERSION = 2;
+	
+	/** The length of the header. */
+	static final int HEADER_LENGTH = 16;
+	
+	/** The record that starts a keyframe. */
+	static final long KEYFRAME = 1;
+	
+	/** How many low bits of a number hold each byte of it. */
+	private static final int BITS_PER_BYTE = 7;
+	
+	/** The bits of a byte that hold the number. */
+	private static final int VALUE_MASK = (1 << BITS_PER_BYTE) - 1;
+	
+	/** The bit of a byte set when more bytes of the number follow. */
+	private static final int MORE = 1 << BITS_PER_BYTE;
+	
+	/**
+	 * Format is a utility class and cannot be instantiated.
+	 */
+	private ReplayFormat() {}
+	
+	/**
+	 * Writes an unsigned number in as few bytes as it needs, seven bits to a byte.
+	 * 
+	 * @param out
+	 *            Where to write the number.
+	 * @param value
+	 *            The number, treated as unsigned.
+	 * @throws IOException
+	 *             If the number can't be written.
+	 */
+	static void writeNumber(OutputStream out, long value) throws IOException {
+		long rest = value;
+		while((rest & ~VALUE_MASK) != 0) {
+			out.write((int)(rest & VALUE_MASK) | MORE);
+			rest >>>= BITS_PER_BYTE;
+		}
+		out.write((int)rest);
+	}
+	
+	/**
+	 * Reads an unsigned number written by {@link #writeNumber(OutputStream, long)}.
+	 * 
+	 * @param in
+	 *            Where to read the number.
+	 * @return The number.
+	 * @throws BufferUnderflowException
+	 *             If the number is cut short, or too long to be a number.
+	 */
+	static long readNumber(ByteBuffer in) {
+		long value = 0;
+		for(int shift = 0; shift < Long.SIZE; shift += BITS_PER_BYTE) {
+			final int next = in.get();
+			value |= (long)(next & VALUE_MASK) << shift;
+			if((next & MORE) == 0) {
+				return value;
+			}
+		}
+		throw new BufferUnderflowException();
+	}
+	
+}
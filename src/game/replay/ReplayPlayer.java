@@ -0,0 +1,301 @@
+package game.replay;
+
+import game.Game;
+import game.InputReceiver;
+import game.SilentAudio;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Plays back a replay file recorded by {@link ReplayRecorder}. The file is mapped into memory
+ * rather than read, and a headless game steps through it as fast as it can. Seeking restores the
+ * nearest keyframe at or before the tick and steps on from there.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class ReplayPlayer {
+	
+	/** The mask for the keys packed into a run of ticks. */
+	private static final int KEY_MASK = (1 << InputReceiver.KEY_BITS) - 1;
+	
+	/** The replay file, up to the end of the last whole record. */
+	private final ByteBuffer replay;
+	
+	/** The seed of the recorded game. */
+	private final long seed;
+	
+	/** The game being played back. */
+	private final Game game;
+	
+	/** How many keyframes there are. */
+	private int keyframeCount;
+	
+	/** The tick each keyframe was saved before, in order. */
+	private int[] keyframeTicks;
+	
+	/** Where the state of each keyframe starts in the file, and how long it is. */
+	private int[] keyframeStarts, keyframeLengths;
+	
+	/** How many ticks were recorded. */
+	private int length;
+	
+	/** How many ticks have been played. */
+	private int tick;
+	
+	/** Where the next record starts in the file. */
+	private int position;
+	
+	/** The keys held for the current run of ticks. */
+	private int runKeys;
+	
+	/** How many ticks are left in the current run. */
+	private long runLeft;
+	
+	/** Holds the state of a keyframe while it is restored. */
+	private byte[] state;
+	
+	/**
+	 * Opens a replay file and finds its keyframes, ready to play from the start.
+	 * 
+	 * @param file
+	 *            The replay file.
+	 * @throws IOException
+	 *             If the file can't be read or isn't a replay.
+	 */
+	public ReplayPlayer(File file) throws IOException {
+		final RandomAccessFile opened = new RandomAccessFile(file, "r");
+		final MappedByteBuffer mapped;
+		try {
+			mapped = opened.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, opened.length());
+		} finally {
+			opened.close();
+		}
+		
+		if(mapped.limit() < ReplayFormat.HEADER_LENGTH || mapped.getInt() != ReplayFormat.MAGIC) {
+			throw new IOException("Not a replay file: " + file);
+		}
+		final int version = mapped.getInt();
+		if(version != ReplayFormat.VERSION) {
+			throw new IOException("Unknown replay version " + version + ": " + file);
+		}
+		seed = mapped.getLong();
+		
+		keyframeTicks = new int[16];
+		keyframeStarts = new int[16];
+		keyframeLengths = new int[16];
+		state = new byte[0];
+		mapped.limit(index(mapped));
+		replay = mapped;
+		
+		game = new Game(new SilentAudio(), seed);
+		restart();
+		if(keyframeCount > 0) {
+			restore(0);
+		}
+	}
+	
+	/**
+	 * Returns the seed of the recorded game.
+	 * 
+	 * @return The seed.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+	
+	/**
+	 * Returns the game being played back. It has been stepped up to the current tick.
+	 * 
+	 * @return The game.
+	 */
+	public Game getGame() {
+		return game;
+	}
+	
+	/**
+	 * Returns how many ticks were recorded.
+	 * 
+	 * @return The number of ticks.
+	 */
+	public int getLength() {
+		return length;
+	}
+	
+	/**
+	 * Returns how many ticks have been played.
+	 * 
+	 * @return The current tick.
+	 */
+	public int getTick() {
+		return tick;
+	}
+	
+	/**
+	 * Plays the next tick, stepping the game with the keys that were held.
+	 * 
+	 * @return False if the replay had already ended, so nothing was played.
+	 */
+	public boolean step() {
+		if(tick >= length) {
+			return false;
+		}
+		
+		// Keyframes between the runs are skipped, since the game is already in that state.
+		while(runLeft == 0) {
+			replay.position(position);
+			final long record = ReplayFormat.readNumber(replay);
+			if(record == ReplayFormat.KEYFRAME) {
+				ReplayFormat.readNumber(replay);
+				final long stateLength = ReplayFormat.readNumber(replay);
+				replay.position(replay.position() + (int)stateLength);
+			} else {
+				runKeys = (int)(record >>> 1) & KEY_MASK;
+				runLeft = record >>> (1 + InputReceiver.KEY_BITS);
+			}
+			position = replay.position();
+		}
+		
+		game.step(runKeys);
+		runLeft--;
+		tick++;
+		return true;
+	}
+	
+	/**
+	 * Moves the replay to a tick. The game is restored from the nearest keyframe unless the tick
+	 * is a little ahead, then stepped on to the tick.
+	 * 
+	 * @param target
+	 *            The tick, which is kept between the start and the end of the replay.
+	 * @throws IOException
+	 *             If a keyframe can't be restored.
+	 */
+	public void seek(int target) throws IOException {
+		final int clamped = Math.max(0, Math.min(target, length));
+		
+		final int keyframe = findKeyframe(clamped);
+		if(keyframe < 0) {
+			if(clamped < tick) {
+				restart();
+			}
+		} else if(clamped < tick || keyframeTicks[keyframe] > tick) {
+			restore(keyframe);
+		}
+		
+		while(tick < clamped) {
+			step();
+		}
+	}
+	
+	/**
+	 * Starts playing again from the start, without a keyframe.
+	 */
+	private void restart() {
+		game.reset(seed);
+		tick = 0;
+		position = ReplayFormat.HEADER_LENGTH;
+		runLeft = 0;
+	}
+	
+	/**
+	 * Restores the game from a keyframe.
+	 * 
+	 * @param keyframe
+	 *            The index of the keyframe.
+	 * @throws IOException
+	 *             If the keyframe can't be restored.
+	 */
+	private void restore(int keyframe) throws IOException {
+		final int stateLength = keyframeLengths[keyframe];
+		if(state.length < stateLength) {
+			state = new byte[stateLength];
+		}
+		replay.position(keyframeStarts[keyframe]);
+		replay.get(state, 0, stateLength);
+		game.restore(new DataInputStream(new ByteArrayInputStream(state, 0, stateLength)));
+		
+		tick = keyframeTicks[keyframe];
+		position = keyframeStarts[keyframe] + stateLength;
+		runLeft = 0;
+	}
+	
+	/**
+	 * Finds the last keyframe saved at or before a tick.
+	 * 
+	 * @param target
+	 *            The tick.
+	 * @return The index of the keyframe, or -1 if there isn't one.
+	 */
+	private int findKeyframe(int target) {
+		final int found = Arrays.binarySearch(keyframeTicks, 0, keyframeCount, target);
+		return found >= 0 ? found : -found - 2;
+	}
+	
+	/**
+	 * Reads through every record after the header, noting where the keyframes are and how many
+	 * ticks were recorded.
+	 * 
+	 * @param mapped
+	 *            The replay file.
+	 * @return Where the last whole record ends.
+	 */
+	private int index(ByteBuffer mapped) {
+		int end = mapped.position();
+		try {
+			while(mapped.hasRemaining()) {
+				final long record = ReplayFormat.readNumber(mapped);
+				if(record == ReplayFormat.KEYFRAME) {
+					final long keyframeTick = ReplayFormat.readNumber(mapped);
+					final long stateLength = ReplayFormat.readNumber(mapped);
+					if(stateLength > mapped.remaining() || keyframeTick != length) {
+						break;
+					}
+					addKeyframe(length, mapped.position(), (int)stateLength);
+					mapped.position(mapped.position() + (int)stateLength);
+				} else {
+					final long ticks = record >>> (1 + InputReceiver.KEY_BITS);
+					if(ticks == 0 || length + ticks > Integer.MAX_VALUE) {
+						break;
+					}
+					length += ticks;
+				}
+				end = mapped.position();
+			}
+		} catch(BufferUnderflowException ex) {
+			// The recording stopped partway through a record, which is left out.
+		}
+		return end;
+	}
+	
+	/**
+	 * Notes where a keyframe is.
+	 * 
+	 * @param keyframeTick
+	 *            The tick the keyframe was saved before.
+	 * @param start
+	 *            Where the state of the keyframe starts in the file.
+	 * @param stateLength
+	 *            How long the state is.
+	 */
+	private void addKeyframe(int keyframeTick, int start, int stateLength) {
+		if(keyframeCount == keyframeTicks.length) {
+			keyframeTicks = Arrays.copyOf(keyframeTicks, keyframeCount * 2);
+			keyframeStarts = Arrays.copyOf(keyframeStarts, keyframeCount * 2);
+			keyframeLengths = Arrays.copyOf(keyframeLengths, keyframeCount * 2);
+		}
+		keyframeTicks[keyframeCount] = keyframeTick;
+		keyframeStarts[keyframeCount] = start;
+		keyframeLengths[keyframeCount] = stateLength;
+		keyframeCount++;
+	}
+	
+}
@@ -0,0 +1,171 @@
+package game.replay;
+
+import game.Game;
+import game.InputReceiver;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Records a game to a replay file, as laid out by {@link ReplayFormat}. The keys held for each
+ * tick are recorded in runs, so a tick usually costs nothing until the keys change, and the state
+ * of the game is saved every so many ticks so a replay can be played from partway through.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class ReplayRecorder implements Closeable {
+	
+	/** How many ticks apart keyframes are saved unless told otherwise. */
+	public static final int DEFAULT_KEYFRAME_INTERVAL = 500;
+	
+	/** The file being written. */
+	private final OutputStream out;
+	
+	/** How many ticks apart keyframes are saved. */
+	private final int keyframeInterval;
+	
+	/** Holds the state of the game while a keyframe is saved. */
+	private final ByteArrayOutputStream state;
+	
+	/** How many ticks have been recorded. */
+	private int tick;
+	
+	/** The keys held for the run of ticks not yet written. */
+	private int runKeys;
+	
+	/** How many ticks are in the run not yet written. */
+	private int runLength;
+	
+	/**
+	 * Starts recording a game to a file, saving keyframes at the default interval.
+	 * 
+	 * @param file
+	 *            The file, which is replaced if it exists.
+	 * @param seed
+	 *            The seed of the game.
+	 * @throws IOException
+	 *             If the file can't be written.
+	 */
+	public ReplayRecorder(File file, long seed) throws IOException {
+		this(file, seed, DEFAULT_KEYFRAME_INTERVAL);
+	}
+	
+	/**
+	 * Starts recording a game to a file.
+	 * 
+	 * @param file
+	 *            The file, which is replaced if it exists.
+	 * @param seed
+	 *            The seed of the game.
+	 * @param keyframeInterval
+	 *            How many ticks apart keyframes are saved.
+	 * @throws IOException
+	 *             If the file can't be written.
+	 */
+	public ReplayRecorder(File file, long seed, int keyframeInterval) throws IOException {
+		if(keyframeInterval <= 0) {
+			throw new IllegalArgumentException("Keyframe interval must be positive: "
+					+ keyframeInterval);
+		}
+		this.keyframeInterval = keyframeInterval;
+		state = new ByteArrayOutputStream();
+		out = new BufferedOutputStream(new FileOutputStream(file));
+		
+		final DataOutputStream header = new DataOutputStream(out);
+		header.writeInt(ReplayFormat.MAGIC);
+		header.writeInt(ReplayFormat.VERSION);
+		header.writeLong(seed);
+	}
+	
+	/**
+	 * Records the keys for the next tick of a game. Called before each step of the game, with the
+	 * keys given to the step.
+	 * 
+	 * @param game
+	 *            The game, which is saved if a keyframe is due.
+	 * @param keys
+	 *            The packed state of the keys for the step.
+	 * @throws IOException
+	 *             If the file can't be written.
+	 */
+	public void record(Game game, int keys) throws IOException {
+		if(tick % keyframeInterval == 0) {
+			writeRun();
+			writeKeyframe(game);
+		}
+		
+		if(runLength > 0 && keys != runKeys) {
+			writeRun();
+		}
+		runKeys = keys;
+		runLength++;
+		tick++;
+	}
+	
+	/**
+	 * Returns how many ticks have been recorded.
+	 * 
+	 * @return The number of ticks.
+	 */
+	public int getTick() {
+		return tick;
+	}
+	
+	/*
+	 * Writes the last run of ticks and closes the file.
+	 * 
+	 * {@inheritDoc}
+	 * 
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			writeRun();
+		} finally {
+			out.close();
+		}
+	}
+	
+	/**
+	 * Writes the run of ticks not yet written, if there is one.
+	 * 
+	 * @throws IOException
+	 *             If the file can't be written.
+	 */
+	private void writeRun() throws IOException {
+		if(runLength > 0) {
+			ReplayFormat.writeNumber(out, ((long)runLength << InputReceiver.KEY_BITS | runKeys) << 1);
+			runLength = 0;
+		}
+	}
+	
+	/**
+	 * Saves the state of a game as a keyframe, and flushes the file so that the replay can be
+	 * played up to here even if the recording stops unexpectedly.
+	 * 
+	 * @param game
+	 *            The game.
+	 * @throws IOException
+	 *             If the file can't be written.
+	 */
+	private void writeKeyframe(Game game) throws IOException {
+		state.reset();
+		final DataOutputStream stateOut = new DataOutputStream(state);
+		game.save(stateOut);
+		stateOut.flush();
+		
+		ReplayFormat.writeNumber(out, ReplayFormat.KEYFRAME);
+		ReplayFormat.writeNumber(out, tick);
+		ReplayFormat.writeNumber(out, state.size());
+		state.writeTo(out);
+		out.flush();
+	}
+	
+}
@@ -0,0 +1,2 @@
+/** Records games to replay files and plays them back. */
+package game.replay;
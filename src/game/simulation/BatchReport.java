@@ -0,0 +1,245 @@
+package game.simulation;
+
+import game.GameParameters;
+
+/**
+ * Sums up how a batch of simulated games played out. Each result is added as soon as its game
+ * ends, rather than kept, so a report stays the same size however many games are simulated.
+ * Reports of parts of a batch are merged into the report of the whole batch. Every game in a
+ * report is played by the same parameters, so reports of batches played by different parameters
+ * can be compared. A report is only ever used by one thread at a time.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class BatchReport {
+	
+	/** The tunable rules every game was played by. */
+	private final GameParameters parameters;
+	
+	/** How many games were simulated. */
+	private int runs;
+	
+	/** How many games ended with the player still alive. */
+	private int survivors;
+	
+	/** The total steps the players stayed alive. */
+	private long totalTicks;
+	
+	/** The fewest and most steps the players stayed alive. */
+	private int fewestTicks, mostTicks;
+	
+	/** The total of the highest altitudes reached. */
+	private long totalAltitude;
+	
+	/** The lowest and highest of the highest altitudes reached. */
+	private int lowestAltitude, highestAltitude;
+	
+	/** The total of the most blocks in each game. */
+	private long totalBlocks;
+	
+	/** The most blocks in any game. */
+	private int mostBlocks;
+	
+	/** How long all the steps of all the games took to simulate, in nanoseconds. */
+	private long stepNanos;
+	
+	/**
+	 * Constructs an empty report.
+	 * 
+	 * @param parameters
+	 *            The tunable rules every game in the report is played by.
+	 */
+	public BatchReport(GameParameters parameters) {
+		this.parameters = parameters;
+		fewestTicks = Integer.MAX_VALUE;
+		mostTicks = Integer.MIN_VALUE;
+		lowestAltitude = Integer.MAX_VALUE;
+		highestAltitude = Integer.MIN_VALUE;
+	}
+	
+	/**
+	 * Adds the result of a game to the report.
+	 * 
+	 * @param result
+	 *            The result, of a game played by the parameters of the report.
+	 */
+	public void add(RunResult result) {
+		checkParameters(result.getParameters());
+		runs++;
+		if(result.isAlive()) {
+			survivors++;
+		}
+		totalTicks += result.getTicks();
+		fewestTicks = Math.min(fewestTicks, result.getTicks());
+		mostTicks = Math.max(mostTicks, result.getTicks());
+		totalAltitude += result.getHighestAltitude();
+		lowestAltitude = Math.min(lowestAltitude, result.getHighestAltitude());
+		highestAltitude = Math.max(highestAltitude, result.getHighestAltitude());
+		totalBlocks += result.getMostBlocks();
+		mostBlocks = Math.max(mostBlocks, result.getMostBlocks());
+		stepNanos += result.getStepNanos();
+	}
+	
+	/**
+	 * Adds every result of another report to this one.
+	 * 
+	 * @param other
+	 *            The other report, of games played by the same parameters, which isn't changed.
+	 */
+	public void merge(BatchReport other) {
+		checkParameters(other.parameters);
+		runs += other.runs;
+		survivors += other.survivors;
+		totalTicks += other.totalTicks;
+		fewestTicks = Math.min(fewestTicks, other.fewestTicks);
+		mostTicks = Math.max(mostTicks, other.mostTicks);
+		totalAltitude += other.totalAltitude;
+		lowestAltitude = Math.min(lowestAltitude, other.lowestAltitude);
+		highestAltitude = Math.max(highestAltitude, other.highestAltitude);
+		totalBlocks += other.totalBlocks;
+		mostBlocks = Math.max(mostBlocks, other.mostBlocks);
+		stepNanos += other.stepNanos;
+	}
+	
+	/**
+	 * Returns the tunable rules every game was played by.
+	 * 
+	 * @return The parameters.
+	 */
+	public GameParameters getParameters() {
+		return parameters;
+	}
+	
+	/**
+	 * Returns how many games were simulated.
+	 * 
+	 * @return The number of games.
+	 */
+	public int getRuns() {
+		return runs;
+	}
+	
+	/**
+	 * Returns how many games ended with the player still alive.
+	 * 
+	 * @return The number of games.
+	 */
+	public int getSurvivors() {
+		return survivors;
+	}
+	
+	/**
+	 * Returns the total steps the players stayed alive, over every game.
+	 * 
+	 * @return The total steps.
+	 */
+	public long getTotalTicks() {
+		return totalTicks;
+	}
+	
+	/**
+	 * Returns the fewest steps a player stayed alive.
+	 * 
+	 * @return The fewest steps, or {@link Integer#MAX_VALUE} if no games were simulated.
+	 */
+	public int getFewestTicks() {
+		return fewestTicks;
+	}
+	
+	/**
+	 * Returns the most steps a player stayed alive.
+	 * 
+	 * @return The most steps, or {@link Integer#MIN_VALUE} if no games were simulated.
+	 */
+	public int getMostTicks() {
+		return mostTicks;
+	}
+	
+	/**
+	 * Returns the average of the highest altitudes reached.
+	 * 
+	 * @return The average altitude, or 0 if no games were simulated.
+	 */
+	public double getAverageAltitude() {
+		return runs == 0 ? 0 : (double)totalAltitude / runs;
+	}
+	
+	/**
+	 * Returns the lowest of the highest altitudes reached.
+	 * 
+	 * @return The lowest altitude, or {@link Integer#MAX_VALUE} if no games were simulated.
+	 */
+	public int getLowestAltitude() {
+		return lowestAltitude;
+	}
+	
+	/**
+	 * Returns the highest altitude reached in any game.
+	 * 
+	 * @return The highest altitude, or {@link Integer#MIN_VALUE} if no games were simulated.
+	 */
+	public int getHighestAltitude() {
+		return highestAltitude;
+	}
+	
+	/**
+	 * Returns the average of the most blocks in each game.
+	 * 
+	 * @return The average number of blocks, or 0 if no games were simulated.
+	 */
+	public double getAverageBlocks() {
+		return runs == 0 ? 0 : (double)totalBlocks / runs;
+	}
+	
+	/**
+	 * Returns the most blocks in any game.
+	 * 
+	 * @return The most blocks.
+	 */
+	public int getMostBlocks() {
+		return mostBlocks;
+	}
+	
+	/**
+	 * Returns the average time a step took to simulate.
+	 * 
+	 * @return The time in nanoseconds, or 0 if no steps were simulated.
+	 */
+	public double getAverageStepNanos() {
+		return totalTicks == 0 ? 0 : (double)stepNanos / totalTicks;
+	}
+	
+	/*
+	 * {@inheritDoc}
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		if(runs == 0) {
+			return "No games simulated with " + parameters + ".";
+		}
+		return String.format("Parameters: %s%n" + "Games: %d (%d survived)%n"
+				+ "Ticks alive: %.1f average, %d fewest, %d most%n"
+				+ "Highest altitude: %.1f average, %d lowest, %d highest%n"
+				+ "Most blocks: %.1f average, %d most%n" + "Step time: %.0f ns average",
+				parameters, runs, survivors, (double)totalTicks / runs, fewestTicks, mostTicks,
+				getAverageAltitude(), lowestAltitude, highestAltitude, getAverageBlocks(),
+				mostBlocks, getAverageStepNanos());
+	}
+	
+	/**
+	 * Checks that games played by some parameters belong in the report.
+	 * 
+	 * @param other
+	 *            The parameters the games were played by.
+	 */
+	private void checkParameters(GameParameters other) {
+		if(!parameters.equals(other)) {
+			throw new IllegalArgumentException("Games played with " + other
+					+ " don't belong in a report of games played with " + parameters);
+		}
+	}
+	
+}
@@ -0,0 +1,271 @@
+package game.simulation;
+
+import game.Game;
+import game.GameParameters;
+import game.SilentAudio;
+import game.generators.SeededRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Simulates batches of seeded headless games, as fast as they can step, spread over every core.
+ * Each game is simulated on one thread from start to end, with its own state and its own random
+ * numbers, so games share nothing that changes and the same seed always plays out the same. The
+ * batch is split in halves until the parts are small, and the reports of the parts are merged on
+ * the way back up. Every game in a batch is played by the same parameters, and batches can be
+ * simulated for each of several parameters to see how the rules change the games.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class BatchSimulator {
+	
+	/** The most games in a part of a batch that isn't split any further. */
+	private static final int GAMES_PER_TASK = 4;
+	
+	/** How many steps a game is simulated for unless told otherwise. */
+	private static final int DEFAULT_MAX_TICKS = 100000;
+	
+	/** How many games are simulated unless told otherwise. */
+	private static final int DEFAULT_RUNS = 1000;
+	
+	/** How many steps random input holds its keys for, on average. */
+	private static final int RANDOM_HOLD_TICKS = 20;
+	
+	/**
+	 * A part of a batch of games, split in halves until it is small enough to simulate.
+	 * 
+	 * @author Jesse Brent
+	 * @version 1.0, 10/17/26
+	 */
+	private final class Batch extends RecursiveTask<BatchReport> {
+		
+		/** Serialization field. */
+		private static final long serialVersionUID = 1L;
+		
+		/** The seed of the first game in the part. */
+		private final long firstSeed;
+		
+		/** How many games are in the part. */
+		private final int runs;
+		
+		/**
+		 * Constructs a part of a batch, simulating games with consecutive seeds.
+		 * 
+		 * @param firstSeed
+		 *            The seed of the first game in the part.
+		 * @param runs
+		 *            How many games are in the part.
+		 */
+		private Batch(long firstSeed, int runs) {
+			this.firstSeed = firstSeed;
+			this.runs = runs;
+		}
+		
+		/*
+		 * {@inheritDoc}
+		 * 
+		 * @see java.util.concurrent.RecursiveTask#compute()
+		 */
+		@Override
+		protected BatchReport compute() {
+			if(runs <= GAMES_PER_TASK) {
+				final BatchReport report = new BatchReport(parameters);
+				for(int i = 0; i < runs; i++) {
+					report.add(simulate(firstSeed + i));
+				}
+				return report;
+			}
+			
+			final int half = runs / 2;
+			final Batch first = new Batch(firstSeed, half);
+			final Batch second = new Batch(firstSeed + half, runs - half);
+			first.fork();
+			final BatchReport report = second.compute();
+			report.merge(first.join());
+			return report;
+		}
+		
+	}
+	
+	/** Chooses the keys for each step of each game. */
+	private final InputScript script;
+	
+	/** The most steps a game is simulated for, if the player stays alive. */
+	private final int maxTicks;
+	
+	/** The tunable rules every game is played by. */
+	private final GameParameters parameters;
+	
+	/**
+	 * Constructs a simulator for games played by a script with the default parameters.
+	 * 
+	 * @param script
+	 *            Chooses the keys for each step of each game.
+	 * @param maxTicks
+	 *            The most steps a game is simulated for, if the player stays alive.
+	 */
+	public BatchSimulator(InputScript script, int maxTicks) {
+		this(script, maxTicks, GameParameters.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a simulator for games played by a script.
+	 * 
+	 * @param script
+	 *            Chooses the keys for each step of each game.
+	 * @param maxTicks
+	 *            The most steps a game is simulated for, if the player stays alive.
+	 * @param parameters
+	 *            The tunable rules every game is played by.
+	 */
+	public BatchSimulator(InputScript script, int maxTicks, GameParameters parameters) {
+		if(maxTicks <= 0) {
+			throw new IllegalArgumentException("Max ticks must be positive: " + maxTicks);
+		}
+		this.script = script;
+		this.maxTicks = maxTicks;
+		this.parameters = parameters;
+	}
+	
+	/**
+	 * Simulates one game until the player dies or the most steps have been taken.
+	 * 
+	 * @param seed
+	 *            The seed of the game.
+	 * @return How the game played out.
+	 */
+	public RunResult simulate(long seed) {
+		final Game game = new Game(new SilentAudio(), seed, parameters);
+		
+		// The script gets its own stream, so its choices don't line up with the blocks.
+		final SeededRandom random = new SeededRandom(~seed);
+		
+		int tick = 0;
+		int keys = 0;
+		int mostBlocks = 0;
+		long stepNanos = 0;
+		while(game.isAlive() && tick < maxTicks) {
+			keys = script.getKeys(game, tick, keys, random);
+			final long start = System.nanoTime();
+			game.step(keys);
+			stepNanos += System.nanoTime() - start;
+			mostBlocks = Math.max(mostBlocks, game.getBlockCount());
+			tick++;
+		}
+		
+		return new RunResult(seed, parameters, tick, game.isAlive(), game.getHighestAltitude(),
+				mostBlocks, stepNanos);
+	}
+	
+	/**
+	 * Simulates a batch of games with consecutive seeds on every core.
+	 * 
+	 * @param firstSeed
+	 *            The seed of the first game.
+	 * @param runs
+	 *            How many games to simulate.
+	 * @return The report of the batch.
+	 */
+	public BatchReport run(long firstSeed, int runs) {
+		return run(firstSeed, runs, Runtime.getRuntime().availableProcessors());
+	}
+	
+	/**
+	 * Simulates a batch of games with consecutive seeds on some threads.
+	 * 
+	 * @param firstSeed
+	 *            The seed of the first game.
+	 * @param runs
+	 *            How many games to simulate.
+	 * @param threads
+	 *            How many threads to simulate the games on.
+	 * @return The report of the batch.
+	 */
+	public BatchReport run(long firstSeed, int runs, int threads) {
+		if(runs < 0) {
+			throw new IllegalArgumentException("Runs can't be negative: " + runs);
+		}
+		final ForkJoinPool pool = new ForkJoinPool(threads);
+		try {
+			return pool.invoke(new Batch(firstSeed, runs));
+		} finally {
+			pool.shutdown();
+		}
+	}
+	
+	/**
+	 * Simulates a batch of games played with random input for each combination of parameters,
+	 * all with the same seeds, and prints the reports.
+	 * 
+	 * @param args
+	 *            Optionally, how many games to simulate, the most steps for each game, the seed
+	 *            of the first game, and comma-separated lists of the block chances, water rises
+	 *            and jump powers to sweep. Parameters not given keep their default.
+	 */
+	public static void main(String[] args) {
+		final int runs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RUNS;
+		final int maxTicks = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_TICKS;
+		final long firstSeed = args.length > 2 ? Long.parseLong(args[2]) : SeededRandom.newSeed();
+		final String[] blockChances =
+				getList(args, 3, String.valueOf(GameParameters.DEFAULT.getBlockChance()));
+		final String[] waterRises =
+				getList(args, 4, String.valueOf(GameParameters.DEFAULT.getWaterRise()));
+		final String[] jumpPowers =
+				getList(args, 5, String.valueOf(GameParameters.DEFAULT.getJumpPower()));
+		
+		System.out.println("First seed: " + firstSeed);
+		for(final String blockChance : blockChances) {
+			final int chance = Integer.parseInt(blockChance.trim());
+			for(final String waterRise : waterRises) {
+				final double rise = Double.parseDouble(waterRise.trim());
+				for(final String jumpPower : jumpPowers) {
+					final int power = Integer.parseInt(jumpPower.trim());
+					printBatch(new GameParameters(chance, rise, power), maxTicks, firstSeed, runs);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Simulates a batch of games played with random input, and prints the report.
+	 * 
+	 * @param parameters
+	 *            The tunable rules every game is played by.
+	 * @param maxTicks
+	 *            The most steps a game is simulated for, if the player stays alive.
+	 * @param firstSeed
+	 *            The seed of the first game.
+	 * @param runs
+	 *            How many games to simulate.
+	 */
+	private static void printBatch(GameParameters parameters, int maxTicks, long firstSeed,
+			int runs) {
+		final BatchSimulator simulator =
+				new BatchSimulator(new RandomInput(RANDOM_HOLD_TICKS), maxTicks, parameters);
+		final long start = System.nanoTime();
+		final BatchReport report = simulator.run(firstSeed, runs);
+		final double seconds = (System.nanoTime() - start) / 1e9;
+		
+		System.out.println();
+		System.out.println(report);
+		System.out.printf("Simulated in %.2f s, %.0f ticks/s on %d cores%n", seconds,
+				report.getTotalTicks() / seconds, Runtime.getRuntime().availableProcessors());
+	}
+	
+	/**
+	 * Returns the values of a comma-separated list on the command line.
+	 * 
+	 * @param args
+	 *            The command-line arguments.
+	 * @param index
+	 *            Where the list is in the arguments.
+	 * @param defaultValue
+	 *            The only value if the list isn't given.
+	 * @return The values.
+	 */
+	private static String[] getList(String[] args, int index, String defaultValue) {
+		return args.length > index ? args[index].split(",") : new String[] { defaultValue };
+	}
+	
+}
@@ -0,0 +1,31 @@
+package game.simulation;
+
+import game.Game;
+import game.generators.SeededRandom;
+
+/**
+ * Chooses the keys held for each step of a simulated game, in place of a player. A script is
+ * shared by every game in a batch, which may be simulated at the same time on different threads,
+ * so a script keeps no state of its own. Anything it needs to remember is given to it instead.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public interface InputScript {
+	
+	/**
+	 * Returns the keys held for the next step of a game.
+	 * 
+	 * @param game
+	 *            The game.
+	 * @param tick
+	 *            How many steps the game has taken.
+	 * @param lastKeys
+	 *            The keys held for the last step, or none before the first step.
+	 * @param random
+	 *            Random numbers for this game alone, seeded from the seed of the game.
+	 * @return The packed state of the keys, as returned by {@link Game#getKeys()}.
+	 */
+	int getKeys(Game game, int tick, int lastKeys, SeededRandom random);
+	
+}
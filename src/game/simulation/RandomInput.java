@@ -0,0 +1,51 @@
+package game.simulation;
+
+import game.Game;
+import game.InputReceiver;
+import game.generators.SeededRandom;
+
+/**
+ * Moves and jumps at random, holding each choice of keys for a while like a person would. Never
+ * pauses or gives up.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class RandomInput implements InputScript {
+	
+	/** The keys that can be chosen: jump, right, and left. */
+	private static final int[] CHOICES = { 0, InputReceiver.UP, InputReceiver.RIGHT,
+			InputReceiver.LEFT, InputReceiver.UP | InputReceiver.RIGHT,
+			InputReceiver.UP | InputReceiver.LEFT };
+	
+	/** How many steps each choice of keys is held, on average. */
+	private final int holdTicks;
+	
+	/**
+	 * Constructs a script that holds each choice of keys for some steps on average.
+	 * 
+	 * @param holdTicks
+	 *            How many steps each choice of keys is held, on average.
+	 */
+	public RandomInput(int holdTicks) {
+		if(holdTicks <= 0) {
+			throw new IllegalArgumentException("Hold ticks must be positive: " + holdTicks);
+		}
+		this.holdTicks = holdTicks;
+	}
+	
+	/*
+	 * {@inheritDoc}
+	 * 
+	 * @see game.simulation.InputScript#getKeys(game.Game, int, int,
+	 * game.generators.SeededRandom)
+	 */
+	@Override
+	public int getKeys(Game game, int tick, int lastKeys, SeededRandom random) {
+		if(tick == 0 || random.nextInt(holdTicks) == 0) {
+			return CHOICES[random.nextInt(CHOICES.length)];
+		}
+		return lastKeys;
+	}
+	
+}
@@ -0,0 +1,126 @@
+package game.simulation;
+
+import game.GameParameters;
+
+/**
+ * How one simulated game played out.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class RunResult {
+	
+	/** The seed of the game. */
+	private final long seed;
+	
+	/** The tunable rules the game was played by. */
+	private final GameParameters parameters;
+	
+	/** How many steps the player stayed alive. */
+	private final int ticks;
+	
+	/** If the player was still alive when the simulation stopped. */
+	private final boolean isAlive;
+	
+	/** The highest altitude the player reached. */
+	private final int highestAltitude;
+	
+	/** The most blocks of rubble in the game at once. */
+	private final int mostBlocks;
+	
+	/** How long all the steps took to simulate, in nanoseconds. */
+	private final long stepNanos;
+	
+	/**
+	 * Constructs the result of a game.
+	 * 
+	 * @param seed
+	 *            The seed of the game.
+	 * @param parameters
+	 *            The tunable rules the game was played by.
+	 * @param ticks
+	 *            How many steps the player stayed alive.
+	 * @param isAlive
+	 *            If the player was still alive when the simulation stopped.
+	 * @param highestAltitude
+	 *            The highest altitude the player reached.
+	 * @param mostBlocks
+	 *            The most blocks of rubble in the game at once.
+	 * @param stepNanos
+	 *            How long all the steps took to simulate, in nanoseconds.
+	 */
+	RunResult(long seed, GameParameters parameters, int ticks, boolean isAlive,
+			int highestAltitude, int mostBlocks, long stepNanos) {
+		this.seed = seed;
+		this.parameters = parameters;
+		this.ticks = ticks;
+		this.isAlive = isAlive;
+		this.highestAltitude = highestAltitude;
+		this.mostBlocks = mostBlocks;
+		this.stepNanos = stepNanos;
+	}
+	
+	/**
+	 * Returns the seed of the game.
+	 * 
+	 * @return The seed.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+	
+	/**
+	 * Returns the tunable rules the game was played by.
+	 * 
+	 * @return The parameters.
+	 */
+	public GameParameters getParameters() {
+		return parameters;
+	}
+	
+	/**
+	 * Returns how many steps the player stayed alive.
+	 * 
+	 * @return The number of steps.
+	 */
+	public int getTicks() {
+		return ticks;
+	}
+	
+	/**
+	 * Returns whether the player was still alive when the simulation stopped.
+	 * 
+	 * @return True if the player outlasted the simulation.
+	 */
+	public boolean isAlive() {
+		return isAlive;
+	}
+	
+	/**
+	 * Returns the highest altitude the player reached.
+	 * 
+	 * @return The highest altitude.
+	 */
+	public int getHighestAltitude() {
+		return highestAltitude;
+	}
+	
+	/**
+	 * Returns the most blocks of rubble in the game at once.
+	 * 
+	 * @return The most blocks.
+	 */
+	public int getMostBlocks() {
+		return mostBlocks;
+	}
+	
+	/**
+	 * Returns how long all the steps took to simulate.
+	 * 
+	 * @return The time in nanoseconds.
+	 */
+	public long getStepNanos() {
+		return stepNanos;
+	}
+	
+}
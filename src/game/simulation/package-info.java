@@ -0,0 +1,2 @@
+/** Simulates many headless games at once, to see how changes to the game mechanics play out. */
+package game.simulation;
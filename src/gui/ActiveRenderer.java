@@ -0,0 +1,210 @@
+package gui;
+
+import java.awt.BufferCapabilities;
+import java.awt.Canvas;
+import java.awt.DisplayMode;
+import java.awt.Graphics;
+import java.awt.GraphicsConfiguration;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+
+/**
+ * Draws the frames of the game onto a canvas from its own thread, rather than asking Swing to
+ * repaint. Frames are drawn into the back buffer of a buffer strategy and then shown. The frames
+ * are drawn at a rate of their own, apart from how often the game steps, since each frame is drawn
+ * part of the way between the last two steps. A frame finished while the last one is still being
+ * drawn replaces it, so slow drawing skips frames.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+final class ActiveRenderer implements Runnable {
+	
+	/** The frame rate that draws frames as often as possible. */
+	static final int UNCAPPED = 0;
+	
+	/** The frame rate that draws frames as often as the display refreshes. */
+	static final int DISPLAY_REFRESH_RATE = -1;
+	
+	/** How many buffers the canvas draws with, including the one on the screen. */
+	private static final int BUFFER_COUNT = 2;
+	
+	/** How many frames are drawn each second when the refresh rate of the display is unknown. */
+	private static final int UNKNOWN_REFRESH_FRAME_RATE = 60;
+	
+	/** The canvas the frames are drawn on. */
+	private final Canvas canvas;
+	
+	/** The game manager that paints the frames. */
+	private final GameManager manager;
+	
+	/** How many frames are drawn each second, or one of the special frame rates. */
+	private final int frameRate;
+	
+	/** Guards if a frame has been finished. */
+	private final Object frameSignal;
+	
+	/** If the game has finished a frame that can be drawn. */
+	private boolean hasFrame;
+	
+	/**
+	 * Constructs a renderer for a game manager.
+	 * 
+	 * @param manager
+	 *            The game manager that paints the frames.
+	 * @param frameRate
+	 *            How many frames are drawn each second, {@link #UNCAPPED} to draw them as often as
+	 *            possible, or {@link #DISPLAY_REFRESH_RATE} to draw them as often as the display
+	 *            refreshes.
+	 */
+	ActiveRenderer(GameManager manager, int frameRate) {
+		if(frameRate < DISPLAY_REFRESH_RATE) {
+			throw new IllegalArgumentException("Frame rate can't be negative: " + frameRate);
+		}
+		this.manager = manager;
+		this.frameRate = frameRate;
+		frameSignal = new Object();
+		
+		canvas = new Canvas();
+		canvas.setIgnoreRepaint(true);
+		
+		// The game manager keeps the focus, so it still receives the key input.
+		canvas.setFocusable(false);
+	}
+	
+	/**
+	 * Returns the canvas the frames are drawn on.
+	 * 
+	 * @return The canvas.
+	 */
+	Canvas getCanvas() {
+		return canvas;
+	}
+	
+	/**
+	 * Lets the renderer know the game has finished a frame that can be drawn.
+	 */
+	void frameFinished() {
+		synchronized(frameSignal) {
+			if(!hasFrame) {
+				hasFrame = true;
+				frameSignal.notifyAll();
+			}
+		}
+	}
+	
+	/*
+	 * {@inheritDoc}
+	 * 
+	 * @see java.lang.Runnable#run()
+	 */
+	@Override
+	public void run() {
+		if(!waitForFrame()) {
+			return;
+		}
+		
+		final FrameTimer pacing;
+		if(frameRate == UNCAPPED) {
+			pacing = null;
+		} else if(frameRate == DISPLAY_REFRESH_RATE) {
+			pacing = new FrameTimer(getRefreshRate());
+		} else {
+			pacing = new FrameTimer(frameRate);
+		}
+		
+		while(!Thread.currentThread().isInterrupted()) {
+			// A canvas that isn't on the screen is checked again each time the game steps.
+			if(!render()) {
+				synchronized(frameSignal) {
+					hasFrame = false;
+				}
+				if(!waitForFrame()) {
+					return;
+				}
+				continue;
+			}
+			if(pacing != null) {
+				pacing.waitForNextTick();
+				pacing.takeTicks(System.nanoTime());
+			}
+		}
+	}
+	
+	/**
+	 * Waits until the game has finished a frame since the renderer last stopped drawing.
+	 * 
+	 * @return If there is a frame, or false if the renderer was interrupted while waiting.
+	 */
+	private boolean waitForFrame() {
+		synchronized(frameSignal) {
+			while(!hasFrame) {
+				try {
+					frameSignal.wait();
+				} catch(InterruptedException ex) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Returns how often the display showing the canvas refreshes.
+	 * 
+	 * @return How many times the display refreshes each second, or a common rate if it is unknown.
+	 */
+	private int getRefreshRate() {
+		final GraphicsConfiguration configuration = canvas.getGraphicsConfiguration();
+		if(configuration == null) {
+			return UNKNOWN_REFRESH_FRAME_RATE;
+		}
+		
+		final int refreshRate = configuration.getDevice().getDisplayMode().getRefreshRate();
+		if(refreshRate == DisplayMode.REFRESH_RATE_UNKNOWN) {
+			return UNKNOWN_REFRESH_FRAME_RATE;
+		}
+		return refreshRate;
+	}
+	
+	/**
+	 * Draws the latest frame and shows it on the screen. Frames drawn into buffers that were lost
+	 * or restored while drawing are drawn again, whole.
+	 * 
+	 * @return If the frame was drawn, or false if the canvas isn't on the screen.
+	 */
+	private boolean render() {
+		if(!canvas.isDisplayable()) {
+			return false;
+		}
+		if(canvas.getBufferStrategy() == null) {
+			canvas.createBufferStrategy(BUFFER_COUNT);
+		}
+		final BufferStrategy strategy = canvas.getBufferStrategy();
+		
+		// A back buffer copied to the screen, rather than flipped with it, keeps the last frame.
+		final BufferCapabilities capabilities = strategy.getCapabilities();
+		boolean isKept =
+				!capabilities.isPageFlipping()
+						|| capabilities.getFlipContents() == BufferCapabilities.FlipContents.COPIED;
+		do {
+			do {
+				final Graphics g = strategy.getDrawGraphics();
+				try {
+					manager.paintFrame(g, canvas.getWidth(), canvas.getHeight(), isKept);
+				} finally {
+					g.dispose();
+				}
+				
+				// A buffer drawn on again lost what was drawn on it before.
+				isKept = false;
+			} while(strategy.contentsRestored());
+			strategy.show();
+		} while(strategy.contentsLost());
+		
+		// Flushes the drawing to the screen on systems that queue it.
+		Toolkit.getDefaultToolkit().sync();
+		return true;
+	}
+	
+}
@@ -0,0 +1,98 @@
+package gui;
+
+import game.Game;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+/**
+ * Part of a screen that only changes now and then, drawn once into an image and copied onto each
+ * frame. The layer is drawn with clear and solid pixels over the whole screen, and only the part
+ * that was drawn on is kept. The layer is drawn again only when the state it is drawn for changes,
+ * such as which menu entry is selected.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public abstract class CachedLayer {
+	
+	/** The state of a layer that never changes. */
+	public static final int UNCHANGING = 0;
+	
+	/** The part of the screen that was drawn on, or null before the layer is drawn. */
+	private BufferedImage image;
+	
+	/** Position of the kept part on the screen. */
+	private int x, y;
+	
+	/** The state the layer was drawn for. */
+	private int drawnState;
+	
+	/**
+	 * Copies the layer onto an image, drawing it first if it hasn't been drawn for the state.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param state
+	 *            The state to draw the layer for, or {@link #UNCHANGING}.
+	 */
+	public final synchronized void paint(Graphics g, int state) {
+		if(image == null || state != drawnState) {
+			redraw(state);
+		}
+		g.drawImage(image, x, y, null);
+	}
+	
+	/**
+	 * Draws the layer on a clear screen.
+	 * 
+	 * @param g
+	 *            The graphics object for the screen.
+	 * @param state
+	 *            The state to draw the layer for.
+	 */
+	protected abstract void draw(Graphics g, int state);
+	
+	/**
+	 * Draws the layer for a state, and keeps the smallest part of the screen holding every pixel
+	 * that was drawn on.
+	 * 
+	 * @param state
+	 *            The state to draw the layer for.
+	 */
+	private void redraw(int state) {
+		final BufferedImage screen =
+				GameManager.createClearImage(Game.GAME_WIDTH, Game.GAME_HEIGHT);
+		final Graphics screenGraphics = screen.getGraphics();
+		draw(screenGraphics, state);
+		screenGraphics.dispose();
+		
+		final int[] pixels =
+				screen.getRGB(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null, 0, Game.GAME_WIDTH);
+		int left = Game.GAME_WIDTH, top = Game.GAME_HEIGHT, right = 0, bottom = 0;
+		for(int row = 0; row < Game.GAME_HEIGHT; row++) {
+			for(int column = 0; column < Game.GAME_WIDTH; column++) {
+				if(pixels[row * Game.GAME_WIDTH + column] >>> 24 != 0) {
+					left = Math.min(left, column);
+					right = Math.max(right, column + 1);
+					top = Math.min(top, row);
+					bottom = row + 1;
+				}
+			}
+		}
+		
+		if(right <= left) {
+			image = GameManager.createClearImage(1, 1);
+			x = 0;
+			y = 0;
+		} else {
+			image = GameManager.createClearImage(right - left, bottom - top);
+			final Graphics g = image.getGraphics();
+			g.drawImage(screen, -left, -top, null);
+			g.dispose();
+			x = left;
+			y = top;
+		}
+		drawnState = state;
+	}
+	
+}
@@ -0,0 +1,44 @@
+package gui;
+
+import game.GameAudio;
+import java.applet.AudioClip;
+
+/**
+ * Plays the sounds of the game through audio clips.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+final class ClipAudio implements GameAudio {
+	
+	/** The background music playing during the game. */
+	private final AudioClip backgroundMusic;
+	
+	/**
+	 * Loads the sounds of the game.
+	 */
+	ClipAudio() {
+		backgroundMusic = GameManager.loadSound("BumblyMarch.wav");
+	}
+	
+	/*
+	 * {@inheritDoc}
+	 * 
+	 * @see game.GameAudio#playMusic()
+	 */
+	@Override
+	public void playMusic() {
+		backgroundMusic.loop();
+	}
+	
+	/*
+	 * {@inheritDoc}
+	 * 
+	 * @see game.GameAudio#stopMusic()
+	 */
+	@Override
+	public void stopMusic() {
+		backgroundMusic.stop();
+	}
+	
+}
@@ -0,0 +1,144 @@
+package gui;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Keeps the game stepping at a fixed rate. Time that has passed is added up, and the game steps
+ * once for every whole tick in it, so slow frames are made up for with extra steps rather than
+ * slowing the game down. Only so many ticks are made up for at once, so the game can't fall
+ * further and further behind after a long stall.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+final class FrameTimer {
+	
+	/** The most ticks made up for in one frame. */
+	static final int MAX_CATCH_UP_TICKS = 5;
+	
+	/** How long before a tick is due the thread stops parking and spins, in nanoseconds. */
+	private static final long SPIN_NANOS = 1000000L;
+	
+	/** The number of nanoseconds in a second. */
+	private static final long NANOS_PER_SECOND = 1000000000L;
+	
+	/** How long each tick lasts, in nanoseconds. */
+	private volatile long tickNanos;
+	
+	/** Time that has passed without being used up by ticks, in nanoseconds. */
+	private long lag;
+	
+	/** When time was last added up. */
+	private long previous;
+	
+	/**
+	 * Constructs a timer for a tick rate.
+	 * 
+	 * @param ticksPerSecond
+	 *            How many times the game steps each second.
+	 */
+	FrameTimer(int ticksPerSecond) {
+		setTickRate(ticksPerSecond);
+		reset(System.nanoTime());
+	}
+	
+	/**
+	 * Changes how often the game steps. Can be called from any thread.
+	 * 
+	 * @param ticksPerSecond
+	 *            How many times the game steps each second.
+	 */
+	void setTickRate(int ticksPerSecond) {
+		if(ticksPerSecond <= 0) {
+			throw new IllegalArgumentException("Tick rate must be positive: " + ticksPerSecond);
+		}
+		tickNanos = NANOS_PER_SECOND / ticksPerSecond;
+	}
+	
+	/**
+	 * Returns how often the game steps.
+	 * 
+	 * @return How many times the game steps each second.
+	 */
+	int getTickRate() {
+		return (int)(NANOS_PER_SECOND / tickNanos);
+	}
+	
+	/**
+	 * Returns how long each tick lasts.
+	 * 
+	 * @return The length of a tick, in nanoseconds.
+	 */
+	long getTickNanos() {
+		return tickNanos;
+	}
+	
+	/**
+	 * Returns when the last tick taken was due. Time since then that hasn't made up a whole tick
+	 * yet is how far the game is between its last step and its next.
+	 * 
+	 * @return The time the last tick was due, in nanoseconds.
+	 */
+	long getLastTickTime() {
+		return previous - lag;
+	}
+	
+	/**
+	 * Forgets any time that has passed, so the next tick is due a whole tick from now.
+	 * 
+	 * @param now
+	 *            The current time, in nanoseconds.
+	 */
+	void reset(long now) {
+		previous = now;
+		lag = 0;
+	}
+	
+	/**
+	 * Adds up the time that has passed and uses up the ticks that are due.
+	 * 
+	 * @param now
+	 *            The current time, in nanoseconds.
+	 * @return How many times the game should step, from 0 to {@link #MAX_CATCH_UP_TICKS}.
+	 */
+	int takeTicks(long now) {
+		final long tick = tickNanos;
+		lag = Math.min(lag + now - previous, tick * MAX_CATCH_UP_TICKS);
+		previous = now;
+		
+		final int ticks = (int)(lag / tick);
+		lag -= ticks * tick;
+		return ticks;
+	}
+	
+	/**
+	 * Returns how long until the next tick is due.
+	 * 
+	 * @param now
+	 *            The current time, in nanoseconds.
+	 * @return The time until the next tick, in nanoseconds, or 0 if it is already due.
+	 */
+	long getTimeToNextTick(long now) {
+		return Math.max(0, tickNanos - lag - (now - previous));
+	}
+	
+	/**
+	 * Waits until the next tick is due. The thread is parked for most of the wait and spins for
+	 * the rest, since parking can wake up late.
+	 */
+	void waitForNextTick() {
+		final long deadline = System.nanoTime() + getTimeToNextTick(System.nanoTime());
+		
+		long remaining;
+		while((remaining = deadline - System.nanoTime()) > SPIN_NANOS) {
+			LockSupport.parkNanos(remaining - SPIN_NANOS);
+			if(Thread.currentThread().isInterrupted()) {
+				return;
+			}
+		}
+		while(deadline - System.nanoTime() > 0) {
+			Thread.yield();
+		}
+	}
+	
+}
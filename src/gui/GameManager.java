@@ -1,11 +1,24 @@
 package gui;
 
+import game.DirtyRectangleRenderer;
 import game.Game;
+import game.GameSnapshot;
+import game.GradientSky;
+import game.objects.RubbleSnapshot;
+import game.replay.ReplayRecorder;
 import gui.title.TitleScreen;
 import java.applet.Applet;
 import java.applet.AudioClip;
+import java.awt.BorderLayout;
 import java.awt.Graphics;
+import java.awt.GraphicsEnvironment;
 import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.DirectColorModel;
+import java.io.File;
+import java.io.IOException;
 import javax.imageio.ImageIO;
 import javax.swing.JPanel;
 
@@ -31,8 +44,78 @@ public final class GameManager extends JPanel implements Runnable {
 		TITLE, GAME, GAMEOVER;
 	}
 	
-	/** Interval in which the code is executed, in milliseconds. */
-	private static final int UPDATE_SPEED = 20;
+	/**
+	 * Everything needed to draw one frame of the program, copied out after the game steps.
+	 * 
+	 * @author Jesse Brent
+	 * @version 1.0, 10/17/26
+	 */
+	private static final class FrameSnapshot {
+		
+		/** The state of the game when the frame was copied, or null before any frame. */
+		private GameState state;
+		
+		/** The game, when playing or over. */
+		private final GameSnapshot game = new GameSnapshot();
+		
+		/** The blocks of rubble for the title. */
+		private final RubbleSnapshot titleBlocks = new RubbleSnapshot();
+		
+		/** If the start message on the title is shown. */
+		private boolean isStartShown;
+		
+		/** When the last step before the frame was due, in nanoseconds. */
+		private long tickTime;
+		
+		/** How long each step lasted, in nanoseconds. */
+		private long tickNanos;
+		
+	}
+	
+	/** How many times the game steps each second unless the tick rate is changed. */
+	private static final int DEFAULT_TICK_RATE = 50;
+	
+	/** The system property that can change the tick rate the program starts with. */
+	private static final String TICK_RATE_PROPERTY = "rubbleescape.tickrate";
+	
+	/** The system property that makes the game paint through Swing rather than actively. */
+	private static final String PASSIVE_RENDERING_PROPERTY = "rubbleescape.passive";
+	
+	/**
+	 * The system property that sets how many frames are drawn each second when rendering actively.
+	 * A rate of 0 draws frames as often as possible. Unless set, frames are drawn as often as the
+	 * display refreshes.
+	 */
+	private static final String FRAME_RATE_PROPERTY = "rubbleescape.framerate";
+	
+	/** The system property naming a directory to record a replay of each game into. */
+	private static final String REPLAY_DIRECTORY_PROPERTY = "rubbleescape.replays";
+	
+	/**
+	 * The system property that chooses how the sky behind the game is drawn. The gradient sky
+	 * colors each row of the screen by its altitude. Unless set, the sky is one color.
+	 */
+	private static final String SKY_PROPERTY = "rubbleescape.sky";
+	
+	/** The value of the sky property for the gradient sky. */
+	private static final String GRADIENT_SKY = "gradient";
+	
+	/**
+	 * The system property that draws only the parts of the game that changed since the last frame
+	 * into an image kept between frames, rather than drawing every frame whole.
+	 */
+	private static final String DIRTY_RECTANGLES_PROPERTY = "rubbleescape.dirtyrectangles";
+	
+	/**
+	 * The system property that chooses how frames are scaled to fit the window. Integer scaling
+	 * only scales by whole numbers, keeping the pixels sharp, and no scaling draws the frames at
+	 * the size of the game in the corner. Unless set, the frames are filtered to fill as much of
+	 * the window as they can.
+	 */
+	private static final String SCALING_PROPERTY = "rubbleescape.scaling";
+	
+	/** The values of the scaling property for integer scaling and no scaling. */
+	private static final String INTEGER_SCALING = "integer", NO_SCALING = "none";
 	
 	/** The title screen for the game. */
 	private final transient TitleScreen title;
@@ -43,25 +126,111 @@ public final class GameManager extends JPanel implements Runnable {
 	/** The game being played. */
 	private final transient Game game;
 	
+	/** Keeps the game stepping at a fixed rate. */
+	private final transient FrameTimer timer;
+	
+	/** Hands the frames copied after the game steps to the painting, without locking either. */
+	private final transient TripleBuffer<FrameSnapshot> frames;
+	
+	/** Draws the frames onto a canvas, or null if Swing paints them instead. */
+	private final transient ActiveRenderer renderer;
+	
+	/** The directory replays are recorded into, or null if they aren't recorded. */
+	private final transient File replayDirectory;
+	
+	/** The sky drawn behind the game, or null if the sky is one color. Only used to paint. */
+	private final transient GradientSky sky;
+	
+	/** Draws only what changed in the game, or null if every frame is drawn whole. */
+	private final transient DirtyRectangleRenderer dirtyRectangles;
+	
+	/** Scales the frames to fit the window, or null if they are drawn at the size of the game. */
+	private final transient ScaledOutput output;
+	
+	/** Records the game being played, or null if it isn't being recorded. */
+	private transient ReplayRecorder recorder;
+	
 	/** The state of the game. */
 	private GameState state;
 	
-	/** Flags used to ensure thread safety with repaint and performance. */
-	private boolean busy, painting;
+	/**
+	 * Constructs the GameManager to handle manage the game. The game is rendered actively unless
+	 * the passive rendering system property is set.
+	 */
+	public GameManager() {
+		this(!Boolean.getBoolean(PASSIVE_RENDERING_PROPERTY));
+	}
 	
 	/**
 	 * Constructs the GameManager to handle manage the game.
+	 * 
+	 * @param isActiveRendering
+	 *            If the frames are drawn onto a canvas from a thread of their own, rather than
+	 *            painted by Swing.
 	 */
-	public GameManager() {
-		super();
+	public GameManager(boolean isActiveRendering) {
+		super(new BorderLayout());
 		
-		game = new Game();
+		game = new Game(new ClipAudio());
 		title = new TitleScreen();
 		gameover = new GameoverScreen();
 		
-		busy = true;
-		painting = false;
+		timer = new FrameTimer(Integer.getInteger(TICK_RATE_PROPERTY, DEFAULT_TICK_RATE));
+		frames =
+				new TripleBuffer<FrameSnapshot>(new FrameSnapshot(), new FrameSnapshot(),
+						new FrameSnapshot());
 		state = GameState.TITLE;
+		
+		final String replays = System.getProperty(REPLAY_DIRECTORY_PROPERTY);
+		replayDirectory = replays == null ? null : new File(replays);
+		sky = GRADIENT_SKY.equals(System.getProperty(SKY_PROPERTY)) ? new GradientSky() : null;
+		dirtyRectangles =
+				Boolean.getBoolean(DIRTY_RECTANGLES_PROPERTY) ? new DirtyRectangleRenderer() : null;
+		
+		final String scaling = System.getProperty(SCALING_PROPERTY);
+		if(NO_SCALING.equals(scaling)) {
+			output = null;
+		} else {
+			output = new ScaledOutput(INTEGER_SCALING.equals(scaling)) {
+				/*
+				 * {@inheritDoc}
+				 * 
+				 * @see gui.ScaledOutput#paintFrame(java.awt.Graphics, boolean)
+				 */
+				@Override
+				protected void paintFrame(Graphics g, boolean isKept) {
+					GameManager.this.paintFrame(g, isKept);
+				}
+			};
+		}
+		
+		if(isActiveRendering) {
+			renderer =
+					new ActiveRenderer(this, Integer.getInteger(FRAME_RATE_PROPERTY,
+							ActiveRenderer.DISPLAY_REFRESH_RATE));
+			add(renderer.getCanvas(), BorderLayout.CENTER);
+		} else {
+			renderer = null;
+		}
+	}
+	
+	/**
+	 * Changes how often the game steps. Can be called while the game is running.
+	 * 
+	 * @param ticksPerSecond
+	 *            How many times the game steps each second.
+	 */
+	public void setTickRate(int ticksPerSecond) {
+		timer.setTickRate(ticksPerSecond);
+	}
+	
+	/**
+	 * Returns how often the game steps.
+	 * 
+	 * @return How many times the game steps each second.
+	 */
+	public int getTickRate() {
+		return timer.getTickRate();
 	}
 	
 	/*
@@ -74,65 +243,36 @@ public final class GameManager extends JPanel implements Runnable {
 		title.reset();
 		state = GameState.TITLE;
 		this.addKeyListener(title);
+		timer.reset(System.nanoTime());
+		
+		final Thread rendering;
+		if(renderer != null) {
+			rendering = new Thread(renderer, "Renderer");
+			rendering.setDaemon(true);
+			rendering.start();
+		} else {
+			rendering = null;
+		}
 		
 		while(!Thread.interrupted()) {
-			switch(state) {
-				case TITLE: {
-					title.step();
-					if(title.canPlayGame()) {
-						this.removeKeyListener(title);
-						this.addKeyListener(game.getKeyListener());
-						title.reset();
-						game.reset();
-						game.start();
-						state = GameState.GAME;
-					}
-					break;
-				}
-					
-				case GAME: {
-					game.step();
-					if(!game.isAlive()) {
-						this.removeKeyListener(game.getKeyListener());
-						this.addKeyListener(gameover);
-						gameover.reset();
-						game.stop();
-						state = GameState.GAMEOVER;
-					}
-					break;
-				}
-					
-				case GAMEOVER: {
-					game.step();
-					if(gameover.canReturnTitle()) {
-						this.removeKeyListener(gameover);
-						this.addKeyListener(title);
-						title.reset();
-						state = GameState.TITLE;
-					} else if(gameover.canRestartGame()) {
-						this.removeKeyListener(gameover);
-						this.addKeyListener(game.getKeyListener());
-						game.reset();
-						game.start();
-						state = GameState.GAME;
-					}
-					break;
-				}
-					
-				default: {
-					break;
-				}
-			}
 			
-			busy = false;
-			repaint();
-			delay(UPDATE_SPEED);
-			while(painting) {
-				delay(1);
+			// Painting that falls behind is skipped, while the game steps for every tick missed.
+			final int ticks = timer.takeTicks(System.nanoTime());
+			if(ticks > 0) {
+				for(int i = 0; i < ticks; i++) {
+					step();
+				}
+				capture(frames.getBack());
+				frames.publish();
+				showFrame();
 			}
-			busy = true;
+			timer.waitForNextTick();
 		}
 		
+		if(rendering != null) {
+			rendering.interrupt();
+		}
+		stopRecording();
 		game.stop();
 		game.reset();
 		title.reset();
@@ -142,8 +282,152 @@ public final class GameManager extends JPanel implements Runnable {
 		this.removeKeyListener(gameover);
 	}
 	
+	/**
+	 * Copies what is needed to draw the program into a frame.
+	 * 
+	 * @param frame
+	 *            The frame to copy into.
+	 */
+	private void capture(FrameSnapshot frame) {
+		frame.state = state;
+		frame.tickTime = timer.getLastTickTime();
+		frame.tickNanos = timer.getTickNanos();
+		switch(state) {
+			case TITLE: {
+				title.capture(frame.titleBlocks);
+				frame.isStartShown = title.isStartShown();
+				break;
+			}
+			case GAME:
+			case GAMEOVER: {
+				game.capture(frame.game);
+				break;
+			}
+			default: {
+				break;
+			}
+		}
+	}
+	
+	/**
+	 * Has the latest frame drawn on the screen.
+	 */
+	private void showFrame() {
+		if(renderer != null) {
+			renderer.frameFinished();
+		} else {
+			repaint();
+		}
+	}
+	
+	/**
+	 * Advances the program by one tick.
+	 */
+	private void step() {
+		switch(state) {
+			case TITLE: {
+				title.step();
+				if(title.canPlayGame()) {
+					this.removeKeyListener(title);
+					this.addKeyListener(game.getKeyListener());
+					title.reset();
+					game.reset();
+					game.start();
+					startRecording();
+					state = GameState.GAME;
+				}
+				break;
+			}
+			
+			case GAME: {
+				stepGame();
+				if(!game.isAlive()) {
+					this.removeKeyListener(game.getKeyListener());
+					this.addKeyListener(gameover);
+					gameover.reset();
+					game.stop();
+					state = GameState.GAMEOVER;
+				}
+				break;
+			}
+			
+			case GAMEOVER: {
+				stepGame();
+				if(gameover.canReturnTitle()) {
+					stopRecording();
+					this.removeKeyListener(gameover);
+					this.addKeyListener(title);
+					title.reset();
+					state = GameState.TITLE;
+				} else if(gameover.canRestartGame()) {
+					stopRecording();
+					this.removeKeyListener(gameover);
+					this.addKeyListener(game.getKeyListener());
+					game.reset();
+					game.start();
+					startRecording();
+					state = GameState.GAME;
+				}
+				break;
+			}
+			
+			default: {
+				break;
+			}
+		}
+	}
+	
+	/**
+	 * Steps the game with the keys being held, recording them if the game is being recorded.
+	 */
+	private void stepGame() {
+		final int keys = game.getKeys();
+		if(recorder != null) {
+			try {
+				recorder.record(game, keys);
+			} catch(IOException error) {
+				stopRecording();
+			}
+		}
+		game.step(keys);
+	}
+	
+	/**
+	 * Starts recording a replay of the game just started, if replays are recorded. Recording is
+	 * left off if the replay file can't be written.
+	 */
+	private void startRecording() {
+		if(replayDirectory == null) {
+			return;
+		}
+		
+		final String name = String.format("replay-%016x.rer", game.getSeed());
+		try {
+			recorder = new ReplayRecorder(new File(replayDirectory, name), game.getSeed());
+		} catch(IOException error) {
+			recorder = null;
+		}
+	}
+	
+	/**
+	 * Stops recording the replay of the game, if it is being recorded.
+	 */
+	private void stopRecording() {
+		if(recorder == null) {
+			return;
+		}
+		
+		try {
+			recorder.close();
+		} catch(IOException error) {
+			// The replay is playable up to the last record written.
+		} finally {
+			recorder = null;
+		}
+	}
+	
 	/*
-	 * Draws the graphics for the applet.
+	 * Draws the graphics for the applet, unless they are rendered actively.
 	 * 
 	 * {@inheritDoc}
 	 * 
@@ -151,44 +435,100 @@ public final class GameManager extends JPanel implements Runnable {
 	 */
 	@Override
 	public void paint(Graphics g) {
-		while(busy) {
-			delay(1);
+		if(renderer != null) {
+			super.paint(g);
+		} else {
+			paintFrame(g, getWidth(), getHeight(), false);
+		}
+	}
+	
+	/**
+	 * Draws the latest frame of the program onto a component, scaled to fit it unless the frames
+	 * are drawn at the size of the game.
+	 * 
+	 * @param g
+	 *            The graphics object of the component.
+	 * @param width
+	 *            The width of the component.
+	 * @param height
+	 *            The height of the component.
+	 * @param isKept
+	 *            If the component still holds the last frame drawn onto it with this set.
+	 */
+	void paintFrame(Graphics g, int width, int height, boolean isKept) {
+		if(output == null) {
+			paintFrame(g, isKept);
+		} else {
+			output.paint(g, width, height, isKept);
+		}
+	}
+	
+	/**
+	 * Draws the latest frame of the program at the size of the game. The frame is drawn as far
+	 * between the last two steps as the time since the last step is through the next one, so the
+	 * frame lags a step behind the game but moves smoothly however often it is drawn.
+	 * 
+	 * @param g
+	 *            The graphics object to draw with.
+	 * @param isKept
+	 *            If the image still holds the last frame drawn onto it with this set, so only what
+	 *            changed in the game needs to be drawn.
+	 */
+	private void paintFrame(Graphics g, boolean isKept) {
+		final FrameSnapshot frame = frames.getLatest();
+		if(frame.state == null) {
+			return;
 		}
-		painting = true;
 		
-		switch(state) {
+		final double alpha =
+				Math.min(1, Math.max(0, (double)(System.nanoTime() - frame.tickTime)
+						/ frame.tickNanos));
+		
+		switch(frame.state) {
 			case TITLE: {
-				title.paint(g);
+				title.paint(g, frame.titleBlocks, frame.isStartShown, alpha);
+				if(dirtyRectangles != null) {
+					dirtyRectangles.invalidate();
+				}
 				break;
 			}
 			case GAME: {
-				game.paint(g);
+				paintGame(g, frame.game, alpha, null, isKept);
 				break;
 			}
 			case GAMEOVER: {
-				game.paint(g);
-				gameover.paint(g);
+				paintGame(g, frame.game, alpha, gameover, isKept);
 				break;
 			}
 			default: {
 				break;
 			}
 		}
-		
-		painting = false;
 	}
 	
 	/**
-	 * Pauses calculations by putting the thread to sleep.
+	 * Draws a frame of the game, and the game over screen over it if the game is over.
 	 * 
-	 * @param timeToSleep
-	 *            Milliseconds for the thread to sleep.
+	 * @param g
+	 *            The graphics object to draw with.
+	 * @param snapshot
+	 *            The snapshot of the game.
+	 * @param alpha
+	 *            How far between the last two steps to draw the game.
+	 * @param overlay
+	 *            The game over screen, or null if the game isn't over.
+	 * @param isKept
+	 *            If the image still holds the last frame drawn onto it with this set.
 	 */
-	private static void delay(int timeToSleep) {
-		try {
-			Thread.sleep(timeToSleep);
-		} catch(InterruptedException ex) {
-			Thread.currentThread().interrupt();
+	private void paintGame(Graphics g, GameSnapshot snapshot, double alpha,
+			GameoverScreen overlay, boolean isKept) {
+		if(dirtyRectangles != null) {
+			dirtyRectangles.paint(g, snapshot, alpha, sky, overlay, isKept);
+			return;
+		}
+		snapshot.paint(g, alpha, sky);
+		if(overlay != null) {
+			overlay.paint(g);
 		}
 	}
 	
@@ -208,6 +548,28 @@ public final class GameManager extends JPanel implements Runnable {
 		}
 	}
 	
+	/**
+	 * Makes an empty image compatible with the screen, for pixels that are either clear or solid.
+	 * Without a screen, the image keeps one bit of alpha with each color, the way screens do, so
+	 * it is copied onto other images without blending.
+	 * 
+	 * @param width
+	 *            The width of the image.
+	 * @param height
+	 *            The height of the image.
+	 * @return The image, with every pixel clear.
+	 */
+	public static BufferedImage createClearImage(int width, int height) {
+		if(GraphicsEnvironment.isHeadless()) {
+			final ColorModel bitmask = new DirectColorModel(25, 0xFF0000, 0xFF00, 0xFF, 0x1000000);
+			return new BufferedImage(bitmask, bitmask.createCompatibleWritableRaster(width, height),
+					false, null);
+		}
+		return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+				.getDefaultConfiguration().createCompatibleImage(width, height,
+						Transparency.BITMASK);
+	}
+	
 	/**
 	 * Loads a sound from the '/resources/music/' location.
 	 * 
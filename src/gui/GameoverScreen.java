@@ -25,6 +25,25 @@ public final class GameoverScreen implements KeyListener {
 	/** Font of the instructions. */
 	private static final Font CONTINUE_FONT = new Font("Serif", Font.BOLD, 30);
 	
+	/** Draws the instructions, outlined. */
+	private static final OutlinedText CONTINUE_STYLE =
+			new OutlinedText(CONTINUE_FONT, 1, Color.BLACK, Color.WHITE);
+	
+	/** The instructions, which never change. */
+	private static final CachedLayer CONTINUE_LAYER = new CachedLayer() {
+		
+		/*
+		 * {@inheritDoc}
+		 * 
+		 * @see gui.CachedLayer#draw(java.awt.Graphics, int)
+		 */
+		@Override
+		protected void draw(Graphics g, int state) {
+			CONTINUE_STYLE.paint(g, CONTINUE_TEXT, Game.GAME_WIDTH / 2 - CONTINUE_COORDINATES.x,
+					CONTINUE_COORDINATES.y);
+		}
+	};
+	
 	/** If the user restarts the game. */
 	private boolean restartGame;
 	
@@ -69,21 +88,7 @@ public final class GameoverScreen implements KeyListener {
 	 *            The graphics for the image.
 	 */
 	public void paint(Graphics g) {
-		g.setFont(CONTINUE_FONT);
-		g.setColor(Color.BLACK);
-		
-		g.drawString(CONTINUE_TEXT, Game.GAME_WIDTH / 2 - CONTINUE_COORDINATES.x - 1,
-				CONTINUE_COORDINATES.y - 1);
-		g.drawString(CONTINUE_TEXT, Game.GAME_WIDTH / 2 - CONTINUE_COORDINATES.x - 1,
-				CONTINUE_COORDINATES.y + 1);
-		g.drawString(CONTINUE_TEXT, Game.GAME_WIDTH / 2 - CONTINUE_COORDINATES.x + 1,
-				CONTINUE_COORDINATES.y - 1);
-		g.drawString(CONTINUE_TEXT, Game.GAME_WIDTH / 2 - CONTINUE_COORDINATES.x + 1,
-				CONTINUE_COORDINATES.y + 1);
-		
-		g.setColor(Color.WHITE);
-		g.drawString(CONTINUE_TEXT, Game.GAME_WIDTH / 2 - CONTINUE_COORDINATES.x,
-				CONTINUE_COORDINATES.y);
+		CONTINUE_LAYER.paint(g, CachedLayer.UNCHANGING);
 	}
 	
 	/*
@@ -0,0 +1,314 @@
+package gui;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * Draws text in a font with an outline around it, from glyphs drawn ahead of time. Each printable
+ * ASCII character is drawn once into an atlas, with a row of the outlines of the characters and a
+ * row of the characters themselves, and text is then copied out of the atlas a character at a
+ * time. The outlines of all the characters are copied before any of the characters, the same as
+ * drawing the outline of the whole text and then the text, so the result is the same. Text with
+ * other characters, or drawn scaled or smoothed, is drawn the slow way.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class OutlinedText {
+	
+	/** The first and last character in the atlas. */
+	private static final char FIRST_CHAR = ' ', LAST_CHAR = '~';
+	
+	/** The most characters in a number, as in -2147483648. */
+	private static final int MAX_NUMBER_LENGTH = 11;
+	
+	/** The font of the text. */
+	private final Font font;
+	
+	/** How far the outline reaches from the text. */
+	private final int outlineWidth;
+	
+	/** The color of the outline. */
+	private final Color outline;
+	
+	/** The color of the text. */
+	private final Color fill;
+	
+	/** The outlines of the characters above the characters. */
+	private final BufferedImage atlas;
+	
+	/** How far the pen moves past each character. */
+	private final int[] advance;
+	
+	/** Where each character starts in the atlas. */
+	private final int[] atlasX;
+	
+	/** How far left of the pen each character starts, including its outline. */
+	private final int[] left;
+	
+	/** How wide each character is in the atlas, including its outline. */
+	private final int[] width;
+	
+	/** Where each character starts from the baseline, including its outline. */
+	private final int[] glyphTop;
+	
+	/** How tall each character is in the atlas, including its outline. */
+	private final int[] height;
+	
+	/** Where the rows of the atlas start from the baseline, including the outline. */
+	private final int top;
+	
+	/** The height of each row of the atlas. */
+	private final int rowHeight;
+	
+	/** The characters being drawn, reused by each text. */
+	private char[] chars;
+	
+	/**
+	 * Constructs outlined text for a font, drawing every character ahead of time.
+	 * 
+	 * @param font
+	 *            The font of the text.
+	 * @param outlineWidth
+	 *            How far the outline reaches from the text. The outline is the text drawn at each
+	 *            diagonal offset up to this far, or nothing if it is 0.
+	 * @param outline
+	 *            The color of the outline.
+	 * @param fill
+	 *            The color of the text.
+	 */
+	public OutlinedText(Font font, int outlineWidth, Color outline, Color fill) {
+		if(outlineWidth < 0) {
+			throw new IllegalArgumentException("Outline width can't be negative: " + outlineWidth);
+		}
+		this.font = font;
+		this.outlineWidth = outlineWidth;
+		this.outline = outline;
+		this.fill = fill;
+		chars = new char[MAX_NUMBER_LENGTH];
+		
+		final int count = LAST_CHAR - FIRST_CHAR + 1;
+		advance = new int[count];
+		atlasX = new int[count];
+		left = new int[count];
+		width = new int[count];
+		glyphTop = new int[count];
+		height = new int[count];
+		
+		// Finds where the pixels of each character are, with room for the outline.
+		final FontRenderContext context = new FontRenderContext(null, false, false);
+		final Graphics metricsGraphics =
+				new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).getGraphics();
+		final FontMetrics metrics = metricsGraphics.getFontMetrics(font);
+		metricsGraphics.dispose();
+		int atlasWidth = 0, rowTop = 0, rowBottom = 0;
+		for(int i = 0; i < count; i++) {
+			final char c = (char)(FIRST_CHAR + i);
+			final Rectangle bounds =
+					font.createGlyphVector(context, String.valueOf(c)).getPixelBounds(context, 0,
+							0);
+			advance[i] = metrics.charWidth(c);
+			atlasX[i] = atlasWidth;
+			if(!bounds.isEmpty()) {
+				left[i] = bounds.x - outlineWidth - 1;
+				width[i] = bounds.width + outlineWidth * 2 + 2;
+				glyphTop[i] = bounds.y - outlineWidth - 1;
+				height[i] = bounds.height + outlineWidth * 2 + 2;
+				rowTop = Math.min(rowTop, bounds.y);
+				rowBottom = Math.max(rowBottom, bounds.y + bounds.height);
+			}
+			atlasWidth += width[i];
+		}
+		top = rowTop - outlineWidth - 1;
+		rowHeight = rowBottom - rowTop + outlineWidth * 2 + 2;
+		
+		atlas = GameManager.createClearImage(Math.max(atlasWidth, 1), rowHeight * 2);
+		final Graphics g = atlas.getGraphics();
+		g.setFont(font);
+		for(int i = 0; i < count; i++) {
+			if(width[i] > 0) {
+				final String glyph = String.valueOf((char)(FIRST_CHAR + i));
+				final int penX = atlasX[i] - left[i];
+				g.setColor(outline);
+				drawOutline(g, glyph, penX, -top);
+				g.setColor(fill);
+				g.drawString(glyph, penX, rowHeight - top);
+			}
+		}
+		g.dispose();
+	}
+	
+	/**
+	 * Draws outlined text at a position on an image.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param text
+	 *            The text to draw.
+	 * @param x
+	 *            The X coordinate to draw the text.
+	 * @param y
+	 *            The Y coordinate of the baseline of the text.
+	 */
+	public synchronized void paint(Graphics g, String text, int x, int y) {
+		final int length = text.length();
+		if(length > chars.length) {
+			chars = new char[length];
+		}
+		text.getChars(0, length, chars, 0);
+		paintChars(g, length, x, y);
+	}
+	
+	/**
+	 * Draws a number in outlined text at a position on an image, without making a string of it.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param number
+	 *            The number to draw.
+	 * @param x
+	 *            The X coordinate to draw the number.
+	 * @param y
+	 *            The Y coordinate of the baseline of the number.
+	 */
+	public synchronized void paint(Graphics g, int number, int x, int y) {
+		final int length = getLength(number);
+		final int firstDigit = number < 0 ? 1 : 0;
+		int rest = number;
+		for(int i = length - 1; i >= firstDigit; i--) {
+			chars[i] = (char)('0' + Math.abs(rest % 10));
+			rest /= 10;
+		}
+		if(number < 0) {
+			chars[0] = '-';
+		}
+		paintChars(g, length, x, y);
+	}
+	
+	/**
+	 * Returns how far below the baseline the text can reach, including its outline.
+	 * 
+	 * @return The number of rows below the baseline.
+	 */
+	public int getDescent() {
+		return top + rowHeight;
+	}
+	
+	/**
+	 * Returns how many characters a number is written with, the same as the length of
+	 * {@link Integer#toString(int)}.
+	 * 
+	 * @param number
+	 *            The number.
+	 * @return The number of characters, including a minus sign.
+	 */
+	public static int getLength(int number) {
+		int length = number < 0 ? 2 : 1;
+		for(int rest = number / 10; rest != 0; rest /= 10) {
+			length++;
+		}
+		return length;
+	}
+	
+	/**
+	 * Draws the characters in the buffer as outlined text.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param length
+	 *            How many characters in the buffer are drawn.
+	 * @param x
+	 *            The X coordinate to draw the text.
+	 * @param y
+	 *            The Y coordinate of the baseline of the text.
+	 */
+	private void paintChars(Graphics g, int length, int x, int y) {
+		if(!canCopyGlyphs(g, length)) {
+			final String text = new String(chars, 0, length);
+			g.setFont(font);
+			g.setColor(outline);
+			drawOutline(g, text, x, y);
+			g.setColor(fill);
+			g.drawString(text, x, y);
+			return;
+		}
+		
+		for(int row = outlineWidth == 0 ? 1 : 0; row < 2; row++) {
+			int penX = x;
+			for(int i = 0; i < length; i++) {
+				final int index = chars[i] - FIRST_CHAR;
+				if(width[index] > 0) {
+					final int glyphX = penX + left[index];
+					final int glyphY = y + glyphTop[index];
+					final int atlasY = row * rowHeight + glyphTop[index] - top;
+					g.drawImage(atlas, glyphX, glyphY, glyphX + width[index], glyphY
+							+ height[index], atlasX[index], atlasY, atlasX[index] + width[index],
+							atlasY + height[index], null);
+				}
+				penX += advance[index];
+			}
+		}
+	}
+	
+	/**
+	 * Checks if the characters in the buffer can be copied from the atlas and look the same as
+	 * they would drawn.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param length
+	 *            How many characters in the buffer are drawn.
+	 * @return If every character is in the atlas, and the image isn't scaled or smoothing text.
+	 */
+	private boolean canCopyGlyphs(Graphics g, int length) {
+		if(!(g instanceof Graphics2D)) {
+			return false;
+		}
+		final Graphics2D g2 = (Graphics2D)g;
+		if((g2.getTransform().getType() & ~AffineTransform.TYPE_TRANSLATION) != 0) {
+			return false;
+		}
+		final Object smoothing = g2.getRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING);
+		if(smoothing != null && smoothing != RenderingHints.VALUE_TEXT_ANTIALIAS_OFF
+				&& smoothing != RenderingHints.VALUE_TEXT_ANTIALIAS_DEFAULT) {
+			return false;
+		}
+		
+		for(int i = 0; i < length; i++) {
+			if(chars[i] < FIRST_CHAR || chars[i] > LAST_CHAR) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Draws the outline of text, as the text at each diagonal offset up to the outline width.
+	 * 
+	 * @param g
+	 *            The graphics object for the image, with the color of the outline.
+	 * @param text
+	 *            The text.
+	 * @param x
+	 *            The X coordinate of the text.
+	 * @param y
+	 *            The Y coordinate of the baseline of the text.
+	 */
+	private void drawOutline(Graphics g, String text, int x, int y) {
+		for(int offset = outlineWidth; offset > 0; offset--) {
+			g.drawString(text, x - offset, y - offset);
+			g.drawString(text, x - offset, y + offset);
+			g.drawString(text, x + offset, y - offset);
+			g.drawString(text, x + offset, y + offset);
+		}
+	}
+	
+}
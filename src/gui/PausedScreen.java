@@ -23,6 +23,25 @@ public final class PausedScreen {
 	/** Font of the instructions. */
 	private static final Font PAUSED_FONT = new Font("Serif", Font.BOLD, 30);
 	
+	/** Draws the paused message, outlined. */
+	private static final OutlinedText PAUSED_STYLE =
+			new OutlinedText(PAUSED_FONT, 1, Color.BLACK, Color.WHITE);
+	
+	/** The paused message, which never changes. */
+	private static final CachedLayer PAUSED_LAYER = new CachedLayer() {
+		
+		/*
+		 * {@inheritDoc}
+		 * 
+		 * @see gui.CachedLayer#draw(java.awt.Graphics, int)
+		 */
+		@Override
+		protected void draw(Graphics g, int state) {
+			PAUSED_STYLE.paint(g, PAUSED_MESSAGE, Game.GAME_WIDTH / 2 - PAUSED_COORDINATES.x,
+					PAUSED_COORDINATES.y);
+		}
+	};
+	
 	/**
 	 * PausedScreen is a utility class and cannot be instantiated.
 	 */
@@ -35,21 +54,7 @@ public final class PausedScreen {
 	 *            The graphics for the image.
 	 */
 	public static void paint(Graphics g) {
-		g.setFont(PAUSED_FONT);
-		g.setColor(Color.BLACK);
-		
-		g.drawString(PAUSED_MESSAGE, Game.GAME_WIDTH / 2 - PAUSED_COORDINATES.x - 1,
-				PAUSED_COORDINATES.y - 1);
-		g.drawString(PAUSED_MESSAGE, Game.GAME_WIDTH / 2 - PAUSED_COORDINATES.x - 1,
-				PAUSED_COORDINATES.y + 1);
-		g.drawString(PAUSED_MESSAGE, Game.GAME_WIDTH / 2 - PAUSED_COORDINATES.x + 1,
-				PAUSED_COORDINATES.y - 1);
-		g.drawString(PAUSED_MESSAGE, Game.GAME_WIDTH / 2 - PAUSED_COORDINATES.x + 1,
-				PAUSED_COORDINATES.y + 1);
-		
-		g.setColor(Color.WHITE);
-		g.drawString(PAUSED_MESSAGE, Game.GAME_WIDTH / 2 - PAUSED_COORDINATES.x,
-				PAUSED_COORDINATES.y);
+		PAUSED_LAYER.paint(g, CachedLayer.UNCHANGING);
 	}
 	
 }
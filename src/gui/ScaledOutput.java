@@ -0,0 +1,249 @@
+package gui;
+
+import game.Game;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.image.VolatileImage;
+
+/**
+ * Draws frames at the size of the game into an image of its own, and copies the image onto the
+ * screen scaled to fill as much of it as it can without changing its shape, with black bars
+ * around it. The scaling is done in the pixels of the screen, so high resolution displays scale
+ * the one copy rather than everything drawn in the frame. Since every frame is drawn at the size
+ * of the game, the images drawn ahead of time for it never need to be drawn again for a new size,
+ * and a large window costs no more to draw than a small one, apart from the one copy.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+abstract class ScaledOutput {
+	
+	/** If the frame is only scaled by whole numbers, rather than filtered to fill the screen. */
+	private final boolean isIntegerScaling;
+	
+	/** Where on the screen the frame was last drawn, in the pixels of the screen. */
+	private final Rectangle destination;
+	
+	/** Moves the drawing to the pixels of the screen, reused by each frame. */
+	private final AffineTransform screenTransform;
+	
+	/** The image each frame is drawn into, or null before the first frame. */
+	private Image buffer;
+	
+	/** The graphics configuration the image was made for. */
+	private GraphicsConfiguration configuration;
+	
+	/** If the image still holds the last frame drawn into it. */
+	private boolean isBufferKept;
+	
+	/** If the last frame was drawn straight onto the screen, since it wasn't scaled. */
+	private boolean wasUnscaled;
+	
+	/**
+	 * Constructs an output for frames.
+	 * 
+	 * @param isIntegerScaling
+	 *            If the frame is only scaled by whole numbers, so each pixel of the game covers the
+	 *            same number of pixels of the screen, rather than filtered to fill the screen.
+	 */
+	ScaledOutput(boolean isIntegerScaling) {
+		this.isIntegerScaling = isIntegerScaling;
+		destination = new Rectangle();
+		screenTransform = new AffineTransform();
+	}
+	
+	/**
+	 * Draws a frame onto a component, scaled to fit it.
+	 * 
+	 * @param g
+	 *            The graphics object of the component.
+	 * @param width
+	 *            The width of the component.
+	 * @param height
+	 *            The height of the component.
+	 * @param isKept
+	 *            If the component still holds the last frame drawn onto it with this set.
+	 */
+	final void paint(Graphics g, int width, int height, boolean isKept) {
+		if(!(g instanceof Graphics2D)) {
+			paintFrame(g, false);
+			return;
+		}
+		final Graphics2D g2 = (Graphics2D)g;
+		
+		final AffineTransform transform = g2.getTransform();
+		final int screenWidth = (int)Math.round(width * transform.getScaleX());
+		final int screenHeight = (int)Math.round(height * transform.getScaleY());
+		final int lastX = destination.x, lastY = destination.y;
+		fit(screenWidth, screenHeight, isIntegerScaling, destination);
+		
+		screenTransform.setToTranslation(transform.getTranslateX(), transform.getTranslateY());
+		g2.setTransform(screenTransform);
+		try {
+			if(destination.width == Game.GAME_WIDTH && destination.height == Game.GAME_HEIGHT) {
+				paintUnscaled(g2, isKept && wasUnscaled && destination.x == lastX
+						&& destination.y == lastY);
+				wasUnscaled = true;
+				isBufferKept = false;
+			} else {
+				paintScaled(g2);
+				wasUnscaled = false;
+			}
+			
+			final int right = destination.x + destination.width;
+			final int bottom = destination.y + destination.height;
+			g2.setColor(Color.BLACK);
+			g2.fillRect(0, 0, screenWidth, destination.y);
+			g2.fillRect(0, bottom, screenWidth, screenHeight - bottom);
+			g2.fillRect(0, destination.y, destination.x, destination.height);
+			g2.fillRect(right, destination.y, screenWidth - right, destination.height);
+		} finally {
+			g2.setTransform(transform);
+		}
+	}
+	
+	/**
+	 * Draws a frame at the size of the game.
+	 * 
+	 * @param g
+	 *            The graphics object to draw with.
+	 * @param isKept
+	 *            If the image being drawn on still holds the last frame drawn on it.
+	 */
+	protected abstract void paintFrame(Graphics g, boolean isKept);
+	
+	/**
+	 * Finds where a frame is copied onto a screen, as large as it fits while keeping its shape,
+	 * and in the middle.
+	 * 
+	 * @param width
+	 *            The width of the screen in its own pixels.
+	 * @param height
+	 *            The height of the screen in its own pixels.
+	 * @param isIntegerScaling
+	 *            If the frame is only scaled by whole numbers. It is never made smaller, even if it
+	 *            doesn't fit.
+	 * @param destination
+	 *            Set to where the frame is copied.
+	 */
+	static void fit(int width, int height, boolean isIntegerScaling, Rectangle destination) {
+		double scale =
+				Math.min((double)width / Game.GAME_WIDTH, (double)height / Game.GAME_HEIGHT);
+		if(isIntegerScaling) {
+			scale = Math.max(1, Math.floor(scale));
+		}
+		final int scaledWidth = (int)Math.round(Game.GAME_WIDTH * scale);
+		final int scaledHeight = (int)Math.round(Game.GAME_HEIGHT * scale);
+		destination.setBounds((width - scaledWidth) / 2, (height - scaledHeight) / 2,
+				Math.max(scaledWidth, 0), Math.max(scaledHeight, 0));
+	}
+	
+	/**
+	 * Draws a frame straight onto the screen where it goes, since it isn't scaled, saving the
+	 * copy.
+	 * 
+	 * @param g
+	 *            The graphics object of the screen, in its own pixels.
+	 * @param isKept
+	 *            If the screen still holds the last frame drawn onto it, in the same place.
+	 */
+	private void paintUnscaled(Graphics2D g, boolean isKept) {
+		final Shape clip = g.getClip();
+		g.translate(destination.x, destination.y);
+		g.clipRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
+		paintFrame(g, isKept);
+		g.setTransform(screenTransform);
+		g.setClip(clip);
+	}
+	
+	/**
+	 * Draws a frame into the image of the output, and copies it onto the screen scaled.
+	 * 
+	 * @param g
+	 *            The graphics object of the screen, in its own pixels.
+	 */
+	private void paintScaled(Graphics2D g) {
+		final GraphicsConfiguration target = g.getDeviceConfiguration();
+		if(buffer == null || target != configuration) {
+			buffer = createBuffer(target);
+			configuration = target;
+			isBufferKept = false;
+		}
+		
+		// Scaling by a whole number copies each pixel whole, so filtering would only blur it.
+		final Object interpolation = g.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+		if(destination.width % Game.GAME_WIDTH == 0) {
+			g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+					RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+		} else {
+			g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+					RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		}
+		
+		// Video memory can be lost at any time, and then the frame is drawn again.
+		do {
+			if(buffer instanceof VolatileImage) {
+				final int validation = ((VolatileImage)buffer).validate(configuration);
+				if(validation == VolatileImage.IMAGE_INCOMPATIBLE) {
+					buffer = createBuffer(configuration);
+				}
+				if(validation != VolatileImage.IMAGE_OK) {
+					isBufferKept = false;
+				}
+			}
+			
+			final Graphics bufferGraphics = buffer.getGraphics();
+			try {
+				paintFrame(bufferGraphics, isBufferKept);
+			} finally {
+				bufferGraphics.dispose();
+			}
+			isBufferKept = true;
+			g.drawImage(buffer, destination.x, destination.y, destination.width,
+					destination.height, null);
+		} while(isLost());
+		
+		if(interpolation != null) {
+			g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+		}
+	}
+	
+	/**
+	 * Checks if the image frames are drawn into was lost since it was checked, and if so makes
+	 * sure the next frame is drawn whole.
+	 * 
+	 * @return If the image was lost.
+	 */
+	private boolean isLost() {
+		if(buffer instanceof VolatileImage && ((VolatileImage)buffer).contentsLost()) {
+			isBufferKept = false;
+			return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Creates the image frames are drawn into, at the size of the game.
+	 * 
+	 * @param target
+	 *            The graphics configuration of the screen.
+	 * @return An image in video memory for a screen that isn't scaled, or an ordinary image
+	 *         otherwise. Images in video memory for a scaled screen are scaled themselves.
+	 */
+	private static Image createBuffer(GraphicsConfiguration target) {
+		if(target.getDevice().getType() == GraphicsDevice.TYPE_RASTER_SCREEN
+				&& target.getDefaultTransform().isIdentity()) {
+			return target.createCompatibleVolatileImage(Game.GAME_WIDTH, Game.GAME_HEIGHT);
+		}
+		return target.createCompatibleImage(Game.GAME_WIDTH, Game.GAME_HEIGHT);
+	}
+	
+}
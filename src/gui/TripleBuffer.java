@@ -0,0 +1,104 @@
+package gui;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands values from one thread that writes them to another that reads them, without either
+ * waiting on the other. The writer fills the back value and publishes it, swapping it with the
+ * value in the middle. The reader swaps the middle value for its front value whenever a newer one
+ * has been published. Each value is only ever used by one thread at a time, so the values can be
+ * reused rather than copied.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ * @param <T>
+ *            The type of the values.
+ */
+final class TripleBuffer<T> {
+	
+	/**
+	 * A value and whether it has been published since the reader last took it.
+	 * 
+	 * @author Jesse Brent
+	 * @version 1.0, 10/17/26
+	 * @param <T>
+	 *            The type of the value.
+	 */
+	private static final class Slot<T> {
+		
+		/** The value. */
+		private final T value;
+		
+		/** If the value has been published and not yet taken by the reader. */
+		private volatile boolean isFresh;
+		
+		/**
+		 * Constructs a slot holding a value.
+		 * 
+		 * @param value
+		 *            The value.
+		 */
+		private Slot(T value) {
+			this.value = value;
+		}
+		
+	}
+	
+	/** The slot between the writer and the reader. */
+	private final AtomicReference<Slot<T>> middle;
+	
+	/** The slot the writer fills. Only used by the writer. */
+	private Slot<T> back;
+	
+	/** The slot the reader reads. Only used by the reader. */
+	private Slot<T> front;
+	
+	/**
+	 * Constructs a buffer for three values. The reader starts with the first.
+	 * 
+	 * @param front
+	 *            The value the reader starts with.
+	 * @param middle
+	 *            A value for between the threads.
+	 * @param back
+	 *            The value the writer fills first.
+	 */
+	TripleBuffer(T front, T middle, T back) {
+		this.front = new Slot<T>(front);
+		this.middle = new AtomicReference<Slot<T>>(new Slot<T>(middle));
+		this.back = new Slot<T>(back);
+	}
+	
+	/**
+	 * Returns the value the writer fills before publishing it. Only called by the writer.
+	 * 
+	 * @return The back value.
+	 */
+	T getBack() {
+		return back.value;
+	}
+	
+	/**
+	 * Publishes the back value to the reader, and gives the writer another value to fill. Only
+	 * called by the writer.
+	 */
+	void publish() {
+		back.isFresh = true;
+		back = middle.getAndSet(back);
+	}
+	
+	/**
+	 * Returns the latest value published. Only called by the reader. The value stays the same
+	 * until the reader asks again.
+	 * 
+	 * @return The front value.
+	 */
+	T getLatest() {
+		if(middle.get().isFresh) {
+			front = middle.getAndSet(front);
+			front.isFresh = false;
+		}
+		return front.value;
+	}
+	
+}
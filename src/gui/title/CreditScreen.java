@@ -1,6 +1,8 @@
 package gui.title;
 
 import game.Game;
+import gui.CachedLayer;
+import gui.OutlinedText;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
@@ -24,6 +26,25 @@ public final class CreditScreen {
 	/** Font used for the credits. */
 	private static final Font CREDIT_FONT = new Font("Serif", Font.PLAIN, 24);
 	
+	/** Draws the credits, outlined. */
+	private static final OutlinedText CREDIT_STYLE =
+			new OutlinedText(CREDIT_FONT, 1, Color.BLACK, Color.WHITE);
+	
+	/** The credits, which never change. */
+	private static final CachedLayer CREDIT_LAYER = new CachedLayer() {
+		
+		/*
+		 * {@inheritDoc}
+		 * 
+		 * @see gui.CachedLayer#draw(java.awt.Graphics, int)
+		 */
+		@Override
+		protected void draw(Graphics g, int state) {
+			CREDIT_STYLE.paint(g, PROGRAM_TEXT, PROGRAM_SPOT.x, Game.GAME_HEIGHT - PROGRAM_SPOT.y);
+			CREDIT_STYLE.paint(g, MUSIC_TEXT, MUSIC_SPOT.x, Game.GAME_HEIGHT - MUSIC_SPOT.y);
+		}
+	};
+	
 	/**
 	 * CreditScreen is a utility class and cannot be instantiated.
 	 */
@@ -36,31 +57,7 @@ public final class CreditScreen {
 	 *            The graphics for the image.
 	 */
 	public static void paint(Graphics g) {
-		g.setFont(CREDIT_FONT);
-		drawOutlinedString(g, PROGRAM_TEXT, PROGRAM_SPOT.x, Game.GAME_HEIGHT - PROGRAM_SPOT.y);
-		drawOutlinedString(g, MUSIC_TEXT, MUSIC_SPOT.x, Game.GAME_HEIGHT - MUSIC_SPOT.y);
-	}
-	
-	/**
-	 * Draws a given string outlined at a position on an image.
-	 * 
-	 * @param g
-	 *            The graphics object for the image.
-	 * @param text
-	 *            The string to display.
-	 * @param x
-	 *            The X coordinate to draw the text.
-	 * @param y
-	 *            The Y coordinate to draw the text.
-	 */
-	private static void drawOutlinedString(Graphics g, String text, int x, int y) {
-		g.setColor(Color.BLACK);
-		g.drawString(text, x - 1, y - 1);
-		g.drawString(text, x - 1, y + 1);
-		g.drawString(text, x + 1, y - 1);
-		g.drawString(text, x + 1, y + 1);
-		g.setColor(Color.WHITE);
-		g.drawString(text, x, y);
+		CREDIT_LAYER.paint(g, CachedLayer.UNCHANGING);
 	}
 	
 }
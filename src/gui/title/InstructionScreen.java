@@ -1,7 +1,9 @@
 package gui.title;
 
 import game.Game;
+import gui.CachedLayer;
 import gui.GameManager;
+import gui.OutlinedText;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
@@ -37,6 +39,25 @@ public final class InstructionScreen {
 	private static final Font INSTRUCTION_FONT = new Font("Serif", Font.BOLD, 16),
 			INSTRUCTION2_FONT = new Font("Serif", Font.PLAIN, 16);
 	
+	/** Draws an instruction element, outlined. */
+	private static final OutlinedText INSTRUCTION_STYLE =
+			new OutlinedText(INSTRUCTION_FONT, 1, Color.BLACK, Color.LIGHT_GRAY),
+			INSTRUCTION2_STYLE = new OutlinedText(INSTRUCTION2_FONT, 1, Color.BLACK, Color.WHITE);
+	
+	/** The instructions, drawn again if the background changes. */
+	private static final CachedLayer INSTRUCTION_LAYER = new CachedLayer() {
+		
+		/*
+		 * {@inheritDoc}
+		 * 
+		 * @see gui.CachedLayer#draw(java.awt.Graphics, int)
+		 */
+		@Override
+		protected void draw(Graphics g, int state) {
+			paintInstructions(g, new Color(state, true));
+		}
+	};
+	
 	/** Images for instructions. */
 	private static final Image JUMP_IMAGE, LEFT_IMAGE, RIGHT_IMAGE, DEATH_IMAGE;
 	
@@ -61,6 +82,18 @@ public final class InstructionScreen {
 	 *            The color for the background.
 	 */
 	public static void paint(Graphics g, Color background) {
+		INSTRUCTION_LAYER.paint(g, background.getRGB());
+	}
+	
+	/**
+	 * Draws the instructions onto an image.
+	 * 
+	 * @param g
+	 *            The graphics for the image.
+	 * @param background
+	 *            The color for the background.
+	 */
+	private static void paintInstructions(Graphics g, Color background) {
 		g.setColor(background);
 		g.fillRect(Game.GAME_WIDTH / 2 - BOX_SPOT.x, BOX_SPOT.y, BOX_SIZE.x, BOX_SIZE.y);
 		g.setColor(Color.LIGHT_GRAY);
@@ -71,53 +104,21 @@ public final class InstructionScreen {
 		g.drawImage(LEFT_IMAGE, Game.GAME_WIDTH / 2 - LEFT_I_SPOT.x, LEFT_I_SPOT.y, null);
 		g.drawImage(DEATH_IMAGE, Game.GAME_WIDTH / 2 + DEATH_I_SPOT.x, DEATH_I_SPOT.y, null);
 		
-		g.setFont(INSTRUCTION_FONT);
-		drawOutlinedString(g, JUMP_TEXT, Game.GAME_WIDTH / 2 - JUMP_SPOT.x, JUMP_SPOT.y,
-				Color.LIGHT_GRAY);
-		drawOutlinedString(g, RIGHT_TEXT, Game.GAME_WIDTH / 2 + RIGHT_SPOT.x, RIGHT_SPOT.y,
-				Color.LIGHT_GRAY);
-		drawOutlinedString(g, LEFT_TEXT, Game.GAME_WIDTH / 2 - LEFT_SPOT.x, LEFT_SPOT.y,
-				Color.LIGHT_GRAY);
-		drawOutlinedString(g, SUICIDE_TEXT, Game.GAME_WIDTH / 2 + SUICIDE_SPOT.x, SUICIDE_SPOT.y,
-				Color.LIGHT_GRAY);
-		drawOutlinedString(g, PAUSE_TEXT, Game.GAME_WIDTH / 2 - PAUSE_SPOT.x, PAUSE_SPOT.y,
-				Color.LIGHT_GRAY);
+		INSTRUCTION_STYLE.paint(g, JUMP_TEXT, Game.GAME_WIDTH / 2 - JUMP_SPOT.x, JUMP_SPOT.y);
+		INSTRUCTION_STYLE.paint(g, RIGHT_TEXT, Game.GAME_WIDTH / 2 + RIGHT_SPOT.x, RIGHT_SPOT.y);
+		INSTRUCTION_STYLE.paint(g, LEFT_TEXT, Game.GAME_WIDTH / 2 - LEFT_SPOT.x, LEFT_SPOT.y);
+		INSTRUCTION_STYLE.paint(g, SUICIDE_TEXT, Game.GAME_WIDTH / 2 + SUICIDE_SPOT.x,
+				SUICIDE_SPOT.y);
+		INSTRUCTION_STYLE.paint(g, PAUSE_TEXT, Game.GAME_WIDTH / 2 - PAUSE_SPOT.x, PAUSE_SPOT.y);
 		
-		g.setFont(INSTRUCTION2_FONT);
-		drawOutlinedString(g, JUMP2_TEXT, Game.GAME_WIDTH / 2 - JUMP2_SPOT.x, JUMP2_SPOT.y,
-				Color.WHITE);
-		drawOutlinedString(g, RIGHT2_TEXT, Game.GAME_WIDTH / 2 + RIGHT2_SPOT.x, RIGHT2_SPOT.y,
-				Color.WHITE);
-		drawOutlinedString(g, LEFT2_TEXT, Game.GAME_WIDTH / 2 - LEFT2_SPOT.x, LEFT2_SPOT.y,
-				Color.WHITE);
-		drawOutlinedString(g, SUICID2_TEXT, Game.GAME_WIDTH / 2 + SUICID2_SPOT.x, SUICID2_SPOT.y,
-				Color.WHITE);
-		drawOutlinedString(g, PAUSE2_TEXT, Game.GAME_WIDTH / 2 - PAUSE2_SPOT.x, PAUSE2_SPOT.y,
-				Color.WHITE);
-	}
-	
-	/**
-	 * Draws a given string outlined at a position on an image.
-	 * 
-	 * @param g
-	 *            The graphics object for the image.
-	 * @param text
-	 *            The string to display.
-	 * @param x
-	 *            The X coordinate to draw the text.
-	 * @param y
-	 *            The Y coordinate to draw the text.
-	 * @param color
-	 *            The color of the outlined text.
-	 */
-	private static void drawOutlinedString(Graphics g, String text, int x, int y, Color color) {
-		g.setColor(Color.BLACK);
-		g.drawString(text, x - 1, y - 1);
-		g.drawString(text, x - 1, y + 1);
-		g.drawString(text, x + 1, y - 1);
-		g.drawString(text, x + 1, y + 1);
-		g.setColor(color);
-		g.drawString(text, x, y);
+		INSTRUCTION2_STYLE.paint(g, JUMP2_TEXT, Game.GAME_WIDTH / 2 - JUMP2_SPOT.x, JUMP2_SPOT.y);
+		INSTRUCTION2_STYLE.paint(g, RIGHT2_TEXT, Game.GAME_WIDTH / 2 + RIGHT2_SPOT.x,
+				RIGHT2_SPOT.y);
+		INSTRUCTION2_STYLE.paint(g, LEFT2_TEXT, Game.GAME_WIDTH / 2 - LEFT2_SPOT.x, LEFT2_SPOT.y);
+		INSTRUCTION2_STYLE.paint(g, SUICID2_TEXT, Game.GAME_WIDTH / 2 + SUICID2_SPOT.x,
+				SUICID2_SPOT.y);
+		INSTRUCTION2_STYLE.paint(g, PAUSE2_TEXT, Game.GAME_WIDTH / 2 - PAUSE2_SPOT.x,
+				PAUSE2_SPOT.y);
 	}
 	
 }
@@ -2,8 +2,12 @@ package gui.title;
 
 import game.Game;
 import game.generators.BlockGenerator;
-import game.objects.Block;
+import game.generators.SeededRandom;
+import game.objects.Rubble;
+import game.objects.RubbleSnapshot;
+import gui.CachedLayer;
 import gui.GameManager;
+import gui.OutlinedText;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
@@ -11,9 +15,6 @@ import java.awt.Image;
 import java.awt.Point;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * The title screen for the game.
@@ -50,6 +51,16 @@ public final class TitleScreen implements KeyListener {
 			BLINK_FONT = new Font("Serif", Font.BOLD, 30), MENU_FONT = new Font("Serif",
 					Font.BOLD, 24);
 	
+	/** Draws a title element, outlined. */
+	private static final OutlinedText TITLE_STYLE =
+			new OutlinedText(TITLE_FONT, 2, Color.BLACK, Color.LIGHT_GRAY),
+			BLINK_STYLE = new OutlinedText(BLINK_FONT, 1, Color.BLACK, Color.WHITE),
+			MENU_STYLE = new OutlinedText(MENU_FONT, 1, Color.BLACK, Color.LIGHT_GRAY);
+	
+	/** Draws the selected menu element over its outlined text. */
+	private static final OutlinedText SELECTED_STYLE =
+			new OutlinedText(MENU_FONT, 0, Color.BLACK, Color.WHITE);
+	
 	/** Color used for the background. */
 	private static final Color BACKGROUND = Color.DARK_GRAY;
 	
@@ -59,11 +70,56 @@ public final class TitleScreen implements KeyListener {
 	/** How many frames for the blink effect. */
 	private static final int BLINK_FRAMES = 25;
 	
+	/** The title, which never changes. */
+	private static final CachedLayer TITLE_LAYER = new CachedLayer() {
+		
+		/*
+		 * {@inheritDoc}
+		 * 
+		 * @see gui.CachedLayer#draw(java.awt.Graphics, int)
+		 */
+		@Override
+		protected void draw(Graphics g, int state) {
+			TITLE_STYLE.paint(g, TITLE_TEXT, Game.GAME_WIDTH / 2 - TITLE_SPOT.x, TITLE_SPOT.y);
+		}
+	};
+	
+	/** The start message, which blinks. */
+	private static final CachedLayer BLINK_LAYER = new CachedLayer() {
+		
+		/*
+		 * {@inheritDoc}
+		 * 
+		 * @see gui.CachedLayer#draw(java.awt.Graphics, int)
+		 */
+		@Override
+		protected void draw(Graphics g, int state) {
+			BLINK_STYLE.paint(g, BLINK_TEXT, Game.GAME_WIDTH / 2 - BLINK_SPOT.x, BLINK_SPOT.y);
+		}
+	};
+	
+	/** The menu, drawn again when the selection changes. */
+	private static final CachedLayer MENU_LAYER = new CachedLayer() {
+		
+		/*
+		 * {@inheritDoc}
+		 * 
+		 * @see gui.CachedLayer#draw(java.awt.Graphics, int)
+		 */
+		@Override
+		protected void draw(Graphics g, int state) {
+			paintMenu(g, SelectionState.values()[state]);
+		}
+	};
+	
 	/** Images for instructions. */
 	private static final Image SELECTION_IMAGE = GameManager.loadImage("Jump1Right.png");
 	
-	/** The block objects for the title. */
-	private final List<Block> blocks;
+	/** The blocks of rubble for the title. */
+	private final Rubble blocks;
+	
+	/** Generates the blocks of rubble for the title. */
+	private final BlockGenerator generator;
 	
 	/** The current selection in the menu. */
 	private SelectionState selection;
@@ -78,7 +134,8 @@ public final class TitleScreen implements KeyListener {
 	 * Constructs the title screen for the game.
 	 */
 	public TitleScreen() {
-		blocks = new LinkedList<Block>();
+		blocks = new Rubble();
+		generator = new BlockGenerator(SeededRandom.newSeed());
 		reset();
 	}
 	
@@ -98,18 +155,13 @@ public final class TitleScreen implements KeyListener {
 	 * Advances the title screen animation by one frame.
 	 */
 	public void step() {
-		Block.step(blocks);
+		blocks.step();
 		
-		if(BlockGenerator.shouldGenerateBlock() || BlockGenerator.shouldGenerateBlock()) {
-			blocks.add(BlockGenerator.generateTitleBlock());
+		if(generator.shouldGenerateBlock() || generator.shouldGenerateBlock()) {
+			blocks.add(generator.generateTitleBlock());
 		}
 		
-		final Iterator<Block> itr = blocks.iterator();
-		while(itr.hasNext()) {
-			if(itr.next().getYOfTop() < 0) {
-				itr.remove();
-			}
-		}
+		blocks.removeBelow(0, 0);
 		
 		blinkTimer = (blinkTimer + 1) % (2 * BLINK_FRAMES);
 	}
@@ -123,41 +175,77 @@ public final class TitleScreen implements KeyListener {
 		return canPlayGame;
 	}
 	
+	/**
+	 * Copies the blocks of rubble for the title into a snapshot, so they can be drawn on another
+	 * thread while the title keeps stepping.
+	 * 
+	 * @param snapshot
+	 *            The snapshot to copy into.
+	 */
+	public void capture(RubbleSnapshot snapshot) {
+		blocks.capture(snapshot, Game.GAME_HEIGHT, 0);
+	}
+	
+	/**
+	 * Returns whether the start message is shown as it blinks.
+	 * 
+	 * @return If the start message is shown.
+	 */
+	public boolean isStartShown() {
+		return blinkTimer > BLINK_FRAMES;
+	}
+	
 	/**
 	 * Draws the title screen onto an image.
 	 * 
 	 * @param g
 	 *            The graphics for the image.
+	 * @param titleBlocks
+	 *            The blocks of rubble for the title, as copied by {@link #capture(RubbleSnapshot)}.
+	 * @param isStartShown
+	 *            If the start message is shown.
+	 * @param alpha
+	 *            How far between the last two steps to draw the blocks, from 0 to 1.
 	 */
-	public void paint(Graphics g) {
+	public void paint(Graphics g, RubbleSnapshot titleBlocks, boolean isStartShown,
+			double alpha) {
 		// Background.
 		g.setColor(BACKGROUND);
 		g.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
 		
-		for(final Block block : blocks) {
-			block.paint(g, Game.GAME_HEIGHT, 0);
-		}
+		titleBlocks.paint(g, Game.GAME_HEIGHT, alpha);
 		
 		// Title.
-		g.setFont(TITLE_FONT);
-		g.setColor(Color.BLACK);
-		g.drawString(TITLE_TEXT, Game.GAME_WIDTH / 2 - TITLE_SPOT.x - 2, TITLE_SPOT.y - 2);
-		g.drawString(TITLE_TEXT, Game.GAME_WIDTH / 2 - TITLE_SPOT.x - 2, TITLE_SPOT.y + 2);
-		g.drawString(TITLE_TEXT, Game.GAME_WIDTH / 2 - TITLE_SPOT.x + 2, TITLE_SPOT.y - 2);
-		g.drawString(TITLE_TEXT, Game.GAME_WIDTH / 2 - TITLE_SPOT.x + 2, TITLE_SPOT.y + 2);
-		drawStringOutline(g, TITLE_TEXT, Game.GAME_WIDTH / 2 - TITLE_SPOT.x, TITLE_SPOT.y);
-		g.setColor(Color.LIGHT_GRAY);
-		g.drawString(TITLE_TEXT, Game.GAME_WIDTH / 2 - TITLE_SPOT.x, TITLE_SPOT.y);
+		TITLE_LAYER.paint(g, CachedLayer.UNCHANGING);
 		
 		// Start message.
-		if(blinkTimer > BLINK_FRAMES) {
-			g.setFont(BLINK_FONT);
-			g.setColor(Color.BLACK);
-			drawStringOutline(g, BLINK_TEXT, Game.GAME_WIDTH / 2 - BLINK_SPOT.x, BLINK_SPOT.y);
-			g.setColor(Color.WHITE);
-			g.drawString(BLINK_TEXT, Game.GAME_WIDTH / 2 - BLINK_SPOT.x, BLINK_SPOT.y);
+		if(isStartShown) {
+			BLINK_LAYER.paint(g, CachedLayer.UNCHANGING);
+		}
+		
+		// Menu.
+		MENU_LAYER.paint(g, selection.ordinal());
+		
+		// Credits.
+		if(showCredits) {
+			CreditScreen.paint(g);
 		}
 		
+		// Instructions.
+		if(showInstructions) {
+			InstructionScreen.paint(g, BACKGROUND);
+		}
+	}
+	
+	/**
+	 * Draws the menu onto an image.
+	 * 
+	 * @param g
+	 *            The graphics for the image.
+	 * @param selected
+	 *            The selected menu entry.
+	 */
+	private static void paintMenu(Graphics g, SelectionState selected) {
 		// Menu box.
 		g.setColor(BACKGROUND);
 		g.fillRect(Game.GAME_WIDTH / 2 - MENU_SPOT.x, MENU_SPOT.y, MENU_SPOT.x * 2, MENU_HEIGHT);
@@ -165,70 +253,37 @@ public final class TitleScreen implements KeyListener {
 		g.drawRect(Game.GAME_WIDTH / 2 - MENU_SPOT.x, MENU_SPOT.y, MENU_SPOT.x * 2, MENU_HEIGHT);
 		
 		// Default menu setup.
-		g.setFont(MENU_FONT);
-		g.setColor(Color.BLACK);
-		drawStringOutline(g, START_TEXT, Game.GAME_WIDTH / 2 - START_SPOT.x, START_SPOT.y);
-		drawStringOutline(g, HELP_TEXT, Game.GAME_WIDTH / 2 - HELP_SPOT.x, HELP_SPOT.y);
-		drawStringOutline(g, CREDIT_TEXT, Game.GAME_WIDTH / 2 - CREDIT_SPOT.x, CREDIT_SPOT.y);
-		g.setColor(Color.LIGHT_GRAY);
-		g.drawString(START_TEXT, Game.GAME_WIDTH / 2 - START_SPOT.x, START_SPOT.y);
-		g.drawString(HELP_TEXT, Game.GAME_WIDTH / 2 - HELP_SPOT.x, HELP_SPOT.y);
-		g.drawString(CREDIT_TEXT, Game.GAME_WIDTH / 2 - CREDIT_SPOT.x, CREDIT_SPOT.y);
+		MENU_STYLE.paint(g, START_TEXT, Game.GAME_WIDTH / 2 - START_SPOT.x, START_SPOT.y);
+		MENU_STYLE.paint(g, HELP_TEXT, Game.GAME_WIDTH / 2 - HELP_SPOT.x, HELP_SPOT.y);
+		MENU_STYLE.paint(g, CREDIT_TEXT, Game.GAME_WIDTH / 2 - CREDIT_SPOT.x, CREDIT_SPOT.y);
 		
 		// Menu selection.
-		g.setColor(Color.WHITE);
-		switch(selection) {
+		switch(selected) {
 			case PLAY: {
 				g.drawImage(SELECTION_IMAGE, Game.GAME_WIDTH / 2 - MENU_SPOT.x + SELECT_MOD.x,
 						START_SPOT.y - SELECT_MOD.y, SELECT_SCALE.x, SELECT_SCALE.y, null);
-				g.drawString(START_TEXT, Game.GAME_WIDTH / 2 - START_SPOT.x, START_SPOT.y);
+				SELECTED_STYLE.paint(g, START_TEXT, Game.GAME_WIDTH / 2 - START_SPOT.x,
+						START_SPOT.y);
 				break;
 			}
 			case INSTRUCTION: {
 				g.drawImage(SELECTION_IMAGE, Game.GAME_WIDTH / 2 - MENU_SPOT.x + SELECT_MOD.x,
 						HELP_SPOT.y - SELECT_MOD.y, SELECT_SCALE.x, SELECT_SCALE.y, null);
-				g.drawString(HELP_TEXT, Game.GAME_WIDTH / 2 - HELP_SPOT.x, HELP_SPOT.y);
+				SELECTED_STYLE.paint(g, HELP_TEXT, Game.GAME_WIDTH / 2 - HELP_SPOT.x,
+						HELP_SPOT.y);
 				break;
 			}
 			case CREDIT: {
 				g.drawImage(SELECTION_IMAGE, Game.GAME_WIDTH / 2 - MENU_SPOT.x + SELECT_MOD.x,
 						CREDIT_SPOT.y - SELECT_MOD.y, SELECT_SCALE.x, SELECT_SCALE.y, null);
-				g.drawString(CREDIT_TEXT, Game.GAME_WIDTH / 2 - CREDIT_SPOT.x, CREDIT_SPOT.y);
+				SELECTED_STYLE.paint(g, CREDIT_TEXT, Game.GAME_WIDTH / 2 - CREDIT_SPOT.x,
+						CREDIT_SPOT.y);
 				break;
 			}
 			default: {
 				break;
 			}
 		}
-		
-		// Credits.
-		if(showCredits) {
-			CreditScreen.paint(g);
-		}
-		
-		// Instructions.
-		if(showInstructions) {
-			InstructionScreen.paint(g, BACKGROUND);
-		}
-	}
-	
-	/**
-	 * Draws a given string outline at a position on an image.
-	 * 
-	 * @param g
-	 *            The graphics object for the image.
-	 * @param text
-	 *            The string to display.
-	 * @param x
-	 *            The X coordinate to draw the text.
-	 * @param y
-	 *            The Y coordinate to draw the text.
-	 */
-	private static void drawStringOutline(Graphics g, String text, int x, int y) {
-		g.drawString(text, x - 1, y - 1);
-		g.drawString(text, x - 1, y + 1);
-		g.drawString(text, x + 1, y - 1);
-		g.drawString(text, x + 1, y + 1);
 	}
 	
 	/*
@@ -2,6 +2,8 @@ package game;
 
 import game.generators.AllGeneratorsTests;
 import game.objects.AllObjectsTests;
+import game.replay.AllReplayTests;
+import game.simulation.AllSimulationTests;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
@@ -12,5 +14,7 @@ import org.junit.runners.Suite;
  * @version 1.0, 01/29/11
  */
 @RunWith(Suite.class)
-@Suite.SuiteClasses({ AllGeneratorsTests.class, AllObjectsTests.class })
+@Suite.SuiteClasses({ AllGeneratorsTests.class, AllObjectsTests.class, AllReplayTests.class,
+		AllSimulationTests.class, DirtyRectangleRendererTests.class, GameParametersTests.class,
+		GameTests.class, GradientSkyTests.class })
 public class AllGameTests {}
@@ -0,0 +1,155 @@
+package game;
+
+import static org.junit.Assert.assertArrayEquals;
+import gui.GameoverScreen;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link game.DirtyRectangleRenderer}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class DirtyRectangleRendererTests {
+	
+	/** How many games each test plays. */
+	private static final int GAMES_TO_PLAY = 4;
+	
+	/** How many steps of each game are drawn. */
+	private static final int STEPS_TO_DRAW = 300;
+	
+	/** How many frames are drawn between each step, at most. */
+	private static final int MAX_FRAMES_PER_STEP = 3;
+	
+	/** How many steps random input holds its keys for, on average. */
+	private static final int HOLD_STEPS = 10;
+	
+	/** One in how many frames drawn onto an image that keeps them is drawn some other way. */
+	private static final int UNKEPT_ODDS = 20;
+	
+	/** Controls all the randomization for the tests. */
+	private static final Random RANDOMIZER = new Random();
+	
+	/**
+	 * Test method for
+	 * {@link game.DirtyRectangleRenderer#paint(Graphics, GameSnapshot, double, GradientSky, GameoverScreen, boolean)}.
+	 */
+	@Test
+	public void testPaint_SameAsWholeFrames() {
+		for(int i = 0; i < GAMES_TO_PLAY; i++) {
+			playAndCompare(null, null, false);
+		}
+	}
+	
+	/**
+	 * Test method for
+	 * {@link game.DirtyRectangleRenderer#paint(Graphics, GameSnapshot, double, GradientSky, GameoverScreen, boolean)}.
+	 */
+	@Test
+	public void testPaint_KeptSameAsWholeFrames() {
+		for(int i = 0; i < GAMES_TO_PLAY; i++) {
+			playAndCompare(null, null, true);
+		}
+	}
+	
+	/**
+	 * Test method for
+	 * {@link game.DirtyRectangleRenderer#paint(Graphics, GameSnapshot, double, GradientSky, GameoverScreen, boolean)}.
+	 */
+	@Test
+	public void testPaint_GradientSkySameAsWholeFrames() {
+		for(int i = 0; i < GAMES_TO_PLAY; i++) {
+			playAndCompare(new GradientSky(), null, true);
+		}
+	}
+	
+	/**
+	 * Test method for
+	 * {@link game.DirtyRectangleRenderer#paint(Graphics, GameSnapshot, double, GradientSky, GameoverScreen, boolean)}.
+	 */
+	@Test
+	public void testPaint_GameoverSameAsWholeFrames() {
+		for(int i = 0; i < GAMES_TO_PLAY; i++) {
+			playAndCompare(null, new GameoverScreen(), true);
+		}
+	}
+	
+	/**
+	 * Plays a game with random input, drawing each step both with a renderer and whole, and checks
+	 * every frame is the same.
+	 * 
+	 * @param sky
+	 *            The sky drawn behind the game, or null for one color.
+	 * @param gameover
+	 *            The game over screen drawn once the player dies, or null to never draw it.
+	 * @param isKept
+	 *            If the frames are mostly drawn straight onto the image, which keeps them. Now and
+	 *            then a frame is drawn through the renderer's own image, or over with black.
+	 */
+	private static void playAndCompare(GradientSky sky, GameoverScreen gameover,
+			boolean isKept) {
+		final Game testGame = new Game(new SilentAudio(), RANDOMIZER.nextLong());
+		testGame.start();
+		final GameSnapshot testSnapshot = new GameSnapshot();
+		final DirtyRectangleRenderer testRenderer = new DirtyRectangleRenderer();
+		
+		final BufferedImage testImage =
+				new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		final BufferedImage wholeImage =
+				new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		final Graphics testGraphics = testImage.getGraphics();
+		final Graphics wholeGraphics = wholeImage.getGraphics();
+		
+		int testKeys = 0;
+		for(int step = 0; step < STEPS_TO_DRAW; step++) {
+			if(RANDOMIZER.nextInt(HOLD_STEPS) == 0) {
+				testKeys = RANDOMIZER.nextInt(1 << 7);
+			}
+			testGame.step(testKeys);
+			testGame.capture(testSnapshot);
+			if(testSnapshot.isHidden) {
+				break;
+			}
+			
+			final GameoverScreen testOverlay = testGame.isAlive() ? null : gameover;
+			final int testFrames = RANDOMIZER.nextInt(MAX_FRAMES_PER_STEP + 1);
+			for(int frame = 0; frame < testFrames; frame++) {
+				final double testAlpha = RANDOMIZER.nextDouble();
+				final boolean testKept = isKept && RANDOMIZER.nextInt(UNKEPT_ODDS) != 0;
+				if(isKept && RANDOMIZER.nextInt(UNKEPT_ODDS) == 0) {
+					testGraphics.setColor(Color.BLACK);
+					testGraphics.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
+					testRenderer.invalidate();
+				}
+				testRenderer.paint(testGraphics, testSnapshot, testAlpha, sky, testOverlay,
+						testKept);
+				testSnapshot.paint(wholeGraphics, testAlpha, sky);
+				if(testOverlay != null) {
+					testOverlay.paint(wholeGraphics);
+				}
+				
+				assertArrayEquals("Frame " + step + "." + frame + " isn't the same as drawn whole.",
+						getPixels(wholeImage), getPixels(testImage));
+			}
+		}
+		
+		testGraphics.dispose();
+		wholeGraphics.dispose();
+	}
+	
+	/**
+	 * Returns the pixels of an image.
+	 * 
+	 * @param image
+	 *            The image.
+	 * @return The RGB of each pixel, row by row.
+	 */
+	private static int[] getPixels(BufferedImage image) {
+		return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+	}
+	
+}
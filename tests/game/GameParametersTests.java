@@ -0,0 +1,77 @@
+package game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link game.GameParameters}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class GameParametersTests {
+	
+	/** How many times each test will repeat with new values. */
+	private static final int TIMES_TO_RUN_TESTS = 200;
+	
+	/** The largest block chance and jump power tried. */
+	private static final int MAX_VALUE = 100;
+	
+	/** Controls all the randomization for the tests. */
+	private static final Random RANDOMIZER = new Random();
+	
+	/**
+	 * Test method for {@link game.GameParameters#GameParameters(int, double, int)}.
+	 */
+	@Test
+	public void testGameParameters_ValuesKept() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final int testChance = RANDOMIZER.nextInt(MAX_VALUE) + 1;
+			final double testRise = RANDOMIZER.nextDouble() + Double.MIN_VALUE;
+			final int testPower = RANDOMIZER.nextInt(MAX_VALUE) + 1;
+			final GameParameters testParameters =
+					new GameParameters(testChance, testRise, testPower);
+			
+			assertEquals("Block chance wasn't kept.", testChance, testParameters
+					.getBlockChance());
+			assertEquals("Water rise wasn't kept.", testRise, testParameters.getWaterRise(), 0);
+			assertEquals("Jump power wasn't kept.", testPower, testParameters.getJumpPower());
+			assertEquals("Same values aren't equal.", testParameters, new GameParameters(
+					testChance, testRise, testPower));
+			assertEquals("Same values hash differently.", testParameters.hashCode(),
+					new GameParameters(testChance, testRise, testPower).hashCode());
+			assertFalse("Different values are equal.", testParameters.equals(new GameParameters(
+					testChance + 1, testRise, testPower)));
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.GameParameters#GameParameters(int, double, int)}.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testGameParameters_NoBlockChance() {
+		new GameParameters(0, GameParameters.DEFAULT.getWaterRise(), GameParameters.DEFAULT
+				.getJumpPower());
+	}
+	
+	/**
+	 * Test method for {@link game.GameParameters#GameParameters(int, double, int)}.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testGameParameters_NoWaterRise() {
+		new GameParameters(GameParameters.DEFAULT.getBlockChance(), Double.NaN,
+				GameParameters.DEFAULT.getJumpPower());
+	}
+	
+	/**
+	 * Test method for {@link game.GameParameters#GameParameters(int, double, int)}.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testGameParameters_NoJumpPower() {
+		new GameParameters(GameParameters.DEFAULT.getBlockChance(), GameParameters.DEFAULT
+				.getWaterRise(), -1);
+	}
+	
+}
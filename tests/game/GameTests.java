@@ -0,0 +1,191 @@
+package game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link game.Game}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class GameTests {
+	
+	/** How many times each test will repeat with new values. */
+	private static final int TIMES_TO_RUN_TESTS = 20;
+	
+	/** The most steps a player left alone can survive the rising water. */
+	private static final int MAX_STEPS_ALIVE = 10000;
+	
+	/** The most steps a game is played with random keys before it is saved. */
+	private static final int MAX_STEPS_BEFORE_SAVE = 2000;
+	
+	/** How many steps a saved and a restored game are compared over. */
+	private static final int STEPS_AFTER_RESTORE = 500;
+	
+	/** How many times faster than the default the water rises in a game with other parameters. */
+	private static final double FAST_WATER = 4;
+	
+	/** Controls all the randomization for the tests. */
+	private static final Random RANDOMIZER = new Random();
+	
+	/**
+	 * Test method for {@link game.Game#step()}.
+	 */
+	@Test
+	public void testStep_RunsSilently() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final Game testGame = new Game(new SilentAudio());
+			testGame.start();
+			
+			stepUntilDead(testGame);
+			testGame.stop();
+			
+			assertFalse("Player left alone outlived the water.", testGame.isAlive());
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.Game#reset(long)}.
+	 */
+	@Test
+	public void testReset_SameSeedSameGame() {
+		final long testSeed = new Random().nextLong();
+		final Game testGame = new Game(new SilentAudio(), testSeed);
+		final int testSteps = stepUntilDead(testGame);
+		
+		testGame.reset(testSeed);
+		assertEquals("Game with the same seed played out differently.", testSteps,
+				stepUntilDead(testGame));
+		assertEquals("Game forgot its seed.", testSeed, testGame.getSeed());
+	}
+	
+	/**
+	 * Test method for {@link game.Game#getParameters()}.
+	 */
+	@Test
+	public void testGetParameters_RulesKeptThroughReset() {
+		final long testSeed = RANDOMIZER.nextLong();
+		final double testRise = GameParameters.DEFAULT.getWaterRise() * FAST_WATER;
+		final GameParameters testParameters =
+				new GameParameters(GameParameters.DEFAULT.getBlockChance(), testRise,
+						GameParameters.DEFAULT.getJumpPower());
+		final Game testGame = new Game(new SilentAudio(), testSeed, testParameters);
+		final int testFastSteps = stepUntilDead(testGame);
+		
+		testGame.reset(testSeed);
+		assertSame("Game forgot its parameters.", testParameters, testGame.getParameters());
+		assertEquals("Reset game played out differently.", testFastSteps,
+				stepUntilDead(testGame));
+		assertTrue("Faster water didn't drown the player sooner.",
+				testFastSteps <= stepUntilDead(new Game(new SilentAudio(), testSeed)));
+	}
+	
+	/**
+	 * Test method for {@link game.Game#restore(java.io.DataInput)}.
+	 * 
+	 * @throws IOException
+	 *             If a game can't be saved or restored.
+	 */
+	@Test
+	public void testRestore_PlaysLikeSavedGame() throws IOException {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final Game testGame = new Game(new SilentAudio(), RANDOMIZER.nextLong());
+			final int testStepsBefore = RANDOMIZER.nextInt(MAX_STEPS_BEFORE_SAVE);
+			for(int j = 0; j < testStepsBefore; j++) {
+				testGame.step(RANDOMIZER.nextInt(1 << 7));
+			}
+			
+			final Game testRestored = new Game(new SilentAudio(), RANDOMIZER.nextLong());
+			testRestored.restore(new DataInputStream(new ByteArrayInputStream(save(testGame))));
+			assertArrayEquals("Restored game differs from the saved game.", save(testGame),
+					save(testRestored));
+			
+			for(int j = 0; j < STEPS_AFTER_RESTORE; j++) {
+				final int testKeys = RANDOMIZER.nextInt(1 << 7);
+				testGame.step(testKeys);
+				testRestored.step(testKeys);
+			}
+			assertArrayEquals("Restored game played out differently.", save(testGame),
+					save(testRestored));
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.Game#start()} and {@link game.Game#stop()}.
+	 */
+	@Test
+	public void testStartStop_PlaysMusic() {
+		final int[] testPlays = new int[2];
+		final Game testGame = new Game(new GameAudio() {
+			/*
+			 * {@inheritDoc}
+			 * 
+			 * @see game.GameAudio#playMusic()
+			 */
+			@Override
+			public void playMusic() {
+				testPlays[0]++;
+			}
+			
+			/*
+			 * {@inheritDoc}
+			 * 
+			 * @see game.GameAudio#stopMusic()
+			 */
+			@Override
+			public void stopMusic() {
+				testPlays[1]++;
+			}
+		});
+		
+		testGame.start();
+		assertEquals("Music didn't start.", 1, testPlays[0]);
+		testGame.stop();
+		assertEquals("Music didn't stop.", 1, testPlays[1]);
+	}
+	
+	/**
+	 * Steps a game until the player dies, or for as long as a player left alone could survive.
+	 * 
+	 * @param game
+	 *            The game.
+	 * @return How many steps the game took.
+	 */
+	private static int stepUntilDead(Game game) {
+		int steps = 0;
+		while(game.isAlive() && steps < MAX_STEPS_ALIVE) {
+			game.step();
+			steps++;
+		}
+		return steps;
+	}
+	
+	/**
+	 * Saves the state of a game.
+	 * 
+	 * @param game
+	 *            The game.
+	 * @return The state.
+	 * @throws IOException
+	 *             If the state can't be saved.
+	 */
+	private static byte[] save(Game game) throws IOException {
+		final ByteArrayOutputStream state = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(state);
+		game.save(out);
+		out.close();
+		return state.toByteArray();
+	}
+	
+}
@@ -0,0 +1,60 @@
+package game;
+
+import static org.junit.Assert.assertEquals;
+import game.generators.BackgroundGenerator;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link game.GradientSky}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class GradientSkyTests {
+	
+	/** How many times each test will repeat with new values. */
+	private static final int TIMES_TO_RUN_TESTS = 500;
+	
+	/** Controls all the randomization for the tests. */
+	private static final Random RANDOMIZER = new Random();
+	
+	/**
+	 * Test method for {@link game.GradientSky#paint(java.awt.Graphics, int)}.
+	 */
+	@Test
+	public void testPaint_EachRowAtItsAltitude() {
+		final GradientSky testSky = new GradientSky();
+		final BufferedImage testImage =
+				new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		final Graphics testGraphics = testImage.getGraphics();
+		
+		int testTop = RANDOMIZER.nextInt(100000);
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			
+			// The screen mostly moves a little either way, but sometimes jumps.
+			switch(RANDOMIZER.nextInt(4)) {
+				case 0:
+					testTop = RANDOMIZER.nextInt(100000) - 50000;
+					break;
+				case 1:
+					break;
+				default:
+					testTop += RANDOMIZER.nextInt(41) - 20;
+					break;
+			}
+			testSky.paint(testGraphics, testTop);
+			
+			for(int row = 0; row < Game.GAME_HEIGHT; row++) {
+				final int testX = RANDOMIZER.nextInt(Game.GAME_WIDTH);
+				assertEquals("Row " + row + " has the wrong color.", BackgroundGenerator
+						.generateBackgroundRgb(testTop - row), testImage.getRGB(testX, row)
+						& 0xFFFFFF);
+			}
+		}
+		testGraphics.dispose();
+	}
+	
+}
@@ -10,5 +10,6 @@ import org.junit.runners.Suite;
  * @version 1.0, 01/29/11
  */
 @RunWith(Suite.class)
-@Suite.SuiteClasses({ BackgroundGeneratorTests.class, BlockGeneratorTests.class })
+@Suite.SuiteClasses({ BackgroundGeneratorTests.class, BlockGeneratorTests.class,
+		SeededRandomTests.class })
 public final class AllGeneratorsTests {}
@@ -1,5 +1,8 @@
 package game.generators;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import java.awt.Color;
 import java.util.Random;
 import org.junit.Test;
 
@@ -27,4 +30,89 @@ public final class BackgroundGeneratorTests {
 		}
 	}
 	
+	/**
+	 * Test method for {@link game.generators.BackgroundGenerator#generateBackgroundColor(int)}.
+	 */
+	@Test
+	public void testGenerateBackgroundColor_SameAsWorkedOut() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final int testAltitude = RANDOMIZER.nextInt();
+			assertEquals("Color differs for altitude " + testAltitude + ".",
+					workOutColor(testAltitude), BackgroundGenerator
+							.generateBackgroundColor(testAltitude));
+		}
+		for(final int testAltitude : new int[] { 0, 1, -1, Integer.MAX_VALUE, Integer.MIN_VALUE }) {
+			assertEquals("Color differs for altitude " + testAltitude + ".",
+					workOutColor(testAltitude), BackgroundGenerator
+							.generateBackgroundColor(testAltitude));
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.generators.BackgroundGenerator#generateBackgroundColor(int)}.
+	 */
+	@Test
+	public void testGenerateBackgroundColor_SameColorObject() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final int testAltitude = RANDOMIZER.nextInt(Integer.MAX_VALUE);
+			assertSame("Color was made again.", BackgroundGenerator
+					.generateBackgroundColor(testAltitude), BackgroundGenerator
+					.generateBackgroundColor(-testAltitude));
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.generators.BackgroundGenerator#generateBackgroundRgb(int)}.
+	 */
+	@Test
+	public void testGenerateBackgroundRgb_SameAsColor() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final int testAltitude = RANDOMIZER.nextInt();
+			assertEquals("Packed color differs.", BackgroundGenerator.generateBackgroundColor(
+					testAltitude).getRGB() & 0xFFFFFF, BackgroundGenerator
+					.generateBackgroundRgb(testAltitude));
+		}
+	}
+	
+	/**
+	 * Works out the background color at an altitude the way it was before the colors were worked
+	 * out ahead of time.
+	 * 
+	 * @param altitude
+	 *            The altitude.
+	 * @return The background color.
+	 */
+	private static Color workOutColor(int altitude) {
+		int red = 0;
+		int green = 0;
+		int blue = (Math.abs(altitude) / 5 + 60) % (190 * 6 + 1);
+		
+		if(blue > 190) {
+			green = blue - 190;
+			blue = 190;
+			if(green > 190) {
+				red = green - 190;
+				green = 190;
+				if(red > 190) {
+					blue -= red - 190;
+					red = 190;
+				}
+			}
+		}
+		
+		if(blue < 0) {
+			green += blue;
+			blue = 0;
+			if(green < 0) {
+				red += green;
+				green = 0;
+				if(red <= 0) {
+					red = 0;
+				}
+			}
+		}
+		
+		return new Color(red, green, blue);
+	}
+	
 }
@@ -1,6 +1,14 @@
 package game.generators;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import game.Game;
+import game.objects.Block;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Random;
 import org.junit.Test;
 
@@ -23,8 +31,9 @@ public final class BlockGeneratorTests {
 	 */
 	@Test
 	public void testShouldGenerateBlock() {
+		final BlockGenerator testGenerator = new BlockGenerator(RANDOMIZER.nextLong());
 		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
-			assertNotNull(BlockGenerator.shouldGenerateBlock());
+			assertNotNull(testGenerator.shouldGenerateBlock());
 		}
 	}
 	
@@ -33,8 +42,38 @@ public final class BlockGeneratorTests {
 	 */
 	@Test
 	public void testGenerateBlock() {
+		final BlockGenerator testGenerator = new BlockGenerator(RANDOMIZER.nextLong());
 		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
-			assertNotNull(BlockGenerator.generateBlock(RANDOMIZER.nextInt()));
+			assertNotNull(testGenerator.generateBlock(RANDOMIZER.nextInt()));
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.generators.BlockGenerator#generateBlock(int)}.
+	 */
+	@Test
+	public void testGenerateBlock_SameSeedSameBlocks() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS / 10000; i++) {
+			final long testSeed = RANDOMIZER.nextLong();
+			final BlockGenerator testGenerator = new BlockGenerator(testSeed);
+			final BlockGenerator testCopy = new BlockGenerator(RANDOMIZER.nextLong());
+			testCopy.setSeed(testSeed);
+			
+			for(int j = 0; j < 100; j++) {
+				final int testHighest = RANDOMIZER.nextInt();
+				assertEquals("Same seed decided differently.", testGenerator
+						.shouldGenerateBlock(), testCopy.shouldGenerateBlock());
+				
+				final Block testBlock = testGenerator.generateBlock(testHighest);
+				final Block copyBlock = testCopy.generateBlock(testHighest);
+				assertTrue("Same seed generated a different block.", Arrays.equals(
+						paint(testBlock), paint(copyBlock)));
+				
+				Block.step(Collections.singletonList(testBlock));
+				Block.step(Collections.singletonList(copyBlock));
+				assertEquals("Same seed generated a different speed.", testBlock.getYOfBottom(),
+						copyBlock.getYOfBottom());
+			}
 		}
 	}
 	
@@ -53,9 +92,27 @@ public final class BlockGeneratorTests {
 	 */
 	@Test
 	public void testGenerateTitleBlock() {
+		final BlockGenerator testGenerator = new BlockGenerator(RANDOMIZER.nextLong());
 		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
-			assertNotNull(BlockGenerator.generateTitleBlock());
+			assertNotNull(testGenerator.generateTitleBlock());
 		}
 	}
 	
+	/**
+	 * Draws a block on an image, with the bottom of the screen at the bottom of the block.
+	 * 
+	 * @param block
+	 *            The block.
+	 * @return The pixels of the image.
+	 */
+	private static int[] paint(Block block) {
+		final BufferedImage image =
+				new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		final Graphics g = image.getGraphics();
+		final int screenBottom = block.getYOfBottom();
+		block.paint(g, screenBottom + Game.GAME_HEIGHT, screenBottom);
+		g.dispose();
+		return image.getRGB(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null, 0, Game.GAME_WIDTH);
+	}
+	
 }
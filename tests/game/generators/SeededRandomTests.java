@@ -0,0 +1,89 @@
+package game.generators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link game.generators.SeededRandom}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class SeededRandomTests {
+	
+	/** How many times each test will repeat with new values. */
+	private static final int TIMES_TO_RUN_TESTS = 100000;
+	
+	/** Controls all the randomization for the tests. */
+	private static final Random RANDOMIZER = new Random();
+	
+	/**
+	 * Test method for {@link game.generators.SeededRandom#nextLong()}.
+	 */
+	@Test
+	public void testNextLong_SameSeedSameNumbers() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS / 100; i++) {
+			final long testSeed = RANDOMIZER.nextLong();
+			final SeededRandom testRandom = new SeededRandom(testSeed);
+			final SeededRandom testCopy = new SeededRandom(RANDOMIZER.nextLong());
+			testCopy.setSeed(testSeed);
+			
+			for(int j = 0; j < 100; j++) {
+				assertEquals("Same seed gave different numbers.", testRandom.nextLong(), testCopy
+						.nextLong());
+			}
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.generators.SeededRandom#nextInt(int)}.
+	 */
+	@Test
+	public void testNextInt_WithinBound() {
+		final SeededRandom testRandom = new SeededRandom(RANDOMIZER.nextLong());
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final int testBound = RANDOMIZER.nextInt(Integer.MAX_VALUE) + 1;
+			final int testNumber = testRandom.nextInt(testBound);
+			assertTrue("Number out of bounds.", testNumber >= 0 && testNumber < testBound);
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.generators.SeededRandom#nextInt(int)}.
+	 */
+	@Test
+	public void testNextInt_EveryNumberChosen() {
+		final SeededRandom testRandom = new SeededRandom(RANDOMIZER.nextLong());
+		final int[] testCounts = new int[20];
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			testCounts[testRandom.nextInt(testCounts.length)]++;
+		}
+		
+		// Each count is expected to be 5000, and will be within 500 of it all but never.
+		for(int i = 0; i < testCounts.length; i++) {
+			assertTrue("Numbers aren't evenly chosen.", Math.abs(testCounts[i] - TIMES_TO_RUN_TESTS
+					/ testCounts.length) < 500);
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.generators.SeededRandom#newSeed()}.
+	 */
+	@Test
+	public void testNewSeed_Different() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			assertTrue("Seeds repeated.", SeededRandom.newSeed() != SeededRandom.newSeed());
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.generators.SeededRandom#nextInt(int)}.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testNextInt_NotPositive() {
+		new SeededRandom(RANDOMIZER.nextLong()).nextInt(-RANDOMIZER.nextInt(100));
+	}
+	
+}
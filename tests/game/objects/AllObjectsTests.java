@@ -10,6 +10,7 @@ import org.junit.runners.Suite;
  * @version 1.0, 01/29/11
  */
 @RunWith(Suite.class)
-@Suite.SuiteClasses({ BlockTests.class, PlayerSpriteTests.class, PlayerTests.class,
-		RisingWaterTests.class })
+@Suite.SuiteClasses({ BlockGridTests.class, BlockPaletteTests.class, BlockTests.class,
+		BlockTilesTests.class, PlayerSpriteTests.class, PlayerTests.class, RisingWaterTests.class,
+		RubbleTests.class, SlotListTests.class })
 public final class AllObjectsTests {}
@@ -0,0 +1,245 @@
+package game.objects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import game.Game;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link game.objects.BlockGrid}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class BlockGridTests {
+	
+	/** How many times each test will repeat with new values. */
+	private static final int TIMES_TO_RUN_TESTS = 2000;
+	
+	/** How many blocks are placed into each grid. */
+	private static final int BLOCKS_PER_GRID = 60;
+	
+	/** Controls all the randomization for the tests. */
+	private static final Random RANDOMIZER = new Random();
+	
+	/**
+	 * Test method for
+	 * {@link game.objects.BlockGrid#collect(int, int, int, int, game.objects.SlotList)}.
+	 */
+	@Test
+	public void testCollect_IncludesEveryCollision() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final List<Block> testList = createBlocks();
+			final BlockGrid testGrid = createGrid(testList);
+			
+			for(final Block testBlock : testList) {
+				final SlotList candidates = collect(testGrid, testBlock);
+				for(int slot = 0; slot < testList.size(); slot++) {
+					if(testBlock.collides(testList.get(slot))) {
+						assertTrue("Colliding block missing from the candidates.",
+								candidates.indexOf(slot) >= 0);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.BlockGrid#remove(int, int, int, int, int)}.
+	 */
+	@Test
+	public void testRemove_NoLongerCollected() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final List<Block> testList = createBlocks();
+			final BlockGrid testGrid = createGrid(testList);
+			
+			final int removedSlot = RANDOMIZER.nextInt(testList.size());
+			final Block removedBlock = testList.get(removedSlot);
+			final int width = removedBlock.getXOfRight() - removedBlock.getXOfLeft();
+			final int height = removedBlock.getYOfTop() - removedBlock.getYOfBottom();
+			testGrid.remove(removedSlot, removedBlock.getXOfLeft(), removedBlock.getYOfBottom(),
+					width, height);
+			
+			for(final Block testBlock : testList) {
+				assertTrue("Removed block still in the candidates.", collect(testGrid, testBlock)
+						.indexOf(removedSlot) < 0);
+			}
+		}
+	}
+	
+	/**
+	 * Test method for
+	 * {@link game.objects.BlockGrid#collectBetween(int, int, game.objects.SlotList)}.
+	 */
+	@Test
+	public void testCollectBetween_IncludesEveryBlockInRange() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final List<Block> testList = createBlocks();
+			final BlockGrid testGrid = createGrid(testList);
+			final int testBottom = RANDOMIZER.nextInt(Game.GAME_HEIGHT * 4) - Game.GAME_HEIGHT * 2;
+			final int testTop = testBottom + RANDOMIZER.nextInt(Game.GAME_HEIGHT);
+			
+			final SlotList candidates = new SlotList();
+			testGrid.collectBetween(testBottom, testTop, candidates);
+			
+			for(int slot = 0; slot < testList.size(); slot++) {
+				final Block testBlock = testList.get(slot);
+				if(testBlock.getYOfTop() > testBottom && testBlock.getYOfBottom() <= testTop) {
+					assertTrue("Block in range missing from the candidates.",
+							candidates.indexOf(slot) >= 0);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.BlockGrid#collectHighest(game.objects.SlotList)}.
+	 */
+	@Test
+	public void testCollectHighest_IncludesHighestBlock() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final List<Block> testList = createBlocks();
+			final BlockGrid testGrid = createGrid(testList);
+			
+			int highestSlot = 0;
+			for(int slot = 1; slot < testList.size(); slot++) {
+				if(testList.get(slot).getYOfTop() > testList.get(highestSlot).getYOfTop()) {
+					highestSlot = slot;
+				}
+			}
+			
+			final SlotList candidates = new SlotList();
+			testGrid.collectHighest(candidates);
+			assertTrue("Highest block missing from the candidates.",
+					candidates.indexOf(highestSlot) >= 0);
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.BlockGrid#clear()}.
+	 */
+	@Test
+	public void testClear() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final List<Block> testList = createBlocks();
+			final BlockGrid testGrid = createGrid(testList);
+			
+			testGrid.clear();
+			
+			for(final Block testBlock : testList) {
+				assertEquals("Blocks left in the grid after clearing.", 0, collect(testGrid,
+						testBlock).size());
+			}
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.BlockGrid#clear()}, filling the grid again after it is
+	 * cleared.
+	 */
+	@Test
+	public void testClear_RefilledGridHoldsOnlyNewBlocks() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final List<Block> oldList = createBlocks();
+			final BlockGrid testGrid = createGrid(oldList);
+			for(int slot = 0; slot < oldList.size(); slot += 2) {
+				final Block oldBlock = oldList.get(slot);
+				final int width = oldBlock.getXOfRight() - oldBlock.getXOfLeft();
+				final int height = oldBlock.getYOfTop() - oldBlock.getYOfBottom();
+				testGrid.remove(slot, oldBlock.getXOfLeft(), oldBlock.getYOfBottom(), width,
+						height);
+			}
+			
+			testGrid.clear();
+			final List<Block> testList = createBlocks();
+			addBlocks(testGrid, testList, oldList.size());
+			
+			for(final Block testBlock : testList) {
+				final SlotList candidates = collect(testGrid, testBlock);
+				for(int j = 0; j < candidates.size(); j++) {
+					assertTrue("Cleared block in the candidates.",
+							candidates.get(j) >= oldList.size());
+				}
+				for(int slot = 0; slot < testList.size(); slot++) {
+					if(testBlock.collides(testList.get(slot))) {
+						assertTrue("Colliding block missing from the candidates.", candidates
+								.indexOf(oldList.size() + slot) >= 0);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Creates a grid holding blocks, with the index of each block as its slot.
+	 * 
+	 * @param testList
+	 *            The blocks.
+	 * @return The created grid.
+	 */
+	private static BlockGrid createGrid(List<Block> testList) {
+		final BlockGrid testGrid = new BlockGrid();
+		addBlocks(testGrid, testList, 0);
+		return testGrid;
+	}
+	
+	/**
+	 * Places blocks into a grid, with the index of each block after the first slot as its slot.
+	 * 
+	 * @param testGrid
+	 *            The grid.
+	 * @param testList
+	 *            The blocks.
+	 * @param firstSlot
+	 *            The slot of the first block.
+	 */
+	private static void addBlocks(BlockGrid testGrid, List<Block> testList, int firstSlot) {
+		for(int slot = 0; slot < testList.size(); slot++) {
+			final Block testBlock = testList.get(slot);
+			final int width = testBlock.getXOfRight() - testBlock.getXOfLeft();
+			final int height = testBlock.getYOfTop() - testBlock.getYOfBottom();
+			testGrid.add(firstSlot + slot, testBlock.getXOfLeft(), testBlock.getYOfBottom(),
+					width, height);
+		}
+	}
+	
+	/**
+	 * Collects the slots of the blocks in a grid that may be colliding with a block.
+	 * 
+	 * @param testGrid
+	 *            The grid.
+	 * @param testBlock
+	 *            The block.
+	 * @return The collected slots.
+	 */
+	private static SlotList collect(BlockGrid testGrid, Block testBlock) {
+		final SlotList candidates = new SlotList();
+		final int width = testBlock.getXOfRight() - testBlock.getXOfLeft();
+		final int height = testBlock.getYOfTop() - testBlock.getYOfBottom();
+		testGrid.collect(testBlock.getXOfLeft(), testBlock.getYOfBottom(), width, height,
+				candidates);
+		return candidates;
+	}
+	
+	/**
+	 * Creates blocks around the screen, some of them splitting the screen or too large for cells.
+	 * 
+	 * @return The created blocks.
+	 */
+	private static List<Block> createBlocks() {
+		final List<Block> testList = new ArrayList<Block>();
+		for(int i = 0; i < BLOCKS_PER_GRID; i++) {
+			final int width = RANDOMIZER.nextInt(Game.GAME_WIDTH) + 1;
+			final int height = RANDOMIZER.nextInt(Game.GAME_HEIGHT / 2) + 1;
+			final int x = RANDOMIZER.nextInt(Game.GAME_WIDTH);
+			final int y = RANDOMIZER.nextInt(Game.GAME_HEIGHT * 4) - Game.GAME_HEIGHT * 2;
+			testList.add(new Block(Color.BLACK, x, y, width, height, 0));
+		}
+		return testList;
+	}
+	
+}
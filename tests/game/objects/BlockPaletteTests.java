@@ -0,0 +1,65 @@
+package game.objects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.awt.Color;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link game.objects.BlockPalette}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class BlockPaletteTests {
+	
+	/** How many times each test will repeat with new values. */
+	private static final int TIMES_TO_RUN_TESTS = 50000;
+	
+	/** The furthest a color channel can be from its palette entry. */
+	private static final int MAX_CHANNEL_ERROR = 8;
+	
+	/** Controls all the randomization for the tests. */
+	private static final Random RANDOMIZER = new Random();
+	
+	/**
+	 * Test method for {@link game.objects.BlockPalette#indexOf(java.awt.Color)}.
+	 */
+	@Test
+	public void testIndexOf_CloseColor() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final Color testColor = new Color(RANDOMIZER.nextInt());
+			final Color entry = BlockPalette.getColor(BlockPalette.indexOf(testColor));
+			
+			assertTrue(Math.abs(testColor.getRed() - entry.getRed()) <= MAX_CHANNEL_ERROR);
+			assertTrue(Math.abs(testColor.getGreen() - entry.getGreen()) <= MAX_CHANNEL_ERROR);
+			assertTrue(Math.abs(testColor.getBlue() - entry.getBlue()) <= MAX_CHANNEL_ERROR);
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.BlockPalette#indexOf(java.awt.Color)}.
+	 */
+	@Test
+	public void testIndexOf_SameEntry() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final int testRGB = RANDOMIZER.nextInt();
+			final int index = BlockPalette.indexOf(new Color(testRGB));
+			
+			assertEquals(index, BlockPalette.indexOf(new Color(testRGB)));
+			assertSame(BlockPalette.getColor(index), BlockPalette.getColor(index));
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.BlockPalette#indexOf(java.awt.Color)}.
+	 */
+	@Test
+	public void testIndexOf_ExactColors() {
+		assertEquals(Color.BLACK, BlockPalette.getColor(BlockPalette.indexOf(Color.BLACK)));
+		assertEquals(Color.WHITE, BlockPalette.getColor(BlockPalette.indexOf(Color.WHITE)));
+	}
+	
+}
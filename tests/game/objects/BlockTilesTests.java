@@ -0,0 +1,217 @@
+package game.objects;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import game.Game;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link game.objects.BlockTiles}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class BlockTilesTests {
+	
+	/** How many times each test will repeat with new values. */
+	private static final int TIMES_TO_RUN_TESTS = 200;
+	
+	/** How many blocks are drawn on each image. */
+	private static final int BLOCKS_PER_IMAGE = 50;
+	
+	/** More different blocks than the tiles kept. */
+	private static final int TOO_MANY_BLOCKS = 1000;
+	
+	/** Few enough of the most recently drawn blocks that their tiles are all kept. */
+	private static final int RECENT_BLOCKS = 100;
+	
+	/** The kinds of image drawn on. */
+	private static final int[] IMAGE_TYPES =
+			{ BufferedImage.TYPE_INT_RGB, BufferedImage.TYPE_INT_ARGB,
+					BufferedImage.TYPE_3BYTE_BGR, BufferedImage.TYPE_USHORT_565_RGB };
+	
+	/** Controls all the randomization for the tests. */
+	private static final Random RANDOMIZER = new Random();
+	
+	/**
+	 * Test method for
+	 * {@link game.objects.Rubble#paintBlock(Graphics, BlockTiles, int, int, int, int, int)}.
+	 */
+	@Test
+	public void testPaint_SameAsDrawn() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final int testType = IMAGE_TYPES[RANDOMIZER.nextInt(IMAGE_TYPES.length)];
+			final BufferedImage testExpected =
+					new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, testType);
+			final BufferedImage testActual =
+					new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, testType);
+			final Graphics testExpectedG = testExpected.getGraphics();
+			final Graphics testActualG = testActual.getGraphics();
+			final BlockTiles testTiles = BlockTiles.forThread();
+			
+			for(int j = 0; j < BLOCKS_PER_IMAGE; j++) {
+				final int testShade = BlockPalette.indexOf(new Color(RANDOMIZER.nextInt()));
+				final int testX = RANDOMIZER.nextInt(Game.GAME_WIDTH);
+				final int testTop = RANDOMIZER.nextInt(Game.GAME_HEIGHT + 100) - 100;
+				final int testWidth = RANDOMIZER.nextInt(80);
+				final int testHeight = RANDOMIZER.nextInt(80);
+				
+				drawLikeBefore(testExpectedG, testShade, testX, testTop, testWidth, testHeight);
+				Rubble.paintBlock(testActualG, testTiles, testShade, testX, testTop, testWidth,
+						testHeight);
+			}
+			testExpectedG.dispose();
+			testActualG.dispose();
+			
+			assertArrayEquals("Tiles drew blocks differently.", testExpected.getRGB(0, 0,
+					Game.GAME_WIDTH, Game.GAME_HEIGHT, null, 0, Game.GAME_WIDTH), testActual
+					.getRGB(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null, 0, Game.GAME_WIDTH));
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.BlockTiles#getHitRate()}.
+	 */
+	@Test
+	public void testGetHitRate_TilesReused() {
+		final Graphics testG =
+				new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, BufferedImage.TYPE_INT_RGB)
+						.getGraphics();
+		final int testShade = BlockPalette.indexOf(Color.RED);
+		final BlockTiles testTiles = BlockTiles.forThread();
+		testTiles.clear();
+		
+		testTiles.paint(testG, testShade, 0, 0, 40, 40);
+		assertEquals("New tile wasn't a miss.", 1, testTiles.getMisses());
+		testTiles.paint(testG, testShade, 100, 100, 40, 40);
+		assertEquals("Kept tile wasn't a hit.", 1, testTiles.getHits());
+		assertEquals("Wrong hit rate.", 0.5, testTiles.getHitRate(), 0);
+		
+		testTiles.paint(testG, testShade, 0, 0, 40, 41);
+		testTiles.paint(testG, BlockPalette.indexOf(Color.BLUE), 0, 0, 40, 40);
+		assertEquals("Different tiles were hits.", 3, testTiles.getMisses());
+		testG.dispose();
+		
+		final Graphics testOtherG =
+				new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT,
+						BufferedImage.TYPE_USHORT_565_RGB).getGraphics();
+		testTiles.paint(testOtherG, testShade, 0, 0, 40, 40);
+		assertEquals("Tile for another kind of image was a hit.", 4, testTiles.getMisses());
+		testOtherG.dispose();
+	}
+	
+	/**
+	 * Test method for {@link game.objects.BlockTiles#getHitRate()}.
+	 */
+	@Test
+	public void testGetHitRate_LeastRecentForgotten() {
+		final Graphics testG =
+				new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, BufferedImage.TYPE_INT_RGB)
+						.getGraphics();
+		final int testShade = BlockPalette.indexOf(Color.GREEN);
+		final BlockTiles testTiles = BlockTiles.forThread();
+		testTiles.clear();
+		
+		for(int i = 1; i <= TOO_MANY_BLOCKS; i++) {
+			testTiles.paint(testG, testShade, 0, 0, i, 40);
+		}
+		testTiles.paint(testG, testShade, 0, 0, TOO_MANY_BLOCKS, 40);
+		assertEquals("Recent tile was forgotten.", 1, testTiles.getHits());
+		testTiles.paint(testG, testShade, 0, 0, 1, 40);
+		assertEquals("Least recent tile was kept.", 0, testTiles.getHits() - 1);
+		testG.dispose();
+	}
+	
+	/**
+	 * Test method for {@link game.objects.BlockTiles#getHitRate()}, drawing the same blocks again
+	 * after many tiles were forgotten.
+	 */
+	@Test
+	public void testGetHitRate_RecentTilesFoundAfterForgetting() {
+		final Graphics testG =
+				new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, BufferedImage.TYPE_INT_RGB)
+						.getGraphics();
+		final BlockTiles testTiles = BlockTiles.forThread();
+		testTiles.clear();
+		
+		final int[] testShades = new int[TOO_MANY_BLOCKS];
+		final int[] testWidths = new int[TOO_MANY_BLOCKS];
+		for(int i = 0; i < TOO_MANY_BLOCKS; i++) {
+			testShades[i] = BlockPalette.indexOf(new Color(RANDOMIZER.nextInt()));
+			testWidths[i] = RANDOMIZER.nextInt(80) + 1;
+			testTiles.paint(testG, testShades[i], 0, 0, testWidths[i], 40);
+		}
+		
+		final long testMisses = testTiles.getMisses();
+		for(int i = TOO_MANY_BLOCKS - RECENT_BLOCKS; i < TOO_MANY_BLOCKS; i++) {
+			testTiles.paint(testG, testShades[i], 0, 0, testWidths[i], 40);
+		}
+		assertEquals("Recent tile was forgotten.", testMisses, testTiles.getMisses());
+		testG.dispose();
+	}
+	
+	/**
+	 * Test method for {@link game.objects.BlockTiles#forThread()}.
+	 * 
+	 * @throws InterruptedException
+	 *             If the test is interrupted while waiting for the other thread.
+	 */
+	@Test
+	public void testForThread_OwnTilesForEachThread() throws InterruptedException {
+		final BlockTiles[] testOther = new BlockTiles[1];
+		final Thread testThread = new Thread() {
+			
+			/*
+			 * {@inheritDoc}
+			 * 
+			 * @see java.lang.Thread#run()
+			 */
+			@Override
+			public void run() {
+				testOther[0] = BlockTiles.forThread();
+			}
+		};
+		testThread.start();
+		testThread.join();
+		
+		assertSame("Thread got different tiles.", BlockTiles.forThread(), BlockTiles.forThread());
+		assertNotSame("Threads shared tiles.", BlockTiles.forThread(), testOther[0]);
+	}
+	
+	/**
+	 * Draws a block the way blocks were drawn before they were drawn from tiles.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param shade
+	 *            The palette entry the block is painted with.
+	 * @param x
+	 *            The x coordinate of the block.
+	 * @param blockTop
+	 *            The position of the top of the block on the image.
+	 * @param width
+	 *            The width of the block.
+	 * @param height
+	 *            The height of the block.
+	 */
+	private static void drawLikeBefore(Graphics g, int shade, int x, int blockTop, int width,
+			int height) {
+		g.setColor(Color.BLACK);
+		g.drawRect(x, blockTop, width, height);
+		BlockPalette.fill3DRect(g, shade, x + 1, blockTop + 1, width - 1, height - 1);
+		
+		if(x + width > Game.GAME_WIDTH) {
+			final int splitWidth = x + width - Game.GAME_WIDTH;
+			g.setColor(Color.BLACK);
+			g.drawRect(-1, blockTop, splitWidth, height);
+			BlockPalette.fill3DRect(g, shade, 0, blockTop + 1, splitWidth - 1, height - 1);
+		}
+	}
+	
+}
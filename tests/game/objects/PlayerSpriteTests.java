@@ -1,6 +1,15 @@
 package game.objects;
 
-import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import gui.GameManager;
+import java.awt.Graphics;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.Test;
 
 /**
@@ -14,30 +23,115 @@ public final class PlayerSpriteTests {
 	/** How many times each test will repeat with new values. */
 	private static final int TIMES_TO_RUN_TESTS = 100000;
 	
+	/** How many frames of each animation are drawn by the drawing test. */
+	private static final int FRAMES_TO_DRAW = 100;
+	
 	/**
-	 * Test method for {@link game.objects.PlayerSprite#getNextImage(boolean)}.
+	 * Test method for {@link game.objects.PlayerSprite#getNextFrame(boolean)}.
 	 */
 	@Test
-	public void testGetNextImage() {
+	public void testGetNextFrame() {
 		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
 			for(final PlayerSprite testSprite : PlayerSprite.values()) {
-				assertNotNull("Sprite image missing.", testSprite.getNextImage(true));
-				assertNotNull("Sprite image missing.", testSprite.getNextImage(false));
+				final int testRight = testSprite.getNextFrame(true);
+				final int testLeft = testSprite.getNextFrame(false);
+				assertTrue("Sprite frame missing.", testRight >= 0 && testLeft >= 0);
+				assertTrue("Sprite frame shared by both directions.", testRight != testLeft);
 			}
 		}
 	}
 	
 	/**
-	 * Test method for {@link game.objects.PlayerSprite#getPreviousImage(boolean)}.
+	 * Test method for {@link game.objects.PlayerSprite#getPreviousFrame(boolean)}.
 	 */
 	@Test
-	public void testGetPreviousImage() {
+	public void testGetPreviousFrame() {
 		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
 			for(final PlayerSprite testSprite : PlayerSprite.values()) {
-				assertNotNull("Sprite image missing.", testSprite.getPreviousImage(true));
-				assertNotNull("Sprite image missing.", testSprite.getPreviousImage(false));
+				final int testFrame = testSprite.getNextFrame(true);
+				assertEquals("Sprite frame changed.", testFrame, testSprite
+						.getPreviousFrame(true));
 			}
 		}
 	}
 	
+	/**
+	 * Test method for {@link game.objects.PlayerSprite#paint(Graphics, int, int, int)}.
+	 */
+	@Test
+	public void testPaint_SameAsImages() {
+		for(final PlayerSprite testSprite : PlayerSprite.values()) {
+			for(final String testDirection : new String[] { "Right", "Left" }) {
+				final String testName = getName(testSprite);
+				final List<int[]> testExpected = new ArrayList<int[]>();
+				Image loaded;
+				for(int i = 1; (loaded = GameManager.loadImage(testName + i + testDirection
+						+ ".png")) != null; i++) {
+					testExpected.add(draw(loaded, -1));
+				}
+				
+				final boolean[] testDrawn = new boolean[testExpected.size()];
+				for(int i = 0; i < FRAMES_TO_DRAW; i++) {
+					final int[] testActual =
+							draw(null, testSprite.getNextFrame(testDirection.equals("Right")));
+					int j = 0;
+					while(j < testExpected.size()
+							&& !Arrays.equals(testExpected.get(j), testActual)) {
+						j++;
+					}
+					assertTrue("Sprite frame isn't one of the images.", j < testExpected.size());
+					testDrawn[j] = true;
+				}
+				assertArrayEquals("Sprite image never drawn.", getAllTrue(testDrawn.length),
+						testDrawn);
+			}
+		}
+	}
+	
+	/**
+	 * Draws a sprite the way the player is drawn, or the way it was drawn from each image.
+	 * 
+	 * @param image
+	 *            The image to draw at the size of the player, or null to draw the frame.
+	 * @param frame
+	 *            The frame to draw, if there is no image.
+	 * @return The colors of the drawing.
+	 */
+	private static int[] draw(Image image, int frame) {
+		final BufferedImage testImage =
+				new BufferedImage(Player.WIDTH, Player.HEIGHT, BufferedImage.TYPE_INT_RGB);
+		final Graphics testG = testImage.getGraphics();
+		if(image == null) {
+			PlayerSprite.paint(testG, frame, 0, 0);
+		} else {
+			testG.drawImage(image, 0, 0, Player.WIDTH, Player.HEIGHT, null);
+		}
+		testG.dispose();
+		return testImage.getRGB(0, 0, Player.WIDTH, Player.HEIGHT, null, 0, Player.WIDTH);
+	}
+	
+	/**
+	 * Returns the base name of the images of a sprite state.
+	 * 
+	 * @param sprite
+	 *            The sprite state.
+	 * @return The base name, such as "Idle".
+	 */
+	private static String getName(PlayerSprite sprite) {
+		return sprite.name().charAt(0) + sprite.name().substring(1).toLowerCase();
+	}
+	
+	/**
+	 * Returns an array of only true values.
+	 * 
+	 * @param length
+	 *            The length of the array.
+	 * @return The array.
+	 */
+	private static boolean[] getAllTrue(int length) {
+		final boolean[] allTrue = new boolean[length];
+		Arrays.fill(allTrue, true);
+		return allTrue;
+	}
+	
 }
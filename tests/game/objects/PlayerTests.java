@@ -46,7 +46,7 @@ public final class PlayerTests {
 	}
 	
 	/**
-	 * Test method for {@link game.objects.Player#step(java.util.List, game.InputReceiver)}.
+	 * Test method for {@link game.objects.Player#step(game.objects.Rubble, game.InputReceiver)}.
 	 */
 	@Test
 	public void testStep_Runs() {}
@@ -11,9 +11,6 @@ import java.awt.image.BufferedImage;
 import java.lang.reflect.Field;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 import java.util.Random;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -83,7 +80,7 @@ public final class RisingWaterTests {
 	
 	/**
 	 * Test method for
-	 * {@link game.objects.RisingWater#step(java.util.List, game.objects.Player, int)}.
+	 * {@link game.objects.RisingWater#step(game.objects.Rubble, game.objects.Player, int)}.
 	 */
 	@Test
 	public void testStep_WaterRises() {
@@ -92,16 +89,34 @@ public final class RisingWaterTests {
 			setWaterAltitude(testWater, RANDOMIZER.nextInt());
 			final double testAltitude = getWaterAltitude(testWater);
 			
-			testWater.step(Collections.<Block> emptyList(), new Player(RANDOMIZER.nextInt(),
+			testWater.step(new Rubble(), new Player(RANDOMIZER.nextInt(),
 					RANDOMIZER.nextInt()), RANDOMIZER.nextInt());
 			
 			assertTrue("Water isn't rising.", getWaterAltitude(testWater) > testAltitude);
 		}
 	}
 	
+	/**
+	 * Test method for {@link game.objects.RisingWater#getPreviousAltitude()}.
+	 */
+	@Test
+	public void testGetPreviousAltitude() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final RisingWater testWater = new RisingWater();
+			setWaterAltitude(testWater, RANDOMIZER.nextInt());
+			final double testAltitude = getWaterAltitude(testWater);
+			
+			testWater.step(new Rubble(), new Player(RANDOMIZER.nextInt(),
+					RANDOMIZER.nextInt()), RANDOMIZER.nextInt());
+			
+			assertEquals("Water forgot how high it was.", testAltitude, testWater
+					.getPreviousAltitude(), 0);
+		}
+	}
+	
 	/**
 	 * Test method for
-	 * {@link game.objects.RisingWater#step(java.util.List, game.objects.Player, int)}.
+	 * {@link game.objects.RisingWater#step(game.objects.Rubble, game.objects.Player, int)}.
 	 */
 	@Test
 	public void testStep_PlayerBelowWaterDrown() {
@@ -112,7 +127,7 @@ public final class RisingWaterTests {
 			final Player testPlayer =
 					new Player(RANDOMIZER.nextInt(), testAltitude - Game.GAME_HEIGHT);
 			
-			testWater.step(Collections.<Block> emptyList(), testPlayer, RANDOMIZER.nextInt());
+			testWater.step(new Rubble(), testPlayer, RANDOMIZER.nextInt());
 			
 			assertFalse("Sunken player didn't drown", testPlayer.isAlive());
 		}
@@ -120,7 +135,7 @@ public final class RisingWaterTests {
 	
 	/**
 	 * Test method for
-	 * {@link game.objects.RisingWater#step(java.util.List, game.objects.Player, int)}.
+	 * {@link game.objects.RisingWater#step(game.objects.Rubble, game.objects.Player, int)}.
 	 */
 	@Test
 	public void testStep_PlayerAboveWaterNoDrown() {
@@ -130,7 +145,7 @@ public final class RisingWaterTests {
 			setWaterAltitude(testWater, testAltitude - 1);
 			final Player testPlayer = new Player(RANDOMIZER.nextInt(), testAltitude);
 			
-			testWater.step(Collections.<Block> emptyList(), testPlayer, RANDOMIZER.nextInt());
+			testWater.step(new Rubble(), testPlayer, RANDOMIZER.nextInt());
 			
 			assertTrue("Player drowned above water.", testPlayer.isAlive());
 		}
@@ -138,7 +153,7 @@ public final class RisingWaterTests {
 	
 	/**
 	 * Test method for
-	 * {@link game.objects.RisingWater#step(java.util.List, game.objects.Player, int)}.
+	 * {@link game.objects.RisingWater#step(game.objects.Rubble, game.objects.Player, int)}.
 	 */
 	@Test
 	public void testStep_BlockRemoval() {
@@ -149,17 +164,17 @@ public final class RisingWaterTests {
 					new Block(Color.BLACK, RANDOMIZER.nextInt(), RANDOMIZER.nextInt(),
 							RANDOMIZER.nextInt(), RANDOMIZER.nextInt(), RANDOMIZER.nextInt());
 			
-			final List<Block> testList = new ArrayList<Block>();
-			testList.add(testBlock);
+			final Rubble testRubble = new Rubble();
+			testRubble.add(testBlock);
 			setWaterAltitude(testWater, RANDOMIZER.nextInt());
 			
-			testWater.step(testList, new Player(RANDOMIZER.nextInt(), RANDOMIZER.nextInt()),
+			testWater.step(testRubble, new Player(RANDOMIZER.nextInt(), RANDOMIZER.nextInt()),
 					testSpaceBelowPlayer);
 			
 			if((int)getWaterAltitude(testWater) > testBlock.getYOfTop() + testSpaceBelowPlayer) {
-				assertEquals(0, testList.size());
+				assertEquals(0, testRubble.size());
 			} else {
-				assertEquals(1, testList.size());
+				assertEquals(1, testRubble.size());
 			}
 		}
 	}
@@ -225,6 +240,104 @@ public final class RisingWaterTests {
 		}
 	}
 	
+	/**
+	 * Test method for {@link game.objects.RisingWater#paint(java.awt.Graphics, double, int, int)}.
+	 */
+	@Test
+	public void testPaint_SameAsLineByLine() {
+		final int[] testTypes =
+				{ BufferedImage.TYPE_INT_RGB, BufferedImage.TYPE_INT_ARGB,
+						BufferedImage.TYPE_3BYTE_BGR, BufferedImage.TYPE_USHORT_565_RGB };
+		for(int i = 0; i < TIMES_TO_RUN_TESTS / 50; i++) {
+			final int testType = testTypes[RANDOMIZER.nextInt(testTypes.length)];
+			final BufferedImage testExpected =
+					new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, testType);
+			final BufferedImage testActual =
+					new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, testType);
+			for(int y = 0; y < Game.GAME_HEIGHT; y += 10) {
+				final int testBackground = RANDOMIZER.nextInt();
+				for(int x = 0; x < Game.GAME_WIDTH; x++) {
+					testExpected.setRGB(x, y, testBackground);
+					testActual.setRGB(x, y, testBackground);
+				}
+			}
+			
+			final double testAltitude = RANDOMIZER.nextDouble() * 2000 - 1000;
+			final int testScreenTop =
+					(int)testAltitude + RANDOMIZER.nextInt(Game.GAME_HEIGHT + 400) - 100;
+			final int testScreenBottom = testScreenTop - Game.GAME_HEIGHT;
+			
+			final Graphics testExpectedG = testExpected.getGraphics();
+			paintLineByLine(testExpectedG, testAltitude, testScreenTop, testScreenBottom);
+			testExpectedG.dispose();
+			final Graphics testActualG = testActual.getGraphics();
+			RisingWater.paint(testActualG, testAltitude, testScreenTop, testScreenBottom);
+			testActualG.dispose();
+			
+			for(int y = 0; y < Game.GAME_HEIGHT; y++) {
+				for(int x = 0; x < Game.GAME_WIDTH; x++) {
+					assertEquals("Pixel " + x + ", " + y + " differs.", testExpected.getRGB(x, y),
+							testActual.getRGB(x, y));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Draws water the way it was drawn before the depth and waves were drawn ahead of time, one
+	 * line at a time.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param waterAltitude
+	 *            The altitude of the water.
+	 * @param screenTop
+	 *            The altitude of the top of the screen.
+	 * @param screenBottom
+	 *            The altitude of the bottom of the screen.
+	 */
+	private static void paintLineByLine(Graphics g, double waterAltitude, int screenTop,
+			int screenBottom) {
+		final int waveHeight = 3, wavePeriod = 18, waveLength = 14, waveChange = 2;
+		final Color waterColor = new Color(24, 134, 127);
+		if(waterAltitude + waveHeight < screenBottom) {
+			return;
+		}
+		
+		final int waterTop = screenTop - (int)waterAltitude;
+		double red = waterColor.getRed();
+		double green = waterColor.getGreen();
+		double blue = waterColor.getBlue();
+		for(int i = waterTop; i < Game.GAME_HEIGHT; i++) {
+			if((int)green != 0 && (int)blue != 0 && (int)red != 0) {
+				g.setColor(new Color((int)red, (int)green, (int)blue));
+				g.drawLine(0, i, Game.GAME_WIDTH, i);
+				red *= 0.985;
+				green *= 0.985;
+				blue *= 0.985;
+			} else {
+				g.fillRect(0, i, Game.GAME_WIDTH, Game.GAME_HEIGHT - i);
+				break;
+			}
+		}
+		
+		g.setColor(Color.BLACK);
+		g.drawLine(0, waterTop - 1, Game.GAME_WIDTH, waterTop - 1);
+		
+		final int firstWave = -(int)(waterAltitude * 2) % wavePeriod;
+		for(int i = firstWave; i < Game.GAME_WIDTH; i += wavePeriod) {
+			for(int j = 0; j < waveHeight; j++) {
+				final int waveTop = waterTop - (j + 1);
+				final int waveDistance = i + (waveLength - waveChange * j) - 1;
+				
+				g.setColor(Color.BLACK);
+				g.drawLine(i + waveChange * j, waveTop - 1, waveDistance, waveTop - 1);
+				g.setColor(waterColor);
+				g.drawLine(i + waveChange * j, waveTop, waveDistance, waveTop);
+			}
+		}
+	}
+	
 	/**
 	 * Grabs the water altitude field from a RisingWater object.
 	 * 
@@ -0,0 +1,383 @@
+package game.objects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import game.Game;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link game.objects.Rubble}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class RubbleTests {
+	
+	/** How many times each test will repeat with new values. */
+	private static final int TIMES_TO_RUN_TESTS = 10000;
+	
+	/** Controls all the randomization for the tests. */
+	private static final Random RANDOMIZER = new Random();
+	
+	/**
+	 * Test method for {@link game.objects.Rubble#add(game.objects.Block)}.
+	 */
+	@Test
+	public void testAdd() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final Rubble testRubble = new Rubble();
+			final Block testBlock = createFallingBlock();
+			testRubble.add(testBlock);
+			
+			final Block addedBlock = testRubble.getBlock(0);
+			assertEquals("Rubble lost the block.", 1, testRubble.size());
+			assertEquals(testBlock.getXOfLeft(), addedBlock.getXOfLeft());
+			assertEquals(testBlock.getXOfRight(), addedBlock.getXOfRight());
+			assertEquals(testBlock.getYOfBottom(), addedBlock.getYOfBottom());
+			assertEquals(testBlock.getYOfTop(), addedBlock.getYOfTop());
+			assertTrue("Block stopped falling.", addedBlock.isFalling());
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.Rubble#clear()}.
+	 */
+	@Test
+	public void testClear() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final Rubble testRubble = new Rubble();
+			testRubble.add(createFallingBlock());
+			testRubble.clear();
+			assertEquals("Rubble not empty after clearing.", 0, testRubble.size());
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.Rubble#removeBelow(double, int)}.
+	 */
+	@Test
+	public void testRemoveBelow() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final Rubble testRubble = new Rubble();
+			final int testCount = RANDOMIZER.nextInt(10);
+			for(int j = 0; j < testCount; j++) {
+				testRubble.add(createFallingBlock());
+			}
+			final int testAltitude = RANDOMIZER.nextInt(Game.GAME_HEIGHT * 3);
+			final int testDepth = RANDOMIZER.nextInt(Game.GAME_HEIGHT);
+			
+			int kept = 0;
+			for(int j = 0; j < testCount; j++) {
+				if(testRubble.getYOfTop(j) + testDepth >= testAltitude) {
+					kept++;
+				}
+			}
+			testRubble.removeBelow(testAltitude, testDepth);
+			
+			assertEquals("Wrong number of blocks removed.", kept, testRubble.size());
+			for(int j = 0; j < testRubble.size(); j++) {
+				assertTrue("Block below the altitude kept.",
+						testRubble.getYOfTop(j) + testDepth >= testAltitude);
+			}
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.Rubble#getHighestPoint(int)}.
+	 */
+	@Test
+	public void testGetHighestPoint() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final Rubble testRubble = new Rubble();
+			final Block testFloor = new Block(Color.BLACK, 0, 0, Game.GAME_WIDTH - 1, 10, 0);
+			testRubble.add(testFloor);
+			testRubble.add(createFallingBlock());
+			
+			final int testLowest = RANDOMIZER.nextInt(20);
+			assertEquals("Falling blocks counted as the highest point.", Math.max(testLowest,
+					testFloor.getYOfTop()), testRubble.getHighestPoint(testLowest));
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.Rubble#getPreviousYOfBottom(int)}.
+	 */
+	@Test
+	public void testGetPreviousYOfBottom() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS / 100; i++) {
+			final Rubble testRubble = new Rubble();
+			testRubble.add(new Block(Color.BLACK, 0, 0, Game.GAME_WIDTH - 1, 10, 0));
+			for(int j = 0; j < 50; j++) {
+				testRubble.add(createFallingBlock());
+			}
+			
+			for(int j = 0; j < 100; j++) {
+				final int[] testBefore = new int[testRubble.size()];
+				for(int k = 0; k < testBefore.length; k++) {
+					testBefore[k] = testRubble.getYOfBottom(k);
+				}
+				testRubble.step();
+				for(int k = 0; k < testBefore.length; k++) {
+					assertEquals("Block forgot where it was.", testBefore[k], testRubble
+							.getPreviousYOfBottom(k));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.Rubble#step()}.
+	 */
+	@Test
+	public void testStep_LandedBlocksSleep() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final Rubble testRubble = new Rubble();
+			final Block testFloor = new Block(Color.BLACK, 0, 0, Game.GAME_WIDTH - 1, 10, 0);
+			testRubble.add(testFloor);
+			testRubble.add(createFallingBlock());
+			
+			while(testRubble.getBlock(1).isFalling()) {
+				testRubble.step();
+			}
+			testRubble.step();
+			
+			final Block testBlock = testRubble.getBlock(1);
+			assertFalse("Floor collides with landed block.", testFloor.collides(testBlock));
+			assertEquals("Block didn't land on the floor.", testFloor.getYOfTop(),
+					testBlock.getYOfBottom());
+			assertTrue("Landed block still awake.", testRubble.isAsleep(1));
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.Rubble#step()}.
+	 */
+	@Test
+	public void testStep_SleepingBlocksStillCollide() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final Rubble testRubble = new Rubble();
+			final Block testBlock = createFallingBlock();
+			testRubble.add(new Block(Color.BLACK, 0, 0, Game.GAME_WIDTH - 1, 10, 0));
+			testRubble.add(testBlock);
+			testRubble.add(new Block(Color.BLACK, testBlock.getXOfLeft(), testBlock.getYOfTop()
+					+ Game.GAME_HEIGHT, 40, 40, RANDOMIZER.nextInt(7) + 1));
+			
+			while(testRubble.getBlock(1).isFalling() || testRubble.getBlock(2).isFalling()) {
+				testRubble.step();
+			}
+			
+			final Block testBlock1 = testRubble.getBlock(1);
+			final Block testBlock2 = testRubble.getBlock(2);
+			assertFalse("Landed blocks collide.", testBlock1.collides(testBlock2));
+			assertEquals("Block didn't land on the sleeping block.", testBlock1.getYOfTop(),
+					testBlock2.getYOfBottom());
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.Rubble#step()}.
+	 */
+	@Test
+	public void testStep_LongChainsArePushed() {
+		final Rubble testRubble = new Rubble();
+		final int testCount = 5000;
+		testRubble.add(new Block(Color.BLACK, 0, 0, 40, 40, 0));
+		for(int i = 1; i < testCount; i++) {
+			testRubble.add(new Block(Color.BLACK, RANDOMIZER.nextInt(10), i * 40 - 1, 40, 40, 0));
+		}
+		testRubble.step();
+		
+		for(int i = 0; i < testCount; i++) {
+			assertEquals("Block wasn't pushed on top of the block below.", i * 40, testRubble
+					.getYOfBottom(i));
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.Rubble#drift(int)}.
+	 */
+	@Test
+	public void testDrift() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final Rubble testRubble = new Rubble();
+			final Block testBlock = createFallingBlock();
+			testRubble.add(testBlock);
+			
+			final int testWater = RANDOMIZER.nextInt(Game.GAME_HEIGHT * 3);
+			testRubble.drift(testWater);
+			testBlock.drift(testWater);
+			
+			assertEquals("Drifting in the rubble differs from drifting the block.", testBlock
+					.isFalling(), testRubble.getBlock(0).isFalling());
+		}
+	}
+	
+	/**
+	 * Test method for
+	 * {@link game.objects.Rubble#collectNear(int, int, int, int, game.objects.SlotList)}.
+	 */
+	@Test
+	public void testCollectNear_IncludesEveryCollision() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS / 100; i++) {
+			final Rubble testRubble = new Rubble();
+			testRubble.add(new Block(Color.BLACK, 0, 0, Game.GAME_WIDTH - 1, 10, 0));
+			for(int j = 0; j < 200; j++) {
+				testRubble.add(createFallingBlock());
+			}
+			for(int j = 0; j < 50; j++) {
+				testRubble.step();
+			}
+			
+			final int testWidth = RANDOMIZER.nextInt(40) + 1;
+			final int testHeight = RANDOMIZER.nextInt(60);
+			final int testX = RANDOMIZER.nextInt(Game.GAME_WIDTH);
+			final int testY = RANDOMIZER.nextInt(Game.GAME_HEIGHT * 2);
+			final int testMargin = RANDOMIZER.nextInt(80);
+			final SlotList near = new SlotList();
+			testRubble.collectNear(testX - testMargin, testY - testMargin, testWidth + testMargin
+					* 2, testHeight + testMargin * 2, near);
+			
+			for(int j = 1; j < near.size(); j++) {
+				assertTrue("Slots out of order.", near.get(j - 1) < near.get(j));
+			}
+			for(int j = 0; j < testRubble.size(); j++) {
+				if(testRubble.collides(j, testX, testY, testWidth, testHeight)) {
+					assertTrue("Colliding block missing from the nearby blocks.",
+							near.indexOf(j) >= 0);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.Rubble#paint(java.awt.Graphics, int, int)}.
+	 */
+	@Test
+	public void testPaint_MatchesBlock() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS / 100; i++) {
+			// Channels that are multiples of 17 are kept exactly by the palette.
+			final Color testColor =
+					new Color(RANDOMIZER.nextInt(16) * 17, RANDOMIZER.nextInt(16) * 17, RANDOMIZER
+							.nextInt(16) * 17);
+			final Block testBlock =
+					new Block(testColor, RANDOMIZER.nextInt(Game.GAME_WIDTH), RANDOMIZER
+							.nextInt(Game.GAME_HEIGHT), RANDOMIZER.nextInt(80) + 2, RANDOMIZER
+							.nextInt(80) + 2, 0);
+			final Rubble testRubble = new Rubble();
+			testRubble.add(testBlock);
+			
+			final BufferedImage blockImage =
+					new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT,
+							BufferedImage.TYPE_INT_RGB);
+			final BufferedImage rubbleImage =
+					new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT,
+							BufferedImage.TYPE_INT_RGB);
+			final Graphics blockG = blockImage.getGraphics();
+			final Graphics rubbleG = rubbleImage.getGraphics();
+			testBlock.paint(blockG, Game.GAME_HEIGHT, 0);
+			testRubble.paint(rubbleG, Game.GAME_HEIGHT, 0);
+			blockG.dispose();
+			rubbleG.dispose();
+			
+			assertTrue("Rubble painted the block differently.", Arrays.equals(blockImage
+					.getRGB(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null, 0, Game.GAME_WIDTH),
+					rubbleImage.getRGB(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null, 0,
+							Game.GAME_WIDTH)));
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.Rubble#paint(java.awt.Graphics, int, int)}.
+	 */
+	@Test
+	public void testPaint_OnlyVisibleBlocks() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS / 1000; i++) {
+			final Rubble testRubble = new Rubble();
+			for(int row = 0; row < 50; row++) {
+				for(int column = 0; column < 10; column++) {
+					testRubble.add(new Block(Color.WHITE, column * 64, row * 60, 60, 50, 0));
+				}
+			}
+			final int testBottom = RANDOMIZER.nextInt(50 * 60) - Game.GAME_HEIGHT / 2;
+			final int testTop = testBottom + Game.GAME_HEIGHT;
+			
+			final BufferedImage blockImage =
+					new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT,
+							BufferedImage.TYPE_INT_RGB);
+			final BufferedImage rubbleImage =
+					new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT,
+							BufferedImage.TYPE_INT_RGB);
+			final Graphics blockG = blockImage.getGraphics();
+			final Graphics rubbleG = rubbleImage.getGraphics();
+			for(int j = 0; j < testRubble.size(); j++) {
+				testRubble.getBlock(j).paint(blockG, testTop, testBottom);
+			}
+			testRubble.paint(rubbleG, testTop, testBottom);
+			blockG.dispose();
+			rubbleG.dispose();
+			
+			assertTrue("Rubble painted different blocks.", Arrays.equals(blockImage.getRGB(0,
+					0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null, 0, Game.GAME_WIDTH), rubbleImage
+					.getRGB(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null, 0, Game.GAME_WIDTH)));
+		}
+	}
+	
+	/**
+	 * Test method for
+	 * {@link game.objects.Rubble#capture(game.objects.RubbleSnapshot, int, int)}.
+	 */
+	@Test
+	public void testCapture_PaintsLikeRubble() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS / 1000; i++) {
+			final Rubble testRubble = new Rubble();
+			for(int j = 0; j < 300; j++) {
+				testRubble.add(createFallingBlock());
+				testRubble.step();
+			}
+			final int testBottom = RANDOMIZER.nextInt(Game.GAME_HEIGHT * 2) - Game.GAME_HEIGHT;
+			final int testTop = testBottom + Game.GAME_HEIGHT;
+			
+			final RubbleSnapshot testSnapshot = new RubbleSnapshot();
+			testRubble.capture(testSnapshot, testTop, testBottom);
+			
+			final BufferedImage rubbleImage =
+					new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT,
+							BufferedImage.TYPE_INT_RGB);
+			final BufferedImage snapshotImage =
+					new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT,
+							BufferedImage.TYPE_INT_RGB);
+			final Graphics rubbleG = rubbleImage.getGraphics();
+			final Graphics snapshotG = snapshotImage.getGraphics();
+			testRubble.paint(rubbleG, testTop, testBottom);
+			
+			// The snapshot doesn't change with the rubble.
+			testRubble.step();
+			testRubble.removeBelow(testTop, 0);
+			testSnapshot.paint(snapshotG, testTop);
+			rubbleG.dispose();
+			snapshotG.dispose();
+			
+			assertTrue("Snapshot painted different blocks.", Arrays.equals(rubbleImage.getRGB(0,
+					0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null, 0, Game.GAME_WIDTH), snapshotImage
+					.getRGB(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null, 0, Game.GAME_WIDTH)));
+		}
+	}
+	
+	/**
+	 * Creates a block falling onto the screen.
+	 * 
+	 * @return The created block.
+	 */
+	private static Block createFallingBlock() {
+		return new Block(Color.BLACK, RANDOMIZER.nextInt(Game.GAME_WIDTH), RANDOMIZER
+				.nextInt(Game.GAME_HEIGHT) + Game.GAME_HEIGHT, RANDOMIZER.nextInt(40) + 40,
+				RANDOMIZER.nextInt(20) + 40, RANDOMIZER.nextInt(7) + 1);
+	}
+	
+}
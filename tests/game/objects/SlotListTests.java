@@ -0,0 +1,118 @@
+package game.objects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link game.objects.SlotList}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class SlotListTests {
+	
+	/** How many times each test will repeat with new values. */
+	private static final int TIMES_TO_RUN_TESTS = 2000;
+	
+	/** How many changes are made to each list. */
+	private static final int CHANGES_PER_LIST = 100;
+	
+	/** Controls all the randomization for the tests. */
+	private static final Random RANDOMIZER = new Random();
+	
+	/**
+	 * Test method for {@link game.objects.SlotList#insert(int, int)} and
+	 * {@link game.objects.SlotList#remove(int)}.
+	 */
+	@Test
+	public void testInsertAndRemove() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final SlotList testList = new SlotList();
+			final List<Integer> expected = new ArrayList<Integer>();
+			
+			for(int j = 0; j < CHANGES_PER_LIST; j++) {
+				if(expected.isEmpty() || RANDOMIZER.nextBoolean()) {
+					final int index = RANDOMIZER.nextInt(expected.size() + 1);
+					final int slot = RANDOMIZER.nextInt();
+					testList.insert(index, slot);
+					expected.add(index, slot);
+				} else {
+					final int index = RANDOMIZER.nextInt(expected.size());
+					testList.remove(index);
+					expected.remove(index);
+				}
+			}
+			
+			assertEquals(expected.size(), testList.size());
+			for(int j = 0; j < expected.size(); j++) {
+				assertEquals(expected.get(j).intValue(), testList.get(j));
+			}
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.SlotList#indexOf(int)}.
+	 */
+	@Test
+	public void testIndexOf() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final SlotList testList = new SlotList();
+			final int testSize = RANDOMIZER.nextInt(CHANGES_PER_LIST) + 1;
+			for(int slot = 0; slot < testSize; slot++) {
+				testList.add(slot);
+			}
+			
+			final int testSlot = RANDOMIZER.nextInt(testSize);
+			assertEquals(testSlot, testList.indexOf(testSlot));
+			assertEquals(-1, testList.indexOf(testSize));
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.SlotList#indexAfter(int)}.
+	 */
+	@Test
+	public void testIndexAfter() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final SlotList testList = new SlotList();
+			final int testSize = RANDOMIZER.nextInt(CHANGES_PER_LIST);
+			for(int slot = 0; slot < testSize; slot++) {
+				testList.add(slot * 2);
+			}
+			
+			final int testSlot = RANDOMIZER.nextInt(testSize * 2 + 2) - 1;
+			final int index = testList.indexAfter(testSlot);
+			assertTrue("Slot before the index is after the slot.",
+					index == 0 || testList.get(index - 1) <= testSlot);
+			assertTrue("Slot at the index isn't after the slot.",
+					index == testSize || testList.get(index) > testSlot);
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.objects.SlotList#copy(game.objects.SlotList)}.
+	 */
+	@Test
+	public void testCopy() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final SlotList testList = new SlotList();
+			final SlotList otherList = new SlotList();
+			final int testSize = RANDOMIZER.nextInt(CHANGES_PER_LIST);
+			for(int j = 0; j < testSize; j++) {
+				otherList.add(RANDOMIZER.nextInt());
+			}
+			
+			testList.copy(otherList);
+			
+			assertEquals(otherList.size(), testList.size());
+			for(int j = 0; j < testSize; j++) {
+				assertEquals(otherList.get(j), testList.get(j));
+			}
+		}
+	}
+	
+}
@@ -0,0 +1,14 @@
+package game.replay;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+/**
+ * Tests for {@link game.replay}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+@RunWith(Suite.class)
+@Suite.SuiteClasses({ ReplayPlayerTests.class })
+public final class AllReplayTests {}
@@ -0,0 +1,213 @@
+package game.replay;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import game.Game;
+import game.SilentAudio;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link game.replay.ReplayPlayer}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class ReplayPlayerTests {
+	
+	/** How many times each test will repeat with new values. */
+	private static final int TIMES_TO_RUN_TESTS = 5;
+	
+	/** How many ticks are recorded for each test. */
+	private static final int TICKS_RECORDED = 3000;
+	
+	/** How many ticks apart keyframes are saved for each test. */
+	private static final int KEYFRAME_INTERVAL = 250;
+	
+	/** How many ticks are checked in each recording. */
+	private static final int TICKS_CHECKED = 10;
+	
+	/** Controls all the randomization for the tests. */
+	private static final Random RANDOMIZER = new Random();
+	
+	/**
+	 * Test method for {@link game.replay.ReplayPlayer#seek(int)}.
+	 * 
+	 * @throws IOException
+	 *             If the replay can't be recorded or played.
+	 */
+	@Test
+	public void testSeek_SameAsRecordedGame() throws IOException {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final File testFile = createReplayFile();
+			final int[] testTicks = new int[TICKS_CHECKED];
+			for(int j = 0; j < testTicks.length; j++) {
+				testTicks[j] = RANDOMIZER.nextInt(TICKS_RECORDED + 1);
+			}
+			final byte[][] testStates = record(testFile, testTicks);
+			
+			final ReplayPlayer testPlayer = new ReplayPlayer(testFile);
+			assertEquals("Replay has the wrong length.", TICKS_RECORDED, testPlayer.getLength());
+			for(int j = 0; j < testTicks.length; j++) {
+				testPlayer.seek(testTicks[j]);
+				assertEquals("Replay didn't seek to the tick.", testTicks[j], testPlayer.getTick());
+				assertArrayEquals("Replay differs from the recorded game.", testStates[j],
+						save(testPlayer.getGame()));
+			}
+			testFile.delete();
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.replay.ReplayPlayer#step()}.
+	 * 
+	 * @throws IOException
+	 *             If the replay can't be recorded or played.
+	 */
+	@Test
+	public void testStep_PlaysToTheEnd() throws IOException {
+		final File testFile = createReplayFile();
+		final byte[] testEnd = record(testFile, new int[] { TICKS_RECORDED })[0];
+		
+		final ReplayPlayer testPlayer = new ReplayPlayer(testFile);
+		int testSteps = 0;
+		while(testPlayer.step()) {
+			testSteps++;
+		}
+		
+		assertEquals("Replay didn't play every tick.", TICKS_RECORDED, testSteps);
+		assertArrayEquals("Replay ended differently.", testEnd, save(testPlayer.getGame()));
+		assertFalse("Replay played past the end.", testPlayer.step());
+		testFile.delete();
+	}
+	
+	/**
+	 * Test method for {@link game.replay.ReplayPlayer#ReplayPlayer(java.io.File)}.
+	 * 
+	 * @throws IOException
+	 *             If the replay can't be recorded or played.
+	 */
+	@Test
+	public void testReplayPlayer_CutShort() throws IOException {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final File testFile = createReplayFile();
+			record(testFile, new int[0]);
+			
+			final RandomAccessFile testCut = new RandomAccessFile(testFile, "rw");
+			testCut.setLength(ReplayFormat.HEADER_LENGTH
+					+ RANDOMIZER.nextInt((int)testCut.length() - ReplayFormat.HEADER_LENGTH));
+			testCut.close();
+			
+			final ReplayPlayer testPlayer = new ReplayPlayer(testFile);
+			assertTrue("Replay cut short got longer.", testPlayer.getLength() <= TICKS_RECORDED);
+			testPlayer.seek(RANDOMIZER.nextInt(TICKS_RECORDED));
+			while(testPlayer.step()) {
+				continue;
+			}
+			assertEquals("Replay cut short didn't play to its end.", testPlayer.getLength(),
+					testPlayer.getTick());
+			testFile.delete();
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.replay.ReplayPlayer#ReplayPlayer(java.io.File)}.
+	 * 
+	 * @throws IOException
+	 *             If the file isn't a replay.
+	 */
+	@Test(expected = IOException.class)
+	public void testReplayPlayer_NotReplay() throws IOException {
+		final File testFile = createReplayFile();
+		final FileOutputStream testOut = new FileOutputStream(testFile);
+		final byte[] testBytes = new byte[RANDOMIZER.nextInt(100)];
+		RANDOMIZER.nextBytes(testBytes);
+		testOut.write(testBytes);
+		testOut.close();
+		
+		try {
+			new ReplayPlayer(testFile);
+		} finally {
+			testFile.delete();
+		}
+	}
+	
+	/**
+	 * Records a game played with random keys, saving the state of the game at some ticks.
+	 * 
+	 * @param file
+	 *            The replay file.
+	 * @param ticks
+	 *            The ticks to save the state of the game at.
+	 * @return The state of the game at each tick.
+	 * @throws IOException
+	 *             If the replay can't be recorded.
+	 */
+	private static byte[][] record(File file, int[] ticks) throws IOException {
+		final long seed = RANDOMIZER.nextLong();
+		final Game game = new Game(new SilentAudio(), seed);
+		final ReplayRecorder recorder = new ReplayRecorder(file, seed, KEYFRAME_INTERVAL);
+		final byte[][] states = new byte[ticks.length][];
+		
+		int keys = 0;
+		for(int tick = 0; tick <= TICKS_RECORDED; tick++) {
+			for(int i = 0; i < ticks.length; i++) {
+				if(ticks[i] == tick) {
+					states[i] = save(game);
+				}
+			}
+			if(tick == TICKS_RECORDED) {
+				break;
+			}
+			
+			// Keys are held for a while, like a person would, and the game is never paused.
+			if(RANDOMIZER.nextInt(10) == 0) {
+				keys = RANDOMIZER.nextInt(1 << 7);
+			}
+			recorder.record(game, keys);
+			game.step(keys);
+		}
+		
+		recorder.close();
+		return states;
+	}
+	
+	/**
+	 * Saves the state of a game.
+	 * 
+	 * @param game
+	 *            The game.
+	 * @return The state.
+	 * @throws IOException
+	 *             If the state can't be saved.
+	 */
+	private static byte[] save(Game game) throws IOException {
+		final ByteArrayOutputStream state = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(state);
+		game.save(out);
+		out.close();
+		return state.toByteArray();
+	}
+	
+	/**
+	 * Creates an empty file for a replay, which is deleted when the tests end.
+	 * 
+	 * @return The file.
+	 * @throws IOException
+	 *             If the file can't be created.
+	 */
+	private static File createReplayFile() throws IOException {
+		final File file = File.createTempFile("replay", ".rer");
+		file.deleteOnExit();
+		return file;
+	}
+	
+}
@@ -0,0 +1,14 @@
+package game.simulation;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+/**
+ * Tests for {@link game.simulation}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+@RunWith(Suite.class)
+@Suite.SuiteClasses({ BatchSimulatorTests.class })
+public final class AllSimulationTests {}
@@ -0,0 +1,164 @@
+package game.simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import game.Game;
+import game.GameParameters;
+import game.generators.SeededRandom;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link game.simulation.BatchSimulator}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class BatchSimulatorTests {
+	
+	/** How many times each test will repeat with new values. */
+	private static final int TIMES_TO_RUN_TESTS = 5;
+	
+	/** The most games simulated by each batch. */
+	private static final int MAX_RUNS = 40;
+	
+	/** The most steps each game is simulated for. */
+	private static final int MAX_TICKS = 3000;
+	
+	/** How many steps random input holds its keys for, on average. */
+	private static final int HOLD_TICKS = 20;
+	
+	/** The largest block chance and jump power simulated with. */
+	private static final int MAX_BLOCK_CHANCE = 40, MAX_JUMP_POWER = 24;
+	
+	/** Controls all the randomization for the tests. */
+	private static final Random RANDOMIZER = new Random();
+	
+	/**
+	 * Test method for {@link game.simulation.BatchSimulator#simulate(long)}.
+	 */
+	@Test
+	public void testSimulate_SameSeedSameResult() {
+		final BatchSimulator testSimulator =
+				new BatchSimulator(new RandomInput(HOLD_TICKS), MAX_TICKS);
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final long testSeed = RANDOMIZER.nextLong();
+			final RunResult testFirst = testSimulator.simulate(testSeed);
+			final RunResult testSecond = testSimulator.simulate(testSeed);
+			
+			assertEquals("Seed wasn't kept.", testSeed, testFirst.getSeed());
+			assertEquals("Same seed survived differently.", testFirst.getTicks(), testSecond
+					.getTicks());
+			assertEquals("Same seed climbed differently.", testFirst.getHighestAltitude(),
+					testSecond.getHighestAltitude());
+			assertEquals("Same seed had different blocks.", testFirst.getMostBlocks(), testSecond
+					.getMostBlocks());
+			assertTrue("Game ran too long.", testFirst.getTicks() <= MAX_TICKS);
+			assertEquals("Game ended early while alive.", testFirst.isAlive(), testFirst
+					.getTicks() == MAX_TICKS);
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.simulation.BatchSimulator#simulate(long)}.
+	 */
+	@Test
+	public void testSimulate_ScriptGivenEveryTick() {
+		final int[] testTicks = { 0 };
+		final BatchSimulator testSimulator = new BatchSimulator(new InputScript() {
+			/*
+			 * {@inheritDoc}
+			 * 
+			 * @see game.simulation.InputScript#getKeys(game.Game, int, int,
+			 * game.generators.SeededRandom)
+			 */
+			@Override
+			public int getKeys(Game game, int tick, int lastKeys, SeededRandom random) {
+				assertEquals("Script skipped a tick.", testTicks[0], tick);
+				testTicks[0]++;
+				return 0;
+			}
+		}, MAX_TICKS);
+		
+		final RunResult testResult = testSimulator.simulate(RANDOMIZER.nextLong());
+		assertEquals("Script wasn't asked for every tick.", testResult.getTicks(), testTicks[0]);
+	}
+	
+	/**
+	 * Test method for {@link game.simulation.BatchSimulator#simulate(long)}.
+	 */
+	@Test
+	public void testSimulate_ParametersKept() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final int testChance = RANDOMIZER.nextInt(MAX_BLOCK_CHANCE) + 1;
+			final double testRise = RANDOMIZER.nextDouble() + Double.MIN_VALUE;
+			final int testPower = RANDOMIZER.nextInt(MAX_JUMP_POWER) + 1;
+			final GameParameters testParameters =
+					new GameParameters(testChance, testRise, testPower);
+			final BatchSimulator testSimulator =
+					new BatchSimulator(new RandomInput(HOLD_TICKS), MAX_TICKS, testParameters);
+			final long testSeed = RANDOMIZER.nextLong();
+			
+			assertEquals("Parameters weren't kept.", testParameters, testSimulator.simulate(
+					testSeed).getParameters());
+			assertEquals("Report has the wrong parameters.", testParameters, testSimulator.run(
+					testSeed, RANDOMIZER.nextInt(MAX_RUNS + 1), 1).getParameters());
+		}
+	}
+	
+	/**
+	 * Test method for {@link game.simulation.BatchReport#add(RunResult)}.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testAdd_OtherParametersRejected() {
+		final GameParameters testParameters =
+				new GameParameters(GameParameters.DEFAULT.getBlockChance() + 1,
+						GameParameters.DEFAULT.getWaterRise(), GameParameters.DEFAULT
+								.getJumpPower());
+		final BatchSimulator testSimulator =
+				new BatchSimulator(new RandomInput(HOLD_TICKS), MAX_TICKS, testParameters);
+		new BatchReport(GameParameters.DEFAULT).add(testSimulator.simulate(RANDOMIZER
+				.nextLong()));
+	}
+	
+	/**
+	 * Test method for {@link game.simulation.BatchSimulator#run(long, int, int)}.
+	 */
+	@Test
+	public void testRun_SameAsOneAtATime() {
+		final BatchSimulator testSimulator =
+				new BatchSimulator(new RandomInput(HOLD_TICKS), MAX_TICKS);
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final long testSeed = RANDOMIZER.nextLong();
+			final int testRuns = RANDOMIZER.nextInt(MAX_RUNS + 1);
+			
+			final BatchReport testExpected = new BatchReport(GameParameters.DEFAULT);
+			for(int j = 0; j < testRuns; j++) {
+				testExpected.add(testSimulator.simulate(testSeed + j));
+			}
+			final BatchReport testReport =
+					testSimulator.run(testSeed, testRuns, RANDOMIZER.nextInt(4) + 1);
+			
+			assertEquals("Wrong number of games.", testRuns, testReport.getRuns());
+			assertEquals("Survivors differ.", testExpected.getSurvivors(), testReport
+					.getSurvivors());
+			assertEquals("Total ticks differ.", testExpected.getTotalTicks(), testReport
+					.getTotalTicks());
+			assertEquals("Fewest ticks differ.", testExpected.getFewestTicks(), testReport
+					.getFewestTicks());
+			assertEquals("Most ticks differ.", testExpected.getMostTicks(), testReport
+					.getMostTicks());
+			assertEquals("Average altitude differs.", testExpected.getAverageAltitude(),
+					testReport.getAverageAltitude(), 0);
+			assertEquals("Lowest altitude differs.", testExpected.getLowestAltitude(), testReport
+					.getLowestAltitude());
+			assertEquals("Highest altitude differs.", testExpected.getHighestAltitude(),
+					testReport.getHighestAltitude());
+			assertEquals("Average blocks differ.", testExpected.getAverageBlocks(), testReport
+					.getAverageBlocks(), 0);
+			assertEquals("Most blocks differ.", testExpected.getMostBlocks(), testReport
+					.getMostBlocks());
+		}
+	}
+	
+}
@@ -11,5 +11,6 @@ import org.junit.runners.Suite;
  * @version 1.0, 01/29/11
  */
 @RunWith(Suite.class)
-@Suite.SuiteClasses({ AllTitleTests.class })
+@Suite.SuiteClasses({ AllTitleTests.class, CachedLayerTests.class, FrameTimerTests.class,
+		OutlinedTextTests.class, ScaledOutputTests.class, TripleBufferTests.class })
 public final class AllGuiTests {}
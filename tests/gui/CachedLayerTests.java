@@ -0,0 +1,166 @@
+package gui;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import game.Game;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link gui.CachedLayer}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class CachedLayerTests {
+	
+	/**
+	 * A layer of rectangles placed by its state, which counts how often it is drawn.
+	 * 
+	 * @author Jesse Brent
+	 * @version 1.0, 10/17/26
+	 */
+	private static final class TestLayer extends CachedLayer {
+		
+		/** How many times the layer has been drawn. */
+		private int draws;
+		
+		/*
+		 * {@inheritDoc}
+		 * 
+		 * @see gui.CachedLayer#draw(java.awt.Graphics, int)
+		 */
+		@Override
+		protected void draw(Graphics g, int state) {
+			draws++;
+			drawRectangles(g, state);
+		}
+		
+	}
+	
+	/** How many times each test will repeat with new values. */
+	private static final int TIMES_TO_RUN_TESTS = 50;
+	
+	/** Controls all the randomization for the tests. */
+	private static final Random RANDOMIZER = new Random();
+	
+	/**
+	 * Test method for {@link gui.CachedLayer#paint(Graphics, int)}.
+	 */
+	@Test
+	public void testPaint_SameAsDrawn() {
+		final TestLayer testLayer = new TestLayer();
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final int testState = RANDOMIZER.nextInt();
+			
+			final BufferedImage testExpected = createImage();
+			final Graphics testExpectedG = testExpected.getGraphics();
+			drawRectangles(testExpectedG, testState);
+			testExpectedG.dispose();
+			
+			final BufferedImage testActual = createImage();
+			final Graphics testActualG = testActual.getGraphics();
+			testLayer.paint(testActualG, testState);
+			testActualG.dispose();
+			
+			assertArrayEquals("Layer drawn differently.", getPixels(testExpected),
+					getPixels(testActual));
+		}
+	}
+	
+	/**
+	 * Test method for {@link gui.CachedLayer#paint(Graphics, int)}.
+	 */
+	@Test
+	public void testPaint_DrawnWhenStateChanges() {
+		final TestLayer testLayer = new TestLayer();
+		final Graphics testG = createImage().getGraphics();
+		
+		testLayer.paint(testG, CachedLayer.UNCHANGING);
+		testLayer.paint(testG, CachedLayer.UNCHANGING);
+		assertEquals("Layer drawn again for the same state.", 1, testLayer.draws);
+		
+		testLayer.paint(testG, 1);
+		testLayer.paint(testG, 1);
+		assertEquals("Layer not drawn for a new state.", 2, testLayer.draws);
+		
+		testLayer.paint(testG, CachedLayer.UNCHANGING);
+		assertEquals("Layer not drawn for an old state.", 3, testLayer.draws);
+		testG.dispose();
+	}
+	
+	/**
+	 * Test method for {@link gui.CachedLayer#paint(Graphics, int)}.
+	 */
+	@Test
+	public void testPaint_EmptyLayer() {
+		final CachedLayer testLayer = new CachedLayer() {
+			
+			/*
+			 * {@inheritDoc}
+			 * 
+			 * @see gui.CachedLayer#draw(java.awt.Graphics, int)
+			 */
+			@Override
+			protected void draw(Graphics g, int state) {}
+		};
+		
+		final BufferedImage testActual = createImage();
+		final Graphics testG = testActual.getGraphics();
+		testLayer.paint(testG, CachedLayer.UNCHANGING);
+		testG.dispose();
+		
+		assertArrayEquals("Empty layer drew something.", getPixels(createImage()),
+				getPixels(testActual));
+	}
+	
+	/**
+	 * Draws a few rectangles placed and colored by a state, some of them past the screen.
+	 * 
+	 * @param g
+	 *            The graphics object for the image.
+	 * @param state
+	 *            The state.
+	 */
+	private static void drawRectangles(Graphics g, int state) {
+		final Random placer = new Random(state);
+		for(int i = 0; i < 4; i++) {
+			g.setColor(new Color(placer.nextInt()));
+			g.fillRect(placer.nextInt(Game.GAME_WIDTH + 100) - 50,
+					placer.nextInt(Game.GAME_HEIGHT + 100) - 50, placer.nextInt(200),
+					placer.nextInt(200));
+			g.drawRect(placer.nextInt(Game.GAME_WIDTH), placer.nextInt(Game.GAME_HEIGHT),
+					placer.nextInt(100), placer.nextInt(100));
+		}
+	}
+	
+	/**
+	 * Makes a screen to draw layers on, with a background the layers don't use.
+	 * 
+	 * @return The image.
+	 */
+	private static BufferedImage createImage() {
+		final BufferedImage image =
+				new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		final Graphics g = image.getGraphics();
+		g.setColor(Color.DARK_GRAY);
+		g.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
+		g.dispose();
+		return image;
+	}
+	
+	/**
+	 * Returns the colors of a screen.
+	 * 
+	 * @param image
+	 *            The screen.
+	 * @return The colors, row by row.
+	 */
+	private static int[] getPixels(BufferedImage image) {
+		return image.getRGB(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null, 0, Game.GAME_WIDTH);
+	}
+	
+}
@@ -0,0 +1,111 @@
+package gui;
+
+import static org.junit.Assert.assertEquals;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link gui.FrameTimer}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class FrameTimerTests {
+	
+	/** How many times each test will repeat with new values. */
+	private static final int TIMES_TO_RUN_TESTS = 10000;
+	
+	/** The number of nanoseconds in a second. */
+	private static final long NANOS_PER_SECOND = 1000000000L;
+	
+	/** Controls all the randomization for the tests. */
+	private static final Random RANDOMIZER = new Random();
+	
+	/**
+	 * Test method for {@link gui.FrameTimer#takeTicks(long)}.
+	 */
+	@Test
+	public void testTakeTicks_KeepsUpWithTime() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final int testRate = RANDOMIZER.nextInt(200) + 1;
+			final FrameTimer testTimer = new FrameTimer(testRate);
+			testTimer.reset(0);
+			
+			// Frames that never fall far enough behind to be capped.
+			long now = 0;
+			int ticks = 0;
+			for(int j = 0; j < 100; j++) {
+				now += RANDOMIZER.nextInt((int)(NANOS_PER_SECOND / testRate) * 2);
+				ticks += testTimer.takeTicks(now);
+			}
+			
+			assertEquals("Timer lost or gained ticks.", now / (NANOS_PER_SECOND / testRate),
+					ticks);
+		}
+	}
+	
+	/**
+	 * Test method for {@link gui.FrameTimer#takeTicks(long)}.
+	 */
+	@Test
+	public void testTakeTicks_CatchUpIsCapped() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final int testRate = RANDOMIZER.nextInt(200) + 1;
+			final FrameTimer testTimer = new FrameTimer(testRate);
+			testTimer.reset(0);
+			
+			final long testStall =
+					NANOS_PER_SECOND / testRate
+							* (FrameTimer.MAX_CATCH_UP_TICKS + RANDOMIZER.nextInt(100));
+			assertEquals("Timer made up for too many ticks.", FrameTimer.MAX_CATCH_UP_TICKS,
+					testTimer.takeTicks(testStall));
+			assertEquals("Timer kept the time it couldn't make up for.", 0, testTimer
+					.takeTicks(testStall));
+		}
+	}
+	
+	/**
+	 * Test method for {@link gui.FrameTimer#getTimeToNextTick(long)}.
+	 */
+	@Test
+	public void testGetTimeToNextTick() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final int testRate = RANDOMIZER.nextInt(200) + 1;
+			final long testTick = NANOS_PER_SECOND / testRate;
+			final FrameTimer testTimer = new FrameTimer(testRate);
+			testTimer.reset(0);
+			
+			final long testNow = (long)(RANDOMIZER.nextDouble() * testTick * 3);
+			testTimer.takeTicks(testNow);
+			assertEquals("Wrong time until the next tick.", testTick - testNow % testTick,
+					testTimer.getTimeToNextTick(testNow));
+		}
+	}
+	
+	/**
+	 * Test method for {@link gui.FrameTimer#getLastTickTime()}.
+	 */
+	@Test
+	public void testGetLastTickTime() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final int testRate = RANDOMIZER.nextInt(200) + 1;
+			final long testTick = NANOS_PER_SECOND / testRate;
+			final FrameTimer testTimer = new FrameTimer(testRate);
+			testTimer.reset(0);
+			
+			final long testNow = (long)(RANDOMIZER.nextDouble() * testTick * 3);
+			final int testTicks = testTimer.takeTicks(testNow);
+			assertEquals("Wrong time for the last tick.", testTicks * testTick, testTimer
+					.getLastTickTime());
+		}
+	}
+	
+	/**
+	 * Test method for {@link gui.FrameTimer#setTickRate(int)}.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetTickRate_NotPositive() {
+		new FrameTimer(1).setTickRate(-RANDOMIZER.nextInt(100));
+	}
+	
+}
@@ -0,0 +1,223 @@
+package gui;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link gui.OutlinedText}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class OutlinedTextTests {
+	
+	/** How many times each test will repeat with new values. */
+	private static final int TIMES_TO_RUN_TESTS = 200;
+	
+	/** The size of the images drawn on. */
+	private static final int IMAGE_WIDTH = 400, IMAGE_HEIGHT = 100;
+	
+	/** The fonts, outline widths and colors of the styles. */
+	private static final Font[] FONTS =
+			{ new Font("Serif", Font.BOLD, 30), new Font("Serif", Font.BOLD, 64),
+					new Font("Serif", Font.PLAIN, 16), new Font("Serif", Font.ITALIC, 24) };
+	
+	/** The outline widths of the styles. */
+	private static final int[] OUTLINE_WIDTHS = { 1, 2, 1, 0 };
+	
+	/** The outline colors of the styles. */
+	private static final Color[] OUTLINES = { Color.BLACK, Color.BLACK, Color.RED, Color.BLACK };
+	
+	/** The text colors of the styles. */
+	private static final Color[] FILLS = { Color.LIGHT_GRAY, Color.WHITE, Color.BLUE, Color.WHITE };
+	
+	/** The styles of text the tests draw. */
+	private static final OutlinedText[] TEXTS = new OutlinedText[FONTS.length];
+	
+	static {
+		for(int i = 0; i < TEXTS.length; i++) {
+			TEXTS[i] = new OutlinedText(FONTS[i], OUTLINE_WIDTHS[i], OUTLINES[i], FILLS[i]);
+		}
+	}
+	
+	/** Controls all the randomization for the tests. */
+	private static final Random RANDOMIZER = new Random();
+	
+	/**
+	 * Test method for {@link gui.OutlinedText#paint(Graphics, String, int, int)}.
+	 */
+	@Test
+	public void testPaint_SameAsDrawn() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final int testStyle = RANDOMIZER.nextInt(TEXTS.length);
+			final char[] testChars = new char[RANDOMIZER.nextInt(12)];
+			for(int j = 0; j < testChars.length; j++) {
+				testChars[j] = (char)(RANDOMIZER.nextInt('~' - ' ' + 1) + ' ');
+			}
+			final String testText = new String(testChars);
+			final int testX = RANDOMIZER.nextInt(IMAGE_WIDTH / 2) - 20;
+			final int testY = RANDOMIZER.nextInt(IMAGE_HEIGHT);
+			
+			final BufferedImage testActual = createImage();
+			final Graphics testG = testActual.getGraphics();
+			TEXTS[testStyle].paint(testG, testText, testX, testY);
+			testG.dispose();
+			
+			assertArrayEquals("Text drawn differently: " + testText, getPixels(drawLikeBefore(
+					testStyle, testText, testX, testY)), getPixels(testActual));
+		}
+	}
+	
+	/**
+	 * Test method for {@link gui.OutlinedText#paint(Graphics, String, int, int)}.
+	 */
+	@Test
+	public void testPaint_OtherCharactersDrawn() {
+		final String testText = "\u00E9t\u00E9 \u00A9";
+		final BufferedImage testActual = createImage();
+		final Graphics testG = testActual.getGraphics();
+		TEXTS[0].paint(testG, testText, 10, 50);
+		testG.dispose();
+		
+		assertArrayEquals("Other characters drawn differently.", getPixels(drawLikeBefore(0,
+				testText, 10, 50)), getPixels(testActual));
+	}
+	
+	/**
+	 * Test method for {@link gui.OutlinedText#paint(Graphics, String, int, int)}.
+	 */
+	@Test
+	public void testPaint_SmoothTextDrawn() {
+		final BufferedImage testExpected = createImage();
+		final Graphics2D testExpectedG = testExpected.createGraphics();
+		testExpectedG.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+				RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+		testExpectedG.setFont(FONTS[0]);
+		testExpectedG.setColor(OUTLINES[0]);
+		testExpectedG.drawString("Paused", 9, 49);
+		testExpectedG.drawString("Paused", 9, 51);
+		testExpectedG.drawString("Paused", 11, 49);
+		testExpectedG.drawString("Paused", 11, 51);
+		testExpectedG.setColor(FILLS[0]);
+		testExpectedG.drawString("Paused", 10, 50);
+		testExpectedG.dispose();
+		
+		final BufferedImage testActual = createImage();
+		final Graphics2D testActualG = testActual.createGraphics();
+		testActualG.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+				RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+		TEXTS[0].paint(testActualG, "Paused", 10, 50);
+		testActualG.dispose();
+		
+		assertArrayEquals("Smooth text drawn differently.", getPixels(testExpected),
+				getPixels(testActual));
+	}
+	
+	/**
+	 * Test method for {@link gui.OutlinedText#paint(Graphics, int, int, int)}.
+	 */
+	@Test
+	public void testPaint_NumberSameAsString() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final int testStyle = RANDOMIZER.nextInt(TEXTS.length);
+			final int testNumber = getRandomNumber();
+			
+			final BufferedImage testActual = createImage();
+			final Graphics testG = testActual.getGraphics();
+			TEXTS[testStyle].paint(testG, testNumber, 10, 70);
+			testG.dispose();
+			
+			assertArrayEquals("Number drawn differently: " + testNumber, getPixels(drawLikeBefore(
+					testStyle, Integer.toString(testNumber), 10, 70)), getPixels(testActual));
+		}
+	}
+	
+	/**
+	 * Test method for {@link gui.OutlinedText#getLength(int)}.
+	 */
+	@Test
+	public void testGetLength() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS * 100; i++) {
+			final int testNumber = getRandomNumber();
+			assertEquals("Wrong length.", Integer.toString(testNumber).length(), OutlinedText
+					.getLength(testNumber));
+		}
+		assertEquals("Wrong length.", 11, OutlinedText.getLength(Integer.MIN_VALUE));
+		assertEquals("Wrong length.", 10, OutlinedText.getLength(Integer.MAX_VALUE));
+		assertEquals("Wrong length.", 1, OutlinedText.getLength(0));
+	}
+	
+	/**
+	 * Draws text the way outlined text was drawn before the glyphs were drawn ahead of time.
+	 * 
+	 * @param style
+	 *            The style of the text.
+	 * @param text
+	 *            The text.
+	 * @param x
+	 *            The X coordinate to draw the text.
+	 * @param y
+	 *            The Y coordinate of the baseline of the text.
+	 * @return The image with the text.
+	 */
+	private static BufferedImage drawLikeBefore(int style, String text, int x, int y) {
+		final BufferedImage image = createImage();
+		final Graphics g = image.getGraphics();
+		g.setFont(FONTS[style]);
+		g.setColor(OUTLINES[style]);
+		for(int offset = OUTLINE_WIDTHS[style]; offset > 0; offset--) {
+			g.drawString(text, x - offset, y - offset);
+			g.drawString(text, x - offset, y + offset);
+			g.drawString(text, x + offset, y - offset);
+			g.drawString(text, x + offset, y + offset);
+		}
+		g.setColor(FILLS[style]);
+		g.drawString(text, x, y);
+		g.dispose();
+		return image;
+	}
+	
+	/**
+	 * Makes an image to draw text on, with a background the text doesn't use.
+	 * 
+	 * @return The image.
+	 */
+	private static BufferedImage createImage() {
+		final BufferedImage image =
+				new BufferedImage(IMAGE_WIDTH, IMAGE_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		final Graphics g = image.getGraphics();
+		g.setColor(Color.DARK_GRAY);
+		g.fillRect(0, 0, IMAGE_WIDTH, IMAGE_HEIGHT);
+		g.dispose();
+		return image;
+	}
+	
+	/**
+	 * Returns the colors of an image.
+	 * 
+	 * @param image
+	 *            The image.
+	 * @return The colors, row by row.
+	 */
+	private static int[] getPixels(BufferedImage image) {
+		return image.getRGB(0, 0, IMAGE_WIDTH, IMAGE_HEIGHT, null, 0, IMAGE_WIDTH);
+	}
+	
+	/**
+	 * Returns a random number, as often short as long.
+	 * 
+	 * @return The number.
+	 */
+	private static int getRandomNumber() {
+		return RANDOMIZER.nextInt() >> RANDOMIZER.nextInt(32);
+	}
+	
+}
@@ -0,0 +1,253 @@
+package gui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import game.Game;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link gui.ScaledOutput}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class ScaledOutputTests {
+	
+	/**
+	 * An output drawing a frame with a different color at every pixel, which remembers if the
+	 * last frame was kept.
+	 * 
+	 * @author Jesse Brent
+	 * @version 1.0, 10/17/26
+	 */
+	private static final class TestOutput extends ScaledOutput {
+		
+		/** If the image being drawn on held the last frame. */
+		private boolean wasKept;
+		
+		/**
+		 * Constructs an output.
+		 * 
+		 * @param isIntegerScaling
+		 *            If the frame is only scaled by whole numbers.
+		 */
+		private TestOutput(boolean isIntegerScaling) {
+			super(isIntegerScaling);
+		}
+		
+		/*
+		 * {@inheritDoc}
+		 * 
+		 * @see gui.ScaledOutput#paintFrame(java.awt.Graphics, boolean)
+		 */
+		@Override
+		protected void paintFrame(Graphics g, boolean isKept) {
+			wasKept = isKept;
+			for(int y = 0; y < Game.GAME_HEIGHT; y++) {
+				for(int x = 0; x < Game.GAME_WIDTH; x++) {
+					g.setColor(new Color(getFrameRgb(x, y)));
+					g.fillRect(x, y, 1, 1);
+				}
+			}
+		}
+		
+	}
+	
+	/** How many times each test will repeat with new values. */
+	private static final int TIMES_TO_RUN_TESTS = 10000;
+	
+	/** The largest screen size tested. */
+	private static final int MAX_SCREEN_SIZE = 4000;
+	
+	/** Controls all the randomization for the tests. */
+	private static final Random RANDOMIZER = new Random();
+	
+	/**
+	 * Test method for {@link gui.ScaledOutput#fit(int, int, boolean, java.awt.Rectangle)}.
+	 */
+	@Test
+	public void testFit_FilteredFillsScreen() {
+		final Rectangle testDestination = new Rectangle();
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final int testWidth = RANDOMIZER.nextInt(MAX_SCREEN_SIZE) + 1;
+			final int testHeight = RANDOMIZER.nextInt(MAX_SCREEN_SIZE) + 1;
+			ScaledOutput.fit(testWidth, testHeight, false, testDestination);
+			
+			assertTrue("Frame went off the screen.", new Rectangle(testWidth, testHeight)
+					.contains(testDestination));
+			assertTrue("Frame didn't fill the screen either way.",
+					testDestination.width >= testWidth - 1
+							|| testDestination.height >= testHeight - 1);
+			assertEquals("Frame changed shape.", (double)Game.GAME_WIDTH / Game.GAME_HEIGHT,
+					(double)testDestination.width / Math.max(testDestination.height, 1),
+					4.0 / Math.max(testDestination.height, 1));
+			assertCentered(testWidth, testHeight, testDestination);
+		}
+	}
+	
+	/**
+	 * Test method for {@link gui.ScaledOutput#fit(int, int, boolean, java.awt.Rectangle)}.
+	 */
+	@Test
+	public void testFit_IntegerLargestWholeScale() {
+		final Rectangle testDestination = new Rectangle();
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final int testWidth = RANDOMIZER.nextInt(MAX_SCREEN_SIZE) + 1;
+			final int testHeight = RANDOMIZER.nextInt(MAX_SCREEN_SIZE) + 1;
+			ScaledOutput.fit(testWidth, testHeight, true, testDestination);
+			
+			final int testScale = testDestination.width / Game.GAME_WIDTH;
+			assertTrue("Frame was made smaller.", testScale >= 1);
+			assertEquals("Frame wasn't scaled by a whole number.", testScale * Game.GAME_WIDTH,
+					testDestination.width);
+			assertEquals("Frame changed shape.", testScale * Game.GAME_HEIGHT,
+					testDestination.height);
+			if(testScale > 1) {
+				assertTrue("Frame went off the screen.", new Rectangle(testWidth, testHeight)
+						.contains(testDestination));
+			}
+			assertFalse("Frame could have been scaled more.",
+					(testScale + 1) * Game.GAME_WIDTH <= testWidth
+							&& (testScale + 1) * Game.GAME_HEIGHT <= testHeight);
+			assertCentered(testWidth, testHeight, testDestination);
+		}
+	}
+	
+	/**
+	 * Test method for {@link gui.ScaledOutput#paint(java.awt.Graphics, int, int, boolean)}.
+	 */
+	@Test
+	public void testPaint_ScaledWithBlackBars() {
+		final TestOutput testOutput = new TestOutput(true);
+		final int testWidth = Game.GAME_WIDTH * 2 + 30, testHeight = Game.GAME_HEIGHT * 2 + 10;
+		final BufferedImage testImage =
+				new BufferedImage(testWidth, testHeight, BufferedImage.TYPE_INT_RGB);
+		final Graphics testGraphics = testImage.getGraphics();
+		testGraphics.setColor(Color.WHITE);
+		testGraphics.fillRect(0, 0, testWidth, testHeight);
+		
+		testOutput.paint(testGraphics, testWidth, testHeight, false);
+		assertFalse("First frame was kept.", testOutput.wasKept);
+		testOutput.paint(testGraphics, testWidth, testHeight, false);
+		assertTrue("Frame wasn't kept.", testOutput.wasKept);
+		testGraphics.dispose();
+		
+		for(int y = 0; y < testHeight; y++) {
+			for(int x = 0; x < testWidth; x++) {
+				final int frameX = (x - 15) / 2, frameY = (y - 5) / 2;
+				final boolean isFrame =
+						x >= 15 && y >= 5 && frameX < Game.GAME_WIDTH
+								&& frameY < Game.GAME_HEIGHT;
+				assertEquals("Wrong pixel at " + x + ", " + y + ".", isFrame ? getFrameRgb(
+						frameX, frameY) : 0, testImage.getRGB(x, y) & 0xFFFFFF);
+			}
+		}
+	}
+	
+	/**
+	 * Test method for {@link gui.ScaledOutput#paint(java.awt.Graphics, int, int, boolean)}.
+	 */
+	@Test
+	public void testPaint_UnscaledDrawnStraightOn() {
+		final TestOutput testOutput = new TestOutput(true);
+		final int testWidth = Game.GAME_WIDTH + 20, testHeight = Game.GAME_HEIGHT + 40;
+		final BufferedImage testImage =
+				new BufferedImage(testWidth, testHeight, BufferedImage.TYPE_INT_RGB);
+		final Graphics testGraphics = testImage.getGraphics();
+		
+		testOutput.paint(testGraphics, testWidth, testHeight, true);
+		assertFalse("First frame was kept.", testOutput.wasKept);
+		testOutput.paint(testGraphics, testWidth, testHeight, true);
+		assertTrue("Frame wasn't kept.", testOutput.wasKept);
+		testOutput.paint(testGraphics, testWidth, testHeight, false);
+		assertFalse("Frame was kept when the component wasn't.", testOutput.wasKept);
+		
+		// Moving the frame leaves the last one behind somewhere else.
+		testOutput.paint(testGraphics, testWidth, testHeight, true);
+		testOutput.paint(testGraphics, testWidth + 2, testHeight, true);
+		assertFalse("Frame was kept after moving.", testOutput.wasKept);
+		
+		// Going through the output's own image and back leaves an older frame on the component.
+		testOutput.paint(testGraphics, Game.GAME_WIDTH * 2, Game.GAME_HEIGHT * 2, true);
+		testOutput.paint(testGraphics, Game.GAME_WIDTH * 2, Game.GAME_HEIGHT * 2, true);
+		testOutput.paint(testGraphics, testWidth, testHeight, true);
+		assertFalse("Frame was kept after being scaled.", testOutput.wasKept);
+		testOutput.paint(testGraphics, Game.GAME_WIDTH * 2, Game.GAME_HEIGHT * 2, true);
+		assertFalse("Scaled frame was kept after one that wasn't.", testOutput.wasKept);
+		
+		testOutput.paint(testGraphics, testWidth, testHeight, false);
+		testGraphics.dispose();
+		for(int y = 0; y < testHeight; y++) {
+			for(int x = 0; x < testWidth; x++) {
+				final int frameX = x - 10, frameY = y - 20;
+				final boolean isFrame =
+						frameX >= 0 && frameY >= 0 && frameX < Game.GAME_WIDTH
+								&& frameY < Game.GAME_HEIGHT;
+				assertEquals("Wrong pixel at " + x + ", " + y + ".", isFrame ? getFrameRgb(
+						frameX, frameY) : 0, testImage.getRGB(x, y) & 0xFFFFFF);
+			}
+		}
+	}
+	
+	/**
+	 * Test method for {@link gui.ScaledOutput#paint(java.awt.Graphics, int, int, boolean)}.
+	 */
+	@Test
+	public void testPaint_ScaledInScreenPixels() {
+		final TestOutput testOutput = new TestOutput(false);
+		final BufferedImage testImage =
+				new BufferedImage(Game.GAME_WIDTH * 2, Game.GAME_HEIGHT * 2,
+						BufferedImage.TYPE_INT_RGB);
+		
+		// Like a display scaled by two, the component is half as big as its pixels.
+		final Graphics2D testGraphics = testImage.createGraphics();
+		testGraphics.scale(2, 2);
+		testOutput.paint(testGraphics, Game.GAME_WIDTH, Game.GAME_HEIGHT, false);
+		testGraphics.dispose();
+		
+		for(int y = 0; y < testImage.getHeight(); y++) {
+			for(int x = 0; x < testImage.getWidth(); x++) {
+				assertEquals("Wrong pixel at " + x + ", " + y + ".", getFrameRgb(x / 2, y / 2),
+						testImage.getRGB(x, y) & 0xFFFFFF);
+			}
+		}
+	}
+	
+	/**
+	 * Returns the color of a pixel of the test frame.
+	 * 
+	 * @param x
+	 *            The x coordinate of the pixel.
+	 * @param y
+	 *            The y coordinate of the pixel.
+	 * @return The RGB of the pixel.
+	 */
+	private static int getFrameRgb(int x, int y) {
+		return (x * 3) << 12 | (y * 7 & 0xFFF) | 0x800000;
+	}
+	
+	/**
+	 * Checks the frame is in the middle of the screen, to within a pixel.
+	 * 
+	 * @param width
+	 *            The width of the screen.
+	 * @param height
+	 *            The height of the screen.
+	 * @param destination
+	 *            Where the frame is copied.
+	 */
+	private static void assertCentered(int width, int height, Rectangle destination) {
+		final int left = destination.x, right = width - (destination.x + destination.width);
+		final int top = destination.y, bottom = height - (destination.y + destination.height);
+		assertTrue("Frame isn't in the middle across.", Math.abs(left - right) <= 1);
+		assertTrue("Frame isn't in the middle down.", Math.abs(top - bottom) <= 1);
+	}
+	
+}
@@ -0,0 +1,86 @@
+package gui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link gui.TripleBuffer}.
+ * 
+ * @author Jesse Brent
+ * @version 1.0, 10/17/26
+ */
+public final class TripleBufferTests {
+	
+	/** How many times each test will repeat with new values. */
+	private static final int TIMES_TO_RUN_TESTS = 10000;
+	
+	/** How many values are published by the threaded test. */
+	private static final int VALUES_TO_PUBLISH = 200000;
+	
+	/** Controls all the randomization for the tests. */
+	private static final Random RANDOMIZER = new Random();
+	
+	/**
+	 * Test method for {@link gui.TripleBuffer#getLatest()}.
+	 */
+	@Test
+	public void testGetLatest_LastPublished() {
+		for(int i = 0; i < TIMES_TO_RUN_TESTS; i++) {
+			final TripleBuffer<int[]> testBuffer =
+					new TripleBuffer<int[]>(new int[] { -1 }, new int[1], new int[1]);
+			assertEquals("Reader didn't start with the front value.", -1,
+					testBuffer.getLatest()[0]);
+			
+			final int testCount = RANDOMIZER.nextInt(10) + 1;
+			for(int j = 0; j < testCount; j++) {
+				testBuffer.getBack()[0] = j;
+				testBuffer.publish();
+			}
+			
+			assertEquals("Reader didn't get the last value.", testCount - 1,
+					testBuffer.getLatest()[0]);
+			assertEquals("Reader's value changed without a publish.", testCount - 1, testBuffer
+					.getLatest()[0]);
+		}
+	}
+	
+	/**
+	 * Test method for {@link gui.TripleBuffer#publish()}.
+	 */
+	@Test
+	public void testPublish_ValuesNeverShared() {
+		final TripleBuffer<int[]> testBuffer =
+				new TripleBuffer<int[]>(new int[2], new int[2], new int[2]);
+		
+		final Thread writer = new Thread(new Runnable() {
+			/*
+			 * {@inheritDoc}
+			 * 
+			 * @see java.lang.Runnable#run()
+			 */
+			@Override
+			public void run() {
+				for(int i = 1; i <= VALUES_TO_PUBLISH; i++) {
+					final int[] value = testBuffer.getBack();
+					value[0] = i;
+					value[1] = -i;
+					testBuffer.publish();
+				}
+			}
+		});
+		writer.start();
+		
+		// Values must never be seen half written or go back in time.
+		int last = 0;
+		while(last < VALUES_TO_PUBLISH) {
+			final int[] value = testBuffer.getLatest();
+			final int first = value[0];
+			assertEquals("Reader saw a value being written.", -first, value[1]);
+			assertTrue("Reader went back to an older value.", first >= last);
+			last = first;
+		}
+	}
+	
+}